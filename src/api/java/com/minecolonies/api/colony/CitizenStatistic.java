@@ -0,0 +1,32 @@
+package com.minecolonies.api.colony;
+
+/**
+ * Colony wide citizen counts, kept up to date by the citizen manager and synced to the colony view.
+ */
+public enum CitizenStatistic
+{
+    /**
+     * Adult citizens without a job.
+     */
+    UNEMPLOYED,
+
+    /**
+     * Citizens without a home.
+     */
+    HOMELESS,
+
+    /**
+     * Spawned citizens with a disease.
+     */
+    SICK,
+
+    /**
+     * Citizens which are almost starving.
+     */
+    HUNGRY,
+
+    /**
+     * Citizens with a guard job.
+     */
+    GUARDS
+}
@@ -0,0 +1,178 @@
+package com.minecolonies.api.colony;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the colony owning each claimed chunk of a dimension, kept next to the chunk capabilities so ownership checks don't have to load the chunk. Updated whenever
+ * claims are applied to a chunk, when a chunk loads and when claims are queued for unloaded chunks. Saved with the world capability. Safe to query from any thread.
+ */
+public class ColonyClaimIndex
+{
+    /**
+     * NBT tag of the claimed chunk positions.
+     */
+    private static final String TAG_CHUNKS = "chunks";
+
+    /**
+     * NBT tag of the owning colony ids.
+     */
+    private static final String TAG_COLONIES = "colonies";
+
+    /**
+     * The index of each loaded server dimension.
+     */
+    private static final Map<RegistryKey<World>, ColonyClaimIndex> indexByDimension = new ConcurrentHashMap<>();
+
+    /**
+     * Owning colony id by chunk position, unclaimed chunks are absent.
+     */
+    private final Long2IntOpenHashMap owners = new Long2IntOpenHashMap();
+
+    /**
+     * Get the colony owning a chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the colony id or 0 if not claimed.
+     */
+    public synchronized int getOwner(final int chunkX, final int chunkZ)
+    {
+        return owners.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Set the colony owning a chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @param id     the colony id, 0 if not claimed anymore.
+     */
+    public synchronized void setOwner(final int chunkX, final int chunkZ, final int id)
+    {
+        if (id == 0)
+        {
+            owners.remove(ChunkPos.asLong(chunkX, chunkZ));
+        }
+        else
+        {
+            owners.put(ChunkPos.asLong(chunkX, chunkZ), id);
+        }
+    }
+
+    /**
+     * Drop all chunks of a colony, when it gets deleted.
+     *
+     * @param id the colony id.
+     */
+    public synchronized void removeColony(final int id)
+    {
+        owners.long2IntEntrySet().removeIf(entry -> entry.getIntValue() == id);
+    }
+
+    /**
+     * Write the index to NBT.
+     *
+     * @return the compound.
+     */
+    public synchronized CompoundNBT write()
+    {
+        final long[] chunks = new long[owners.size()];
+        final int[] colonies = new int[owners.size()];
+        int i = 0;
+        for (final Long2IntMap.Entry entry : owners.long2IntEntrySet())
+        {
+            chunks[i] = entry.getLongKey();
+            colonies[i] = entry.getIntValue();
+            i++;
+        }
+
+        final CompoundNBT compound = new CompoundNBT();
+        compound.putLongArray(TAG_CHUNKS, chunks);
+        compound.putIntArray(TAG_COLONIES, colonies);
+        return compound;
+    }
+
+    /**
+     * Read the index from NBT.
+     *
+     * @param compound the compound.
+     */
+    public synchronized void read(@NotNull final CompoundNBT compound)
+    {
+        owners.clear();
+        final long[] chunks = compound.getLongArray(TAG_CHUNKS);
+        final int[] colonies = compound.getIntArray(TAG_COLONIES);
+        for (int i = 0; i < Math.min(chunks.length, colonies.length); i++)
+        {
+            if (colonies[i] != 0)
+            {
+                owners.put(chunks[i], colonies[i]);
+            }
+        }
+    }
+
+    /**
+     * Make the index of a dimension available to the static lookups, when its world loads.
+     *
+     * @param dimension the dimension.
+     * @param index     the index.
+     */
+    public static void register(@NotNull final RegistryKey<World> dimension, @NotNull final ColonyClaimIndex index)
+    {
+        indexByDimension.put(dimension, index);
+    }
+
+    /**
+     * Remove the index of a dimension, when its world unloads.
+     *
+     * @param dimension the dimension.
+     */
+    public static void unregister(@NotNull final RegistryKey<World> dimension)
+    {
+        indexByDimension.remove(dimension);
+    }
+
+    /**
+     * Get the index of a dimension.
+     *
+     * @param dimension the dimension.
+     * @return the index or null if the world is not loaded.
+     */
+    @Nullable
+    public static ColonyClaimIndex get(@NotNull final RegistryKey<World> dimension)
+    {
+        return indexByDimension.get(dimension);
+    }
+
+    /**
+     * Get the colony owning a position, without loading its chunk.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @return the colony id or 0 if not claimed.
+     */
+    public static int getOwner(@NotNull final RegistryKey<World> dimension, @NotNull final BlockPos pos)
+    {
+        final ColonyClaimIndex index = indexByDimension.get(dimension);
+        return index == null ? 0 : index.getOwner(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Forget all dimensions, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        indexByDimension.clear();
+    }
+}
@@ -49,6 +49,14 @@ public interface IChunkmanagerCapability
      */
     Map<ChunkPos, ChunkLoadStorage> getAllChunkStorages();
 
+    /**
+     * Get the index of the colony owning each claimed chunk of the world.
+     *
+     * @return the index.
+     */
+    @NotNull
+    ColonyClaimIndex getClaimIndex();
+
     /**
      * The implementation of the colonyTagCapability.
      */
@@ -59,6 +67,11 @@ public interface IChunkmanagerCapability
          */
         private final Map<ChunkPos, ChunkLoadStorage> chunkStorages = new HashMap<>();
 
+        /**
+         * The owning colony of each claimed chunk.
+         */
+        private final ColonyClaimIndex claimIndex = new ColonyClaimIndex();
+
         @Nullable
         @Override
         public ChunkLoadStorage getChunkStorage(final int chunkX, final int chunkZ)
@@ -87,6 +100,13 @@ public interface IChunkmanagerCapability
         {
             return chunkStorages;
         }
+
+        @NotNull
+        @Override
+        public ColonyClaimIndex getClaimIndex()
+        {
+            return claimIndex;
+        }
     }
 
     /**
@@ -100,6 +120,7 @@ public interface IChunkmanagerCapability
             final CompoundNBT compound = new CompoundNBT();
             compound.put(TAG_ALL_CHUNK_STORAGES,
               instance.getAllChunkStorages().entrySet().stream().map(entry -> write(entry.getKey(), entry.getValue())).collect(NBTUtils.toListNBT()));
+            compound.put(TAG_CLAIM_INDEX, instance.getClaimIndex().write());
             return compound;
         }
 
@@ -113,6 +134,11 @@ public interface IChunkmanagerCapability
                 NBTUtils.streamCompound(((CompoundNBT) nbt).getList(TAG_ALL_CHUNK_STORAGES, Constants.NBT.TAG_COMPOUND))
                   .map(Storage::read).forEach(key -> instance.addChunkStorage(key.getA().x, key.getA().z, key.getB()));
             }
+
+            if (nbt instanceof CompoundNBT && ((CompoundNBT) nbt).contains(TAG_CLAIM_INDEX))
+            {
+                instance.getClaimIndex().read(((CompoundNBT) nbt).getCompound(TAG_CLAIM_INDEX));
+            }
         }
 
         /**
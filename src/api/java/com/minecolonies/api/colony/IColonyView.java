@@ -161,6 +161,14 @@ public interface IColonyView extends IColony
      */
     int getCitizenCountLimit();
 
+    /**
+     * Get a colony citizen statistic, as synced from the server.
+     *
+     * @param statistic the statistic.
+     * @return the amount of citizens counted by it.
+     */
+    int getCitizenStatistic(@NotNull CitizenStatistic statistic);
+
     /**
      * Getter for the citizens map.
      *
@@ -1,5 +1,6 @@
 package com.minecolonies.api.colony.buildings;
 
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -58,6 +59,13 @@ public interface IBuildingContainer extends ISchematicProvider, ICapabilityProvi
      */
     List<BlockPos> getContainers();
 
+    /**
+     * Get the index of the items in the racks of the building.
+     *
+     * @return the index, set up on first access.
+     */
+    BuildingItemIndex getItemIndex();
+
     /**
      * Register a blockState and position. We suppress this warning since this parameter will be used in child classes which override this method.
      *
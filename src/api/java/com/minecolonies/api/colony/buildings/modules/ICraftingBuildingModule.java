@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IGenericRecipe;
 import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.util.OptionalPredicate;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
@@ -286,4 +287,12 @@ public interface ICraftingBuildingModule extends IBuildingModule
      * @return true if so.
      */
     boolean holdsRecipe(IToken<?> token);
+
+    /**
+     * Quick check if this module may be able to craft an item, before going through all of its recipes.
+     * Modules which craft things outside of their recipe list shall override this.
+     * @param item the item to check.
+     * @return false if it definitely can't.
+     */
+    boolean canCraftItem(@NotNull Item item);
 }
@@ -1,5 +1,6 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
+import com.minecolonies.api.colony.CitizenStatistic;
 import com.minecolonies.api.colony.ICitizenData;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.math.BlockPos;
@@ -171,4 +172,19 @@ public interface ICitizenManager extends IEntityManager
      * Called in the morning.
      */
     void onWakeUp();
+
+    /**
+     * Recount a citizen in the colony statistics, after its job, home, saturation, disease, age or entity changed.
+     *
+     * @param citizen the citizen.
+     */
+    void updateStatistics(@NotNull final ICitizenData citizen);
+
+    /**
+     * Get a colony statistic.
+     *
+     * @param statistic the statistic.
+     * @return the amount of citizens counted by it.
+     */
+    int getStatistic(@NotNull final CitizenStatistic statistic);
 }
@@ -66,6 +66,13 @@ public interface IColonyPackageManager
      */
     void setDirty();
 
+    /**
+     * Mark the package manager dirty, together with sections of the colony view whose data changed. Only dirty sections are serialized again for the next view update.
+     *
+     * @param sections the section flags of the colony view.
+     */
+    void setDirty(final int sections);
+
     /**
      * Add a new subscriber to the colony.
      *
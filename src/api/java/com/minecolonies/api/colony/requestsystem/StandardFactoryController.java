@@ -13,13 +13,16 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.Suppression;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.Tuple;
+import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of a FactoryController Singleton.
@@ -28,8 +31,12 @@ public final class StandardFactoryController implements IFactoryController
 {
 
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
-    public static final String NBT_TYPE = "Type";
-    public static final String NBT_DATA = "Data";
+    public static final String NBT_TYPE            = "Type";
+    public static final String NBT_DATA            = "Data";
+    public static final String NBT_ID              = "Id";
+    public static final String NBT_TYPE_DICTIONARY = "TypeDictionary";
+    public static final String NBT_VERSION         = "Version";
+    public static final String NBT_TYPES           = "Types";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
     /**
@@ -76,6 +83,21 @@ public final class StandardFactoryController implements IFactoryController
      */
     private Map<Short, IFactory<?, ?>> serializationMappings = new HashMap<>();
 
+    /**
+     * The current version of the type dictionary format.
+     */
+    private static final int TYPE_DICTIONARY_VERSION = 1;
+
+    /**
+     * The class names by serialization id of the type dictionary currently written on this thread, null if none.
+     */
+    private final ThreadLocal<Map<Short, String>> writeDictionary = new ThreadLocal<>();
+
+    /**
+     * The resolved factories by serialization id of the type dictionary currently read on this thread, null if none.
+     */
+    private final ThreadLocal<Map<Short, IFactory<?, ?>>> readDictionary = new ThreadLocal<>();
+
     /**
      * Private constructor. Throws IllegalStateException if already created.
      * <p>
@@ -270,27 +292,48 @@ public final class StandardFactoryController implements IFactoryController
         final CompoundNBT compound = new CompoundNBT();
 
         final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
-        compound.putString(NBT_TYPE, object.getClass().getName());
+        final Map<Short, String> dictionary = writeDictionary.get();
+        if (dictionary == null)
+        {
+            compound.putString(NBT_TYPE, object.getClass().getName());
+        }
+        else
+        {
+            dictionary.putIfAbsent(factory.getSerializationId(), object.getClass().getName());
+            compound.putShort(NBT_ID, factory.getSerializationId());
+        }
         compound.put(NBT_DATA, factory.serialize(this, object));
 
         return compound;
     }
 
     @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> OUTPUT deserialize(@NotNull final CompoundNBT compound) throws IllegalArgumentException
     {
-        String className = compound.getString(NBT_TYPE);
-        className = processClassRenaming(className);
-
         final IFactory<?, OUTPUT> factory;
-
-        try
+        if (compound.contains(NBT_ID))
         {
-            factory = getFactoryForOutput(className);
+            final short id = compound.getShort(NBT_ID);
+            final Map<Short, IFactory<?, ?>> dictionary = readDictionary.get();
+            factory = (IFactory<?, OUTPUT>) (dictionary != null && dictionary.containsKey(id) ? dictionary.get(id) : getFactoryForOutput(id));
+            if (factory == null)
+            {
+                throw new IllegalArgumentException("The given compound holds an unknown output type id for this Controller: " + id);
+            }
         }
-        catch (final IllegalArgumentException e)
+        else
         {
-            throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            final String className = processClassRenaming(compound.getString(NBT_TYPE));
+
+            try
+            {
+                factory = getFactoryForOutput(className);
+            }
+            catch (final IllegalArgumentException e)
+            {
+                throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            }
         }
 
         try
@@ -304,6 +347,88 @@ public final class StandardFactoryController implements IFactoryController
         }
     }
 
+    @Override
+    public CompoundNBT writeWithTypeDictionary(@NotNull final Supplier<CompoundNBT> writer)
+    {
+        if (writeDictionary.get() != null)
+        {
+            // Already inside of a dictionary, the types end up in the outer one.
+            return writer.get();
+        }
+
+        final Map<Short, String> dictionary = new HashMap<>();
+        final CompoundNBT compound;
+        writeDictionary.set(dictionary);
+        try
+        {
+            compound = writer.get();
+        }
+        finally
+        {
+            writeDictionary.remove();
+        }
+
+        final ListNBT types = new ListNBT();
+        for (final Map.Entry<Short, String> entry : dictionary.entrySet())
+        {
+            final CompoundNBT typeCompound = new CompoundNBT();
+            typeCompound.putShort(NBT_ID, entry.getKey());
+            typeCompound.putString(NBT_TYPE, entry.getValue());
+            types.add(typeCompound);
+        }
+
+        final CompoundNBT dictionaryCompound = new CompoundNBT();
+        dictionaryCompound.putInt(NBT_VERSION, TYPE_DICTIONARY_VERSION);
+        dictionaryCompound.put(NBT_TYPES, types);
+        compound.put(NBT_TYPE_DICTIONARY, dictionaryCompound);
+        return compound;
+    }
+
+    @Override
+    public void readWithTypeDictionary(@NotNull final CompoundNBT compound, @NotNull final Runnable reader)
+    {
+        if (!compound.contains(NBT_TYPE_DICTIONARY))
+        {
+            // Data from before the dictionary, or nested in an outer one.
+            reader.run();
+            return;
+        }
+
+        final CompoundNBT dictionaryCompound = compound.getCompound(NBT_TYPE_DICTIONARY);
+        if (dictionaryCompound.getInt(NBT_VERSION) > TYPE_DICTIONARY_VERSION)
+        {
+            Log.getLogger().warn("Reading request system data of a newer type dictionary version: " + dictionaryCompound.getInt(NBT_VERSION));
+        }
+
+        final Map<Short, IFactory<?, ?>> dictionary = new HashMap<>();
+        final ListNBT types = dictionaryCompound.getList(NBT_TYPES, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < types.size(); i++)
+        {
+            final CompoundNBT typeCompound = types.getCompound(i);
+            final String className = processClassRenaming(typeCompound.getString(NBT_TYPE));
+            try
+            {
+                dictionary.put(typeCompound.getShort(NBT_ID), getFactoryForOutput(className));
+            }
+            catch (final IllegalArgumentException e)
+            {
+                // Unknown class, the serialization id is tried instead.
+                Log.getLogger().warn("Unknown request system type in type dictionary: " + className);
+            }
+        }
+
+        final Map<Short, IFactory<?, ?>> previous = readDictionary.get();
+        readDictionary.set(dictionary);
+        try
+        {
+            reader.run();
+        }
+        finally
+        {
+            readDictionary.set(previous);
+        }
+    }
+
     private String processClassRenaming(@NotNull final String previousClassName)
     {
         if (!this.classRenamingHandlers.containsKey(previousClassName))
@@ -6,6 +6,8 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * Interface used to describe classes that function as Factory controllers.
  */
@@ -161,6 +163,23 @@ public interface IFactoryController
      */
     <Output> Output deserialize(@NotNull final CompoundNBT compound) throws IllegalArgumentException;
 
+    /**
+     * Method used to write a compound in which all objects serialized by this controller store their type as short serialization id. The class names of the ids are written
+     * once, into a type dictionary of the returned compound.
+     *
+     * @param writer The writer creating the compound.
+     * @return The written compound including the type dictionary.
+     */
+    CompoundNBT writeWithTypeDictionary(@NotNull final Supplier<CompoundNBT> writer);
+
+    /**
+     * Method used to read a compound written by {@link #writeWithTypeDictionary(Supplier)}. Compounds without dictionary, written before it existed, are read as is.
+     *
+     * @param compound The compound to read.
+     * @param reader   The reader deserializing the compound.
+     */
+    void readWithTypeDictionary(@NotNull final CompoundNBT compound, @NotNull final Runnable reader);
+
     /**
      * Method used to quickly write an object into the given {@link ByteBuf}.
      *
@@ -179,4 +179,12 @@ public interface IResolverHandler
      */
     @VisibleForTesting
     void processResolverForRemoval(final Collection<IToken<?>> assignedResolvers, final IToken<?> resolverToken);
+
+    /**
+     * Get the resolvers which can handle the type of a request, sorted by priority and then by how close their request type is to the one of the request.
+     *
+     * @param request The request to get the resolvers for.
+     * @return The tokens of the resolvers, must not be modified.
+     */
+    IToken<?>[] getSortedResolverTokens(IRequest<?> request);
 }
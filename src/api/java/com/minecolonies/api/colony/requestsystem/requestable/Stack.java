@@ -310,6 +310,15 @@ public class Stack implements IConcreteDeliverable
         return matchDamage;
     }
 
+    /**
+     * Check if any item sharing a tag with the stack matches.
+     * @return true if so.
+     */
+    public boolean matchOreDic()
+    {
+        return matchOreDic;
+    }
+
     @Override
     public IDeliverable copyWithCount(final int newCount)
     {
@@ -74,7 +74,7 @@ public class GenericRecipe implements IGenericRecipe
     public static IGenericRecipe of(@Nullable final IToken<?> recipeToken)
     {
         if (recipeToken == null) return null;
-        return of(IColonyManager.getInstance().getRecipeManager().getRecipes().get(recipeToken));
+        return of(IColonyManager.getInstance().getRecipeManager().getRecipe(recipeToken));
     }
 
     private final ItemStack output;
@@ -2,9 +2,12 @@ package com.minecolonies.api.crafting;
 
 import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.Item;
 import net.minecraft.nbt.CompoundNBT;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Set;
+
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
  */
@@ -49,6 +52,14 @@ public interface IRecipeManager
      */
     IToken<?> getRecipeId(final IRecipeStorage storage);
 
+    /**
+     * Get the recipes which have an item as primary or alternate output.
+     *
+     * @param item the output item.
+     * @return the unmodifiable set of recipe tokens.
+     */
+    Set<IToken<?>> getRecipesForOutput(@NotNull final Item item);
+
     /**
      * Register the recipe as used with the recipe manager
      * 
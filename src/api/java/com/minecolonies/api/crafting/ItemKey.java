@@ -0,0 +1,164 @@
+package com.minecolonies.api.crafting;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.minecolonies.api.util.ItemStackUtils;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.CompoundNBT;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Canonical identity of a stack: item, damage and normalized nbt, comparing like {@link ItemStackUtils#compareItemStacksIgnoreStackSize(ItemStack, ItemStack, boolean,
+ * boolean)}. Keys are interned, so two stacks with the same identity get the same instance and can be compared by reference. The hash is computed once and covers the nbt,
+ * so differently tagged variants of an item (potions, enchanted books, modded tools) spread over the hash table instead of colliding.
+ * <p>
+ * The ignore damage and ignore nbt variants leave out the damage and the nbt respectively.
+ */
+public final class ItemKey
+{
+    /**
+     * Damage value of keys which ignore the damage.
+     */
+    private static final int IGNORED_DAMAGE = -1;
+
+    /**
+     * The nbt key of the damage, left out of the nbt of keys which ignore the damage.
+     */
+    private static final String TAG_DAMAGE = "Damage";
+
+    /**
+     * The interned keys, weakly held so keys of stacks no longer around can be collected.
+     */
+    private static final Interner<ItemKey> interner = Interners.newWeakInterner();
+
+    /**
+     * The key of all empty stacks.
+     */
+    public static final ItemKey EMPTY = interner.intern(new ItemKey(Items.AIR, IGNORED_DAMAGE, null));
+
+    /**
+     * The item.
+     */
+    private final Item item;
+
+    /**
+     * The damage value, {@link #IGNORED_DAMAGE} if ignored.
+     */
+    private final int damage;
+
+    /**
+     * The normalized nbt, null if the stack has none or it is ignored.
+     */
+    @Nullable
+    private final CompoundNBT tag;
+
+    /**
+     * The precomputed hash.
+     */
+    private final int hash;
+
+    /**
+     * Create a new key.
+     *
+     * @param item   the item.
+     * @param damage the damage value.
+     * @param tag    the normalized nbt, owned by the key.
+     */
+    private ItemKey(@NotNull final Item item, final int damage, @Nullable final CompoundNBT tag)
+    {
+        this.item = item;
+        this.damage = damage;
+        this.tag = tag;
+        this.hash = HashCommon.mix(31 * (31 * item.hashCode() + damage) + (tag == null ? 0 : tag.hashCode()));
+    }
+
+    /**
+     * Get the exact key of a stack, matching damage and nbt.
+     *
+     * @param stack the stack.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStack stack)
+    {
+        return of(stack, false, false);
+    }
+
+    /**
+     * Get the key of a stack.
+     *
+     * @param stack        the stack.
+     * @param ignoreDamage if the damage is ignored.
+     * @param ignoreNBT    if the nbt is ignored.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return EMPTY;
+        }
+
+        CompoundNBT tag = null;
+        if (!ignoreNBT && stack.hasTag() && !stack.getTag().isEmpty())
+        {
+            tag = stack.getTag().copy();
+            if (ignoreDamage)
+            {
+                tag.remove(TAG_DAMAGE);
+            }
+            if (tag.isEmpty())
+            {
+                tag = null;
+            }
+        }
+
+        return interner.intern(new ItemKey(stack.getItem(), ignoreDamage ? IGNORED_DAMAGE : stack.getDamageValue(), tag));
+    }
+
+    /**
+     * Get the item of the key.
+     *
+     * @return the item.
+     */
+    @NotNull
+    public Item getItem()
+    {
+        return item;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        return hash == that.hash && item == that.item && damage == that.damage && Objects.equals(tag, that.tag);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return item.getRegistryName() + (damage == IGNORED_DAMAGE ? "" : ":" + damage) + (tag == null ? "" : tag.toString());
+    }
+}
@@ -46,6 +46,11 @@ public class ItemStorage
      */
     private int amount;
 
+    /**
+     * The interned key of the stack under the comparison definition of this storage, computed on first comparison.
+     */
+    private ItemKey key;
+
     /**
      * Creates an instance of the storage.
      *
@@ -254,10 +259,26 @@ public class ItemStorage
         return stack.toString();
     }
 
+    /**
+     * Get the interned key of the stored stack, leaving out damage and nbt as defined by this storage. The stack must not be changed afterwards.
+     *
+     * @return the key.
+     */
+    @NotNull
+    public ItemKey getKey()
+    {
+        if (key == null)
+        {
+            key = ItemKey.of(stack, shouldIgnoreDamageValue, shouldIgnoreNBTValue);
+        }
+        return key;
+    }
+
     @Override
     public int hashCode()
     {
         //Only use the stack itself for the has, equals will handle the broader attributes
+        //Storages ignoring nbt or damage equal all variants of their item, so the hash can't cover more than the item
         return Objects.hash(stack.getItem());
     }
 
@@ -274,6 +295,10 @@ public class ItemStorage
         }
 
         final ItemStorage that = (ItemStorage) o;
+        if (matchDefinitionEquals(that))
+        {
+            return getKey() == that.getKey();
+        }
         return ItemStackUtils.compareItemStacksIgnoreStackSize(that.getItemStack(), this.getItemStack(), !(this.shouldIgnoreDamageValue || that.shouldIgnoreDamageValue), !(this.shouldIgnoreNBTValue || that.shouldIgnoreNBTValue));
     }
 
@@ -171,6 +171,19 @@ public class PathResult<T extends Callable<Path>>
         }
     }
 
+    /**
+     * Complete the result with an already known path, without running the job.
+     *
+     * @param path the path, which reaches the destination.
+     */
+    public void setCachedPath(final Path path)
+    {
+        this.path = path;
+        this.pathReachesDestination = true;
+        this.pathingDoneAndProcessed = true;
+        setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -0,0 +1,464 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.WorldUtil;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the items in the racks of a building: total count and rack positions per item. Racks push their content whenever it changes, so lookups don't have to visit
+ * every rack and slot. Only loaded racks are indexed, other containers (like chests) still have to be scanned, see {@link #getUnindexedContainers()}.
+ */
+public class BuildingItemIndex
+{
+    /**
+     * The index responsible for each registered container position, by dimension.
+     */
+    private static final Map<RegistryKey<World>, Map<BlockPos, BuildingItemIndex>> indexByContainer = new HashMap<>();
+
+    /**
+     * The dimension of the building, null while not initialized.
+     */
+    private RegistryKey<World> dimension = null;
+
+    /**
+     * All container positions of the building.
+     */
+    private final Set<BlockPos> containers = new HashSet<>();
+
+    /**
+     * Container positions which are not loaded racks.
+     */
+    private final Set<BlockPos> unindexed = new HashSet<>();
+
+    /**
+     * The last pushed content of each loaded rack.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> rackContents = new HashMap<>();
+
+    /**
+     * The entries by item, one per distinct stack by its exact key.
+     */
+    private final Map<Item, Map<ItemKey, Entry>> entries = new HashMap<>();
+
+    /**
+     * Check if the index was set up.
+     *
+     * @return true if so.
+     */
+    public boolean isInitialized()
+    {
+        return dimension != null;
+    }
+
+    /**
+     * Register the containers of the building and read all loaded racks.
+     *
+     * @param world      the world of the building.
+     * @param containers the container positions.
+     */
+    public void initialize(@NotNull final World world, @NotNull final Collection<BlockPos> containers)
+    {
+        clear();
+        dimension = world.dimension();
+        for (final BlockPos pos : containers)
+        {
+            addContainer(world, pos);
+        }
+    }
+
+    /**
+     * Add a container of the building.
+     *
+     * @param world the world, null if it is not loaded.
+     * @param pos   the container position.
+     */
+    public void addContainer(@Nullable final World world, @NotNull final BlockPos pos)
+    {
+        if (!isInitialized() || !containers.add(pos))
+        {
+            return;
+        }
+
+        indexByContainer.computeIfAbsent(dimension, key -> new HashMap<>()).put(pos, this);
+        unindexed.add(pos);
+        if (world != null && WorldUtil.isBlockLoaded(world, pos))
+        {
+            final TileEntity entity = world.getBlockEntity(pos);
+            if (entity instanceof TileEntityRack)
+            {
+                updateRack(pos, ((TileEntityRack) entity).getAllContent());
+            }
+        }
+    }
+
+    /**
+     * Remove a container of the building.
+     *
+     * @param pos the container position.
+     */
+    public void removeContainer(@NotNull final BlockPos pos)
+    {
+        if (!containers.remove(pos))
+        {
+            return;
+        }
+
+        removeRack(pos);
+        unindexed.remove(pos);
+        final Map<BlockPos, BuildingItemIndex> dimensionIndex = indexByContainer.get(dimension);
+        if (dimensionIndex != null)
+        {
+            dimensionIndex.remove(pos, this);
+        }
+    }
+
+    /**
+     * Replace the indexed content of a rack.
+     *
+     * @param pos     the rack position.
+     * @param content the new content.
+     */
+    private void updateRack(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        removeRack(pos);
+        unindexed.remove(pos);
+
+        final Map<ItemStorage, Integer> copy = new HashMap<>(content);
+        rackContents.put(pos, copy);
+        for (final Map.Entry<ItemStorage, Integer> stored : copy.entrySet())
+        {
+            getOrCreateEntry(stored.getKey()).add(pos, stored.getValue());
+        }
+    }
+
+    /**
+     * Drop the indexed content of a rack, when it changed or unloaded.
+     *
+     * @param pos the rack position.
+     */
+    private void removeRack(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> old = rackContents.remove(pos);
+        if (old == null)
+        {
+            return;
+        }
+
+        unindexed.add(pos);
+        for (final ItemStorage storage : old.keySet())
+        {
+            final Map<ItemKey, Entry> itemEntries = entries.get(storage.getItem());
+            if (itemEntries == null)
+            {
+                continue;
+            }
+
+            final Entry entry = itemEntries.get(storage.getKey());
+            if (entry != null)
+            {
+                entry.remove(pos);
+                if (entry.total <= 0)
+                {
+                    itemEntries.remove(storage.getKey());
+                }
+            }
+
+            if (itemEntries.isEmpty())
+            {
+                entries.remove(storage.getItem());
+            }
+        }
+    }
+
+    /**
+     * Get the entry of an exact stack, creating it if needed, the rack content never ignores damage or nbt.
+     *
+     * @param storage the stack.
+     * @return the entry.
+     */
+    private Entry getOrCreateEntry(@NotNull final ItemStorage storage)
+    {
+        return entries.computeIfAbsent(storage.getItem(), key -> new HashMap<>(2)).computeIfAbsent(storage.getKey(), key -> new Entry(storage));
+    }
+
+    /**
+     * Get the amount of matching items in the loaded racks, comparing like {@link TileEntityRack#getCount(ItemStorage)}.
+     *
+     * @param storage the stack to look for, its ignore flags are respected.
+     * @return the total count.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemKey, Entry> itemEntries = entries.get(storage.getItem());
+        if (itemEntries == null)
+        {
+            return 0;
+        }
+
+        if (!storage.ignoreDamageValue() && !storage.ignoreNBT())
+        {
+            final Entry entry = itemEntries.get(storage.getKey());
+            return entry == null ? 0 : entry.total;
+        }
+
+        int count = 0;
+        for (final Entry entry : itemEntries.values())
+        {
+            if (entry.storage.equals(storage))
+            {
+                count += entry.total;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the amount of items in the loaded racks matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the total count.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map<ItemKey, Entry> itemEntries : entries.values())
+        {
+            for (final Entry entry : itemEntries.values())
+            {
+                if (predicate.test(entry.storage.getItemStack()))
+                {
+                    count += entry.total;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the loaded racks which contain items matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the rack positions.
+     */
+    @NotNull
+    public Set<BlockPos> getPositions(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> positions = new LinkedHashSet<>();
+        for (final Map<ItemKey, Entry> itemEntries : entries.values())
+        {
+            for (final Entry entry : itemEntries.values())
+            {
+                if (predicate.test(entry.storage.getItemStack()))
+                {
+                    positions.addAll(entry.amounts.keySet());
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Get the loaded racks which contain a stack.
+     *
+     * @param storage the stack to look for, its ignore flags are respected.
+     * @return the rack positions and the amount in each.
+     */
+    @NotNull
+    public Map<BlockPos, Integer> getPositions(@NotNull final ItemStorage storage)
+    {
+        final Map<ItemKey, Entry> itemEntries = entries.get(storage.getItem());
+        if (itemEntries == null)
+        {
+            return Collections.emptyMap();
+        }
+
+        final Map<BlockPos, Integer> positions = new HashMap<>();
+        for (final Entry entry : itemEntries.values())
+        {
+            if (entry.storage.equals(storage))
+            {
+                for (final Map.Entry<BlockPos, Integer> amount : entry.amounts.entrySet())
+                {
+                    positions.merge(amount.getKey(), amount.getValue(), Integer::sum);
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Get the containers whose content is not indexed (unloaded racks and other containers) and has to be looked at directly.
+     *
+     * @return the positions.
+     */
+    @NotNull
+    public List<BlockPos> getUnindexedContainers()
+    {
+        return new ArrayList<>(unindexed);
+    }
+
+    /**
+     * Drop the whole index and unregister all containers.
+     */
+    public void clear()
+    {
+        if (dimension != null)
+        {
+            final Map<BlockPos, BuildingItemIndex> dimensionIndex = indexByContainer.get(dimension);
+            if (dimensionIndex != null)
+            {
+                for (final BlockPos pos : containers)
+                {
+                    dimensionIndex.remove(pos, this);
+                }
+            }
+        }
+
+        containers.clear();
+        unindexed.clear();
+        rackContents.clear();
+        entries.clear();
+        dimension = null;
+    }
+
+    /**
+     * Called by a rack after its content changed or it was loaded.
+     *
+     * @param world   the world.
+     * @param pos     the rack position.
+     * @param content the new content.
+     */
+    public static void onRackChanged(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        final Map<BlockPos, BuildingItemIndex> dimensionIndex = indexByContainer.get(world.dimension());
+        if (dimensionIndex != null)
+        {
+            final BuildingItemIndex index = dimensionIndex.get(pos);
+            if (index != null)
+            {
+                index.updateRack(pos, content);
+            }
+        }
+    }
+
+    /**
+     * Called by a rack when it unloads or is removed.
+     *
+     * @param world the world.
+     * @param pos   the rack position.
+     */
+    public static void onRackRemoved(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Map<BlockPos, BuildingItemIndex> dimensionIndex = indexByContainer.get(world.dimension());
+        if (dimensionIndex != null)
+        {
+            final BuildingItemIndex index = dimensionIndex.get(pos);
+            if (index != null)
+            {
+                index.removeRack(pos);
+            }
+        }
+    }
+
+    /**
+     * Drop the indexes of the buildings owning the given containers, when their colony is deleted.
+     *
+     * @param world      the world of the colony.
+     * @param containers the container positions of the colony's buildings.
+     */
+    public static void clearContainers(@NotNull final World world, @NotNull final Collection<BlockPos> containers)
+    {
+        final Map<BlockPos, BuildingItemIndex> dimensionIndex = indexByContainer.get(world.dimension());
+        if (dimensionIndex == null)
+        {
+            return;
+        }
+
+        for (final BlockPos pos : containers)
+        {
+            final BuildingItemIndex index = dimensionIndex.get(pos);
+            if (index != null)
+            {
+                index.clear();
+            }
+        }
+    }
+
+    /**
+     * Drop all indexes of a world, when it unloads. The buildings set their index up again on next use.
+     *
+     * @param world the unloaded world.
+     */
+    public static void clear(@NotNull final World world)
+    {
+        final Map<BlockPos, BuildingItemIndex> dimensionIndex = indexByContainer.remove(world.dimension());
+        if (dimensionIndex != null)
+        {
+            for (final BuildingItemIndex index : new HashSet<>(dimensionIndex.values()))
+            {
+                index.clear();
+            }
+        }
+    }
+
+    /**
+     * Forget all registered containers, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        indexByContainer.clear();
+    }
+
+    /**
+     * The amounts of one distinct stack in the racks.
+     */
+    private static final class Entry
+    {
+        /**
+         * The stack.
+         */
+        private final ItemStorage storage;
+
+        /**
+         * Amount by rack position.
+         */
+        private final Map<BlockPos, Integer> amounts = new HashMap<>();
+
+        /**
+         * Sum of all amounts.
+         */
+        private int total = 0;
+
+        private Entry(final ItemStorage storage)
+        {
+            this.storage = storage;
+        }
+
+        private void add(final BlockPos pos, final int amount)
+        {
+            amounts.merge(pos, amount, Integer::sum);
+            total += amount;
+        }
+
+        private void remove(final BlockPos pos)
+        {
+            final Integer amount = amounts.remove(pos);
+            if (amount != null)
+            {
+                total -= amount;
+            }
+        }
+    }
+}
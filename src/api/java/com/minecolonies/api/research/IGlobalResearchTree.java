@@ -162,9 +162,15 @@ public interface IGlobalResearchTree
 
     /**
      * Sends messages to the client from the server describing the Global Research Tree.
-     * Only used for dedicated servers.
+     * Only the content hash is sent, the client requests the data if it has no persisted copy of it.
      * @param player        the player to send the message
      *                      all players should be updated on a data pack reload.
      */
     void sendGlobalResearchTreePackets(final ServerPlayerEntity player);
+
+    /**
+     * Sends the full data of the Global Research Tree to the client, when it requested it.
+     * @param player        the player to send the message
+     */
+    void sendGlobalResearchTreeData(final ServerPlayerEntity player);
 }
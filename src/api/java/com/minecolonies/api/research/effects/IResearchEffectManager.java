@@ -27,6 +27,15 @@ public interface IResearchEffectManager
      */
      double getEffectStrength(final ResourceLocation id);
 
+    /**
+     * Get the research effect strength by the dense id of the effect, see {@link ResearchEffectIds}.
+     * Use this with the id constants for frequent lookups.
+     *
+     * @param id the dense id of the effect.
+     * @return the strength of the effect, or zero if it isn't present.
+     */
+    double getEffectStrength(final int id);
+
     /**
      * Apply the effect to the research effects class.
      *
@@ -0,0 +1,85 @@
+package com.minecolonies.api.research.effects;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.util.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Assigns every research effect id a dense int, so the effect managers of the colonies can keep the effect strengths in an array. The ids of the built in effects are
+ * assigned when the research constants load, datapack effects get theirs when first applied. Ids stay the same until the game closes and are never saved.
+ * <p>
+ * Ids are rarely assigned, so assigning copies the map and publishes the copy, lookups then read the current map without locking.
+ */
+public final class ResearchEffectIds
+{
+    /**
+     * The dense id of each effect id, never changed once published.
+     */
+    private static volatile Object2IntMap<ResourceLocation> ids = createMap(new Object2IntOpenHashMap<>());
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ResearchEffectIds()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the dense id of an effect, assigning the next free one if it has none yet.
+     *
+     * @param effect the effect id.
+     * @return the dense id.
+     */
+    public static synchronized int getId(@NotNull final ResourceLocation effect)
+    {
+        final int id = ids.getInt(effect);
+        if (id != -1)
+        {
+            return id;
+        }
+
+        final Object2IntMap<ResourceLocation> newIds = createMap(ids);
+        final int newId = newIds.size();
+        newIds.put(effect, newId);
+        ids = newIds;
+        return newId;
+    }
+
+    /**
+     * Look up the dense id of an effect, without assigning one.
+     *
+     * @param effect the effect id.
+     * @return the dense id or -1 if the effect has none.
+     */
+    public static int find(@NotNull final ResourceLocation effect)
+    {
+        return ids.getInt(effect);
+    }
+
+    /**
+     * Get the amount of assigned ids.
+     *
+     * @return the amount, all ids are below it.
+     */
+    public static int size()
+    {
+        return ids.size();
+    }
+
+    /**
+     * Copy an id map.
+     *
+     * @param source the map to copy.
+     * @return the copy, returning -1 for missing effects.
+     */
+    private static Object2IntMap<ResourceLocation> createMap(final Object2IntMap<ResourceLocation> source)
+    {
+        final Object2IntMap<ResourceLocation> map = new Object2IntOpenHashMap<>(source);
+        map.defaultReturnValue(-1);
+        return map;
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.api.research.util;
 
 import com.ldtteam.blockout.Color;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.constant.Constants;
 import net.minecraft.util.ResourceLocation;
 
@@ -152,6 +153,61 @@ public final class ResearchConstants
     public static final ResourceLocation RECIPE_MODE       = new ResourceLocation(Constants.MOD_ID, "effects/recipemodeunlock");
     public static final ResourceLocation BUILDER_MODE       = new ResourceLocation(Constants.MOD_ID, "effects/buildermodeunlock");
 
+    /**
+     * Dense ids of the research effects above, for the array lookup of {@link com.minecolonies.api.research.effects.IResearchEffectManager#getEffectStrength(int)}.
+     */
+    public static final int ARCHER_DAMAGE_ID           = ResearchEffectIds.getId(ARCHER_DAMAGE);
+    public static final int CITIZEN_INV_SLOTS_ID       = ResearchEffectIds.getId(CITIZEN_INV_SLOTS);
+    public static final int CITIZEN_CAP_ID             = ResearchEffectIds.getId(CITIZEN_CAP);
+    public static final int MECHANIC_ENHANCED_GATES_ID = ResearchEffectIds.getId(MECHANIC_ENHANCED_GATES);
+    public static final int FLEEING_SPEED_ID           = ResearchEffectIds.getId(FLEEING_SPEED);
+    public static final int SATLIMIT_ID                = ResearchEffectIds.getId(SATLIMIT);
+    public static final int HEALTH_BOOST_ID            = ResearchEffectIds.getId(HEALTH_BOOST);
+    public static final int MELEE_DAMAGE_ID            = ResearchEffectIds.getId(MELEE_DAMAGE);
+    public static final int WORK_LONGER_ID             = ResearchEffectIds.getId(WORK_LONGER);
+    public static final int RESURRECT_CHANCE_ID        = ResearchEffectIds.getId(RESURRECT_CHANCE);
+    public static final int GRAVE_DECAY_BONUS_ID       = ResearchEffectIds.getId(GRAVE_DECAY_BONUS);
+    public static final int UNDERTAKER_RUN_ID          = ResearchEffectIds.getId(UNDERTAKER_RUN);
+    public static final int ARCHER_ARMOR_ID            = ResearchEffectIds.getId(ARCHER_ARMOR);
+    public static final int ARMOR_DURABILITY_ID        = ResearchEffectIds.getId(ARMOR_DURABILITY);
+    public static final int BLOCK_ATTACKS_ID           = ResearchEffectIds.getId(BLOCK_ATTACKS);
+    public static final int BLOCK_BREAK_SPEED_ID       = ResearchEffectIds.getId(BLOCK_BREAK_SPEED);
+    public static final int BLOCK_PLACE_SPEED_ID       = ResearchEffectIds.getId(BLOCK_PLACE_SPEED);
+    public static final int DOUBLE_ARROWS_ID           = ResearchEffectIds.getId(DOUBLE_ARROWS);
+    public static final int FARMING_ID                 = ResearchEffectIds.getId(FARMING);
+    public static final int FLEEING_DAMAGE_ID          = ResearchEffectIds.getId(FLEEING_DAMAGE);
+    public static final int GROWTH_ID                  = ResearchEffectIds.getId(GROWTH);
+    public static final int HAPPINESS_ID               = ResearchEffectIds.getId(HAPPINESS);
+    public static final int LEVELING_ID                = ResearchEffectIds.getId(LEVELING);
+    public static final int MELEE_ARMOR_ID             = ResearchEffectIds.getId(MELEE_ARMOR);
+    public static final int MINIMUM_STOCK_ID           = ResearchEffectIds.getId(MINIMUM_STOCK);
+    public static final int MORE_ORES_ID               = ResearchEffectIds.getId(MORE_ORES);
+    public static final int PODZOL_CHANCE_ID           = ResearchEffectIds.getId(PODZOL_CHANCE);
+    public static final int RECIPES_ID                 = ResearchEffectIds.getId(RECIPES);
+    public static final int REGENERATION_ID            = ResearchEffectIds.getId(REGENERATION);
+    public static final int SATURATION_ID              = ResearchEffectIds.getId(SATURATION);
+    public static final int SLEEP_LESS_ID              = ResearchEffectIds.getId(SLEEP_LESS);
+    public static final int TEACHING_ID                = ResearchEffectIds.getId(TEACHING);
+    public static final int TOOL_DURABILITY_ID         = ResearchEffectIds.getId(TOOL_DURABILITY);
+    public static final int WALKING_ID                 = ResearchEffectIds.getId(WALKING);
+    public static final int CRUSHING_11_ID             = ResearchEffectIds.getId(CRUSHING_11);
+    public static final int ARCHER_USE_ARROWS_ID       = ResearchEffectIds.getId(ARCHER_USE_ARROWS);
+    public static final int KNIGHT_TAUNT_ID            = ResearchEffectIds.getId(KNIGHT_TAUNT);
+    public static final int FIRE_RES_ID                = ResearchEffectIds.getId(FIRE_RES);
+    public static final int ARROW_PIERCE_ID            = ResearchEffectIds.getId(ARROW_PIERCE);
+    public static final int PLANT_2_ID                 = ResearchEffectIds.getId(PLANT_2);
+    public static final int BEEKEEP_2_ID               = ResearchEffectIds.getId(BEEKEEP_2);
+    public static final int PLATE_ARMOR_ID             = ResearchEffectIds.getId(PLATE_ARMOR);
+    public static final int RAILS_ID                   = ResearchEffectIds.getId(RAILS);
+    public static final int VINES_ID                   = ResearchEffectIds.getId(VINES);
+    public static final int RETREAT_ID                 = ResearchEffectIds.getId(RETREAT);
+    public static final int SHIELD_USAGE_ID            = ResearchEffectIds.getId(SHIELD_USAGE);
+    public static final int KNIGHT_WHIRLWIND_ID        = ResearchEffectIds.getId(KNIGHT_WHIRLWIND);
+    public static final int WORKING_IN_RAIN_ID         = ResearchEffectIds.getId(WORKING_IN_RAIN);
+    public static final int USE_TOTEM_ID               = ResearchEffectIds.getId(USE_TOTEM);
+    public static final int RECIPE_MODE_ID             = ResearchEffectIds.getId(RECIPE_MODE);
+    public static final int BUILDER_MODE_ID            = ResearchEffectIds.getId(BUILDER_MODE);
+
     /**
      * Private constructor to hide implicit public one.
      */
@@ -273,6 +273,7 @@ public class TileEntityColonyBuilding extends AbstractTileEntityColonyBuilding i
     @Override
     public void onLoad()
     {
+        super.onLoad();
         if (building != null)
         {
             building.setTileEntity(null);
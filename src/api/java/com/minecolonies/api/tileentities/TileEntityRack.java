@@ -2,7 +2,9 @@ package com.minecolonies.api.tileentities;
 
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -12,6 +14,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.container.Container;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
@@ -33,8 +36,7 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.*;
@@ -57,9 +59,20 @@ public class TileEntityRack extends AbstractTileEntityRack
     private byte version = 0;
 
     /**
-     * The content of the chest.
+     * The content of the chest by the exact key of the stored stacks, the amount is kept in the storage.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemKey, ItemStorage> content = new HashMap<>();
+
+    /**
+     * The stored stacks of each item, for the lookups which ignore damage or nbt.
+     */
+    private final Map<Item, List<ItemStorage>> contentByItem = new HashMap<>();
+
+    /**
+     * The content as storage to amount map, built on request after the content changed.
+     */
+    @Nullable
+    private Map<ItemStorage, Integer> allContent = null;
 
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
@@ -103,7 +116,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
 
-        return content.getOrDefault(checkItem, 0) >= count;
+        return getCount(checkItem) >= count;
     }
 
     @Override
@@ -118,31 +131,27 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         if (storage.ignoreDamageValue() || storage.ignoreNBT())
         {
-            if (!content.containsKey(storage))
-            {
-                return 0;
-            }
-
             int count = 0;
-            for (final Map.Entry<ItemStorage, Integer> contentStorage : content.entrySet())
+            for (final ItemStorage contentStorage : contentByItem.getOrDefault(storage.getItem(), Collections.emptyList()))
             {
-                if (contentStorage.getKey().equals(storage))
+                if (contentStorage.equals(storage))
                 {
-                    count += contentStorage.getValue();
+                    count += contentStorage.getAmount();
                 }
             }
             return count;
         }
 
-        return content.getOrDefault(storage, 0);
+        final ItemStorage contentStorage = content.get(storage.getKey());
+        return contentStorage == null ? 0 : contentStorage.getAmount();
     }
 
     @Override
     public boolean hasItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (itemStackSelectionPredicate.test(entry.getKey().getItemStack()))
+            if (itemStackSelectionPredicate.test(storage.getItemStack()))
             {
                 return true;
             }
@@ -153,13 +162,13 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, true, true);
-        if (content.containsKey(checkItem))
+        if (contentByItem.containsKey(stack.getItem()))
         {
             return true;
         }
 
-        for (final ItemStorage storage : content.keySet())
+        final ItemStorage checkItem = new ItemStorage(stack, true, true);
+        for (final ItemStorage storage : content.values())
         {
             if (checkItem.getPrimaryCreativeTabIndex() == storage.getPrimaryCreativeTabIndex())
             {
@@ -173,11 +182,20 @@ public class TileEntityRack extends AbstractTileEntityRack
     /**
      * Gets the content of the Rack
      *
-     * @return the map of content.
+     * @return the unmodifiable map of content.
      */
     public Map<ItemStorage, Integer> getAllContent()
     {
-        return content;
+        if (allContent == null)
+        {
+            final Map<ItemStorage, Integer> map = new HashMap<>();
+            for (final ItemStorage storage : content.values())
+            {
+                map.put(storage, storage.getAmount());
+            }
+            allContent = Collections.unmodifiableMap(map);
+        }
+        return allContent;
     }
 
     @Override
@@ -199,11 +217,11 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public int getItemCount(final Predicate<ItemStack> predicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final ItemStorage storage : content.values())
         {
-            if (predicate.test(entry.getKey().getItemStack()))
+            if (predicate.test(storage.getItemStack()))
             {
-                return entry.getValue();
+                return storage.getAmount();
             }
         }
         return 0;
@@ -231,6 +249,8 @@ public class TileEntityRack extends AbstractTileEntityRack
     private void updateContent()
     {
         content.clear();
+        contentByItem.clear();
+        allContent = null;
         freeSlots = 0;
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
@@ -243,12 +263,19 @@ public class TileEntityRack extends AbstractTileEntityRack
             }
 
             final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
+            final ItemStorage existing = content.get(storage.getKey());
+            if (existing != null)
             {
-                amount += content.remove(storage);
+                existing.setAmount(existing.getAmount() + storage.getAmount());
+                continue;
             }
-            content.put(storage, amount);
+            content.put(storage.getKey(), storage);
+            contentByItem.computeIfAbsent(storage.getItem(), item -> new ArrayList<>()).add(storage);
+        }
+
+        if (level != null && !level.isClientSide)
+        {
+            BuildingItemIndex.onRackChanged(level, worldPosition, getAllContent());
         }
     }
 
@@ -626,11 +653,35 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (level != null && !level.isClientSide)
+        {
+            BuildingItemIndex.onRackChanged(level, worldPosition, getAllContent());
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded()
+    {
+        super.onChunkUnloaded();
+        if (level != null && !level.isClientSide)
+        {
+            BuildingItemIndex.onRackRemoved(level, worldPosition);
+        }
+    }
+
     @Override
     public void setRemoved()
     {
         super.setRemoved();
         invalidateCap();
+        if (level != null && !level.isClientSide)
+        {
+            BuildingItemIndex.onRackRemoved(level, worldPosition);
+        }
     }
 
     @Override
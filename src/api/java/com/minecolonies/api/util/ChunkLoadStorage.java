@@ -267,6 +267,39 @@ public class ChunkLoadStorage
         chunk.markUnsaved();
     }
 
+    /**
+     * Predict the owning colony of the chunk after this storage was applied to it, for chunks which are not loaded.
+     *
+     * @param owner the current owning colony, 0 if none.
+     * @return the owning colony after applying, 0 if none.
+     */
+    public int applyToOwner(final int owner)
+    {
+        int newOwner = owner;
+        if (this.claimingBuilding.isEmpty() && unClaimingBuilding.isEmpty())
+        {
+            final int amountOfOperations = Math.max(Math.max(colonyId.size(), coloniesToAdd.size()), coloniesToRemove.size());
+            for (int i = 0; i < amountOfOperations; i++)
+            {
+                if (i < colonyId.size() && colonyId.get(i) > 0)
+                {
+                    newOwner = colonyId.get(i);
+                }
+
+                if (i < coloniesToRemove.size() && coloniesToRemove.get(i) > 0 && coloniesToRemove.get(i) == newOwner)
+                {
+                    newOwner = 0;
+                }
+            }
+        }
+        else if (newOwner == 0 && !claimingBuilding.isEmpty())
+        {
+            // Removed building claims might leave other claims of the same colony, which only the chunk knows about, so the owner is kept for those.
+            newOwner = claimingBuilding.get(0).getA();
+        }
+        return newOwner;
+    }
+
     /**
      * Check if the chunkloadstorage is empty.
      *
@@ -5,6 +5,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.constant.IToolType;
@@ -730,26 +731,26 @@ public class InventoryUtils
      */
     public static int hasBuildingEnoughElseCount(@NotNull final IBuilding provider, @NotNull final ItemStorage stack, final int count)
     {
-        int totalCount = 0;
-        final World world = provider.getColony().getWorld();
+        final BuildingItemIndex index = provider.getItemIndex();
+        int totalCount = index.getCount(stack);
+        if (totalCount > count)
+        {
+            return Integer.MAX_VALUE;
+        }
 
-        for (final BlockPos pos : provider.getContainers())
+        final World world = provider.getColony().getWorld();
+        for (final BlockPos pos : index.getUnindexedContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
                 final TileEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestTileEntity)
+                if (entity instanceof ChestTileEntity)
                 {
                     totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack(), !stack.ignoreDamageValue(), !stack.ignoreNBT() ));
-                }
-
-                if (totalCount > count)
-                {
-                    return Integer.MAX_VALUE;
+                    if (totalCount > count)
+                    {
+                        return Integer.MAX_VALUE;
+                    }
                 }
             }
         }
@@ -785,19 +786,16 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final ItemStorage stack)
     {
-        int totalCount = 0;
+        final BuildingItemIndex index = provider.getItemIndex();
+        int totalCount = index.getCount(stack);
         final World world = provider.getColony().getWorld();
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final BlockPos pos : index.getUnindexedContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
                 final TileEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getCount(stack);
-                }
-                else if (entity instanceof ChestTileEntity)
+                if (entity instanceof ChestTileEntity)
                 {
                     totalCount += getItemCountInProvider(entity, itemStack -> ItemStackUtils.compareItemStacksIgnoreStackSize(itemStack, stack.getItemStack()));
                 }
@@ -841,19 +839,16 @@ public class InventoryUtils
      */
     public static int getCountFromBuilding(@NotNull final IBuilding provider, @NotNull final Predicate<ItemStack> predicate)
     {
-        int totalCount = 0;
+        final BuildingItemIndex index = provider.getItemIndex();
+        int totalCount = index.getCount(predicate);
         final World world = provider.getColony().getWorld();
 
-        for (final BlockPos pos : provider.getContainers())
+        for (final BlockPos pos : index.getUnindexedContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
                 final TileEntity entity = world.getBlockEntity(pos);
-                if (entity instanceof TileEntityRack)
-                {
-                    totalCount += ((TileEntityRack) entity).getItemCount(predicate);
-                }
-                else if (entity instanceof ChestTileEntity)
+                if (entity instanceof ChestTileEntity)
                 {
                     totalCount += getItemCountInProvider(entity, predicate);
                 }
@@ -363,6 +363,11 @@ public final class NbtTagConstants
      */
     public static final String TAG_ALL_CHUNK_STORAGES = "allchunk";
 
+    /**
+     * Tag to store the colony claim index of a world.
+     */
+    public static final String TAG_CLAIM_INDEX = "claimindex";
+
     /**
      * Tag used to store the relative neighbor pos to NBT.
      */
@@ -588,6 +593,14 @@ public final class NbtTagConstants
     public static final String TAG_TOTAL_STAGES = "totalStages";
     public static final String TAG_CURR_STAGE = "currStage";
 
+    /**
+     * Tags to store the calculated building requirements.
+     */
+    public static final String TAG_REQUIREMENTS_KEY = "requirementsKey";
+    public static final String TAG_NEEDED_RESOURCES = "neededResources";
+    public static final String TAG_BUCKETS          = "buckets";
+    public static final String TAG_TOTAL_STACKS     = "totalStacks";
+
     /**
      * Tags to store the needed resources to nbt.
      */
@@ -268,6 +268,12 @@ public final class TranslationConstants
     @NonNls
     public static final String COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_UNEMPLOYED          = "com.minecolonies.coremod.gui.townHall.population.unemployed";
     @NonNls
+    public static final String COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_HOMELESS            = "com.minecolonies.coremod.gui.townHall.population.homeless";
+    @NonNls
+    public static final String COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_SICK                = "com.minecolonies.coremod.gui.townHall.population.sick";
+    @NonNls
+    public static final String COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_HUNGRY              = "com.minecolonies.coremod.gui.townHall.population.hungry";
+    @NonNls
     public static final String COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_CITIZEN_UNEMPLOYED             = "com.minecolonies.coremod.gui.townHall.citizens.unemployed";
     @NonNls
     public static final String COM_MINECOLONIES_CIREMOD_GUI_TOWNHALL_PERMISSIONEVENTS               = "com.minecolonies.coremod.gui.townHall.permissionevents";
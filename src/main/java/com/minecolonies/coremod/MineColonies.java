@@ -44,6 +44,7 @@ import com.minecolonies.coremod.colony.requestsystem.init.RequestSystemInitializ
 import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
 import com.minecolonies.coremod.event.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.placementhandlers.PlacementHandlerInitializer;
 import com.minecolonies.coremod.proxy.ClientProxy;
 import com.minecolonies.coremod.proxy.CommonProxy;
@@ -114,6 +115,7 @@ public class MineColonies
 
         Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(EventHandler.class);
         Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(FMLEventHandler.class);
+        Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(ColonyPermissionEventDispatcher.class);
         DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(ClientEventHandler.class));
         DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(HighlightManager.class));
 
@@ -7,6 +7,7 @@ import com.ldtteam.blockout.controls.ItemIcon;
 import com.ldtteam.blockout.controls.Text;
 import com.ldtteam.blockout.views.DropDownList;
 import com.ldtteam.blockout.views.ScrollingList;
+import com.ldtteam.structures.blueprints.v1.Blueprint;
 import com.ldtteam.structures.helpers.Settings;
 import com.ldtteam.structurize.blocks.interfaces.IBlueprintDataProvider;
 import com.ldtteam.structurize.management.StructureName;
@@ -26,7 +27,6 @@ import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.colony.jobs.ModJobs;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.ai.citizen.builder.IBuilderUndestroyable;
-import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LoadOnlyStructureHandler;
 import com.minecolonies.api.util.Log;
@@ -36,12 +36,12 @@ import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingBuilderVi
 import com.minecolonies.coremod.network.messages.server.colony.building.BuildPickUpMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.BuildRequestMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.BuildingSetStyleMessage;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.Minecraft;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TranslationTextComponent;
@@ -317,11 +317,10 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
 
         final StructureName sn = new StructureName(Structures.SCHEMATICS_PREFIX, styles.get(stylesDropDownList.getSelectedIndex()),
           schematicName + nextLevel);
-        final LoadOnlyStructureHandler structure = new LoadOnlyStructureHandler(world, building.getPosition(), sn.toString(), new PlacementSettings(), true);
-        final String md5 = Structures.getMD5(sn.toString());
-        if (!structure.hasBluePrint() || !structure.isCorrectMD5(md5))
+        final Blueprint blueprint = BlueprintCache.acquire(world, sn.toString(), building.getRotation(), building.isMirrored());
+        if (blueprint == null || !BlueprintCache.isCorrectMD5(blueprint))
         {
-            if (!structure.hasBluePrint())
+            if (blueprint == null)
             {
                 Log.getLogger().info("Template structure " + sn + " missing");
             }
@@ -334,6 +333,7 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
             if (ServerLifecycleHooks.getCurrentServer() == null)
             {
                 com.ldtteam.structurize.Network.getNetwork().sendToServer(new SchematicRequestMessage(sn.toString()));
+                BlueprintCache.release(blueprint);
                 return;
             }
             else
@@ -342,7 +342,7 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
             }
         }
 
-        if (!structure.hasBluePrint())
+        if (blueprint == null)
         {
             findPaneOfTypeByID(BUTTON_BUILD, Button.class).hide();
             findPaneOfTypeByID(BUTTON_REPAIR, Button.class).hide();
@@ -350,7 +350,7 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
             return;
         }
 
-        structure.getBluePrint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(building.getRotation()), building.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        final LoadOnlyStructureHandler structure = new LoadOnlyStructureHandler(world, building.getPosition(), blueprint, new PlacementSettings(), true);
         StructurePlacer placer = new StructurePlacer(structure);
         StructurePhasePlacementResult result;
         BlockPos progressPos = NULL_POS;
@@ -367,6 +367,7 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
             }
         }
         while (result != null && result.getBlockResult().getResult() != BlockPlacementResult.Result.FINISHED);
+        BlueprintCache.release(blueprint);
 
 
         window.findPaneOfTypeByID(LIST_RESOURCES, ScrollingList.class).refreshElementPanes();
@@ -6,7 +6,9 @@ import com.ldtteam.blockout.controls.*;
 import com.ldtteam.blockout.views.ScrollingList;
 import com.ldtteam.structurize.util.LanguageHandler;
 import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.colony.CitizenStatistic;
 import com.minecolonies.api.colony.ICitizenDataView;
+import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.colony.colonyEvents.descriptions.IBuildingEventDescription;
 import com.minecolonies.api.colony.colonyEvents.descriptions.ICitizenEventDescription;
@@ -31,6 +33,7 @@ import java.text.DecimalFormat;
 import java.util.*;
 
 import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_CAP;
+import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_CAP_ID;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static com.minecolonies.api.util.constant.WindowConstants.*;
 
@@ -89,7 +92,7 @@ public class WindowInfoPage extends AbstractWindowTownHall
         if(MinecoloniesAPIProxy.getInstance().getGlobalResearchTree().hasResearchEffect(CITIZEN_CAP))
         {
             citizensCap = (int) (Math.min(MineColonies.getConfig().getServer().maxCitizenPerColony.get(),
-              25 + this.building.getColony().getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_CAP)));
+              25 + this.building.getColony().getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_CAP_ID)));
         }
         else
         {
@@ -147,20 +150,21 @@ public class WindowInfoPage extends AbstractWindowTownHall
 
 
         //calculate number of children
-        int unemployedCount = 0;
         for (ICitizenDataView iCitizenDataView : building.getColony().getCitizens().values())
         {
             if (iCitizenDataView.isChild())
             {
                 children++;
             }
-            else if (iCitizenDataView.getJobView() == null)
-            {
-                unemployedCount++;
-            }
         }
-        final String numberOfUnemployed = LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_UNEMPLOYED, unemployedCount);
-        final String numberOfKids = LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_CHILDS, children);
+
+        final IColonyView colony = building.getColony();
+        final List<String> populationStats = new ArrayList<>();
+        populationStats.add(LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_CHILDS, children));
+        populationStats.add(LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_UNEMPLOYED, colony.getCitizenStatistic(CitizenStatistic.UNEMPLOYED)));
+        populationStats.add(LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_HOMELESS, colony.getCitizenStatistic(CitizenStatistic.HOMELESS)));
+        populationStats.add(LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_SICK, colony.getCitizenStatistic(CitizenStatistic.SICK)));
+        populationStats.add(LanguageHandler.format(COM_MINECOLONIES_COREMOD_GUI_TOWNHALL_POPULATION_HUNGRY, colony.getCitizenStatistic(CitizenStatistic.HUNGRY)));
 
         final ScrollingList list = findPaneOfTypeByID("citizen-stats", ScrollingList.class);
         if (list == null)
@@ -176,7 +180,7 @@ public class WindowInfoPage extends AbstractWindowTownHall
             @Override
             public int getElementCount()
             {
-                return maxJobs + 2;
+                return maxJobs + populationStats.size();
             }
 
             @Override
@@ -195,14 +199,7 @@ public class WindowInfoPage extends AbstractWindowTownHall
                 }
                 else
                 {
-                    if (index == maxJobs + 1)
-                    {
-                        label.setText(numberOfUnemployed);
-                    }
-                    else
-                    {
-                        label.setText(numberOfKids);
-                    }
+                    label.setText(populationStats.get(index - maxJobs));
                 }
             }
         });
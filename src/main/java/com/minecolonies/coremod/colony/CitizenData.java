@@ -57,7 +57,8 @@ import java.util.stream.Collectors;
 
 import static com.minecolonies.api.entity.citizen.AbstractEntityCitizen.*;
 import static com.minecolonies.api.research.util.ResearchConstants.HEALTH_BOOST;
-import static com.minecolonies.api.research.util.ResearchConstants.WALKING;
+import static com.minecolonies.api.research.util.ResearchConstants.HEALTH_BOOST_ID;
+import static com.minecolonies.api.research.util.ResearchConstants.WALKING_ID;
 import static com.minecolonies.api.util.ItemStackUtils.CAN_EAT;
 import static com.minecolonies.api.util.constant.BuildingConstants.TAG_ACTIVE;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
@@ -326,6 +327,7 @@ public class CitizenData implements ICitizenData
             entity = new WeakReference<>((AbstractEntityCitizen) citizen);
             citizen.setCivilianData(this);
         }
+        updateStatistics();
     }
 
     @Override
@@ -728,6 +730,7 @@ public class CitizenData implements ICitizenData
 
         homeBuilding = building;
         markDirty();
+        updateStatistics();
 
         if (getEntity().isPresent() && getEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -831,6 +834,7 @@ public class CitizenData implements ICitizenData
         getEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
         markDirty();
+        updateStatistics();
     }
 
     @Override
@@ -941,6 +945,7 @@ public class CitizenData implements ICitizenData
     public void increaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        updateStatistics();
     }
 
     @Override
@@ -950,6 +955,7 @@ public class CitizenData implements ICitizenData
         {
             this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation * MineColonies.getConfig().getServer().foodModifier.get()));
             this.justAte = false;
+            updateStatistics();
         }
     }
 
@@ -981,6 +987,7 @@ public class CitizenData implements ICitizenData
     public void setSaturation(final double saturation)
     {
         this.saturation = saturation;
+        updateStatistics();
     }
 
     @Override
@@ -1061,6 +1068,18 @@ public class CitizenData implements ICitizenData
         {
             colony.updateHasChilds();
         }
+        updateStatistics();
+    }
+
+    /**
+     * Recount this citizen in the colony statistics.
+     */
+    private void updateStatistics()
+    {
+        if (colony != null)
+        {
+            colony.getCitizenManager().updateStatistics(this);
+        }
     }
 
     @Override
@@ -1443,12 +1462,12 @@ public class CitizenData implements ICitizenData
             citizen.getNavigation().getPathingOptions().setCanClimbVines(((EntityCitizen) citizen).canClimbVines());
 
             final AttributeModifier speedModifier = new AttributeModifier(RESEARCH_BONUS_MULTIPLIER,
-              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING),
+              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING_ID),
               AttributeModifier.Operation.MULTIPLY_TOTAL);
             AttributeModifierUtils.addModifier(citizen, speedModifier, Attributes.MOVEMENT_SPEED);
 
             final AttributeModifier healthModLevel =
-              new AttributeModifier(HEALTH_BOOST.toString(), colony.getResearchManager().getResearchEffects().getEffectStrength(HEALTH_BOOST), AttributeModifier.Operation.ADDITION);
+              new AttributeModifier(HEALTH_BOOST.toString(), colony.getResearchManager().getResearchEffects().getEffectStrength(HEALTH_BOOST_ID), AttributeModifier.Operation.ADDITION);
             AttributeModifierUtils.addHealthModifier(citizen, healthModLevel);
         }
     }
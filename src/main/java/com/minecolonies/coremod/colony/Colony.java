@@ -3,10 +3,10 @@ package com.minecolonies.coremod.colony;
 import com.google.common.collect.ImmutableList;
 import com.ldtteam.structurize.util.LanguageHandler;
 import com.minecolonies.api.blocks.ModBlocks;
+import com.minecolonies.api.colony.ColonyClaimIndex;
 import com.minecolonies.api.colony.ColonyState;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
-import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.managers.interfaces.*;
 import com.minecolonies.api.colony.permissions.Action;
@@ -32,6 +32,8 @@ import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.navigation.ColonyNavigationLayer;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import net.minecraft.block.Block;
@@ -57,7 +59,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.server.ServerChunkProvider;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.registries.ForgeRegistries;
@@ -73,8 +74,10 @@ import static com.minecolonies.api.util.constant.Constants.DEFAULT_STYLE;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
-import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 import static com.minecolonies.coremod.MineColonies.getConfig;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_FREE_BLOCKS;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_TICKETS;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_WAYPOINTS;
 
 /**
  * This class describes a colony and contains all the data and methods for manipulating a Colony.
@@ -174,6 +177,16 @@ public class Colony implements IColony
      */
     private final IProgressManager progressManager = new ProgressManager(this);
 
+    /**
+     * The navigation layer over the loaded chunks of the colony.
+     */
+    private final ColonyNavigationLayer navigationLayer = new ColonyNavigationLayer(this);
+
+    /**
+     * The cache of paths calculated for the citizens.
+     */
+    private final PathCache pathCache = new PathCache(this);
+
     /**
      * The Positions which players can freely interact.
      */
@@ -271,6 +284,19 @@ public class Colony implements IColony
      */
     private boolean isActive = true;
 
+    /**
+     * Names of the periodic work run by the {@link ColonyTickScheduler}.
+     */
+    private static final String TASK_SUBSCRIBERS   = "subscribers";
+    private static final String TASK_REQUESTS      = "requests";
+    private static final String TASK_SLOW_TICK     = "slowTick";
+    private static final String TASK_UNLOADED_TICK = "unloadedTick";
+
+    /**
+     * If the colony changed since its backup file was last written.
+     */
+    private boolean isSaveDirty = true;
+
     /**
      * The colony team color.
      */
@@ -362,12 +388,32 @@ public class Colony implements IColony
             return null;
         }, TICKS_SECOND));
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE,
+          () -> scheduleWork(TASK_SUBSCRIBERS, UPDATE_SUBSCRIBERS_INTERVAL, this::updateSubscribers),
+          () -> ACTIVE,
+          UPDATE_SUBSCRIBERS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> scheduleWork(TASK_REQUESTS, UPDATE_RS_INTERVAL, this::tickRequests), () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> scheduleWork(TASK_SLOW_TICK, MAX_TICKRATE, this::worldTickSlow), () -> ACTIVE, MAX_TICKRATE));
+        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED,
+          () -> scheduleWork(TASK_UNLOADED_TICK, MAX_TICKRATE, this::worldTickUnloaded),
+          () -> UNLOADED,
+          MAX_TICKRATE));
+    }
+
+    /**
+     * Queue periodic work in the {@link ColonyTickScheduler}, which spreads the work of all colonies over the server ticks.
+     *
+     * @param name   the name of the work.
+     * @param period the ticks between two runs.
+     * @param work   the work.
+     * @return false
+     */
+    private boolean scheduleWork(final String name, final int period, final Runnable work)
+    {
+        ColonyTickScheduler.schedule(this, name, period, work);
+        return false;
     }
 
     /**
@@ -499,6 +545,7 @@ public class Colony implements IColony
                     }
                     ticketedChunks.clear();
                     ticketedChunksDirty = true;
+                    packageManager.setDirty(SECTION_TICKETS);
                 }
             }
         }
@@ -517,6 +564,7 @@ public class Colony implements IColony
             {
                 ticketedChunks.add(chunkPos);
                 ticketedChunksDirty = true;
+                packageManager.setDirty(SECTION_TICKETS);
                 ((ServerChunkProvider) world.getChunkSource()).addRegionTicket(KEEP_LOADED_TYPE, chunk.getPos(), 2, chunk.getPos());
             }
         }
@@ -959,11 +1007,10 @@ public class Colony implements IColony
         if (w.dimension() == dimensionId)
         {
             this.world = w;
-            // Register a new event handler
+            // Create the permission handler, the global dispatcher passes it the events inside of the colony
             if (eventHandler == null)
             {
                 eventHandler = new ColonyPermissionEventHandler(this);
-                MinecraftForge.EVENT_BUS.register(eventHandler);
             }
             setColonyColor(this.colonyTeamColor);
         }
@@ -986,10 +1033,9 @@ public class Colony implements IColony
             return;
         }
 
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
+        navigationLayer.clear();
+        pathCache.clear();
+        ColonyTickScheduler.cancel(this);
         world = null;
     }
 
@@ -1038,6 +1084,7 @@ public class Colony implements IColony
     public void addFreePosition(@NotNull final BlockPos pos)
     {
         freePositions.add(pos);
+        packageManager.setDirty(SECTION_FREE_BLOCKS);
         markDirty();
     }
 
@@ -1049,6 +1096,7 @@ public class Colony implements IColony
     public void addFreeBlock(@NotNull final Block block)
     {
         freeBlocks.add(block);
+        packageManager.setDirty(SECTION_FREE_BLOCKS);
         markDirty();
     }
 
@@ -1060,6 +1108,7 @@ public class Colony implements IColony
     public void removeFreePosition(@NotNull final BlockPos pos)
     {
         freePositions.remove(pos);
+        packageManager.setDirty(SECTION_FREE_BLOCKS);
         markDirty();
     }
 
@@ -1071,6 +1120,7 @@ public class Colony implements IColony
     public void removeFreeBlock(@NotNull final Block block)
     {
         freeBlocks.remove(block);
+        packageManager.setDirty(SECTION_FREE_BLOCKS);
         markDirty();
     }
 
@@ -1130,6 +1180,7 @@ public class Colony implements IColony
                             || (world.isEmptyBlock(entry.getKey().below()) && !entry.getValue().getMaterial().isSolid()))
                         {
                             wayPoints.remove(entry.getKey());
+                            packageManager.setDirty(SECTION_WAYPOINTS);
                             markDirty();
                         }
                     }
@@ -1180,14 +1231,7 @@ public class Colony implements IColony
     @Override
     public boolean isCoordInColony(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        if (w.dimension() != this.dimensionId)
-        {
-            return false;
-        }
-
-        final Chunk chunk = w.getChunkAt(pos);
-        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
-        return cap != null && cap.getOwningColony() == this.getID();
+        return w.dimension() == this.dimensionId && ColonyClaimIndex.getOwner(dimensionId, pos) == this.getID();
     }
 
     @Override
@@ -1278,6 +1322,27 @@ public class Colony implements IColony
     {
         packageManager.setDirty();
         isActive = true;
+        isSaveDirty = true;
+    }
+
+    /**
+     * Check if the colony changed since its backup file was last written.
+     *
+     * @return true if so.
+     */
+    public boolean isSaveDirty()
+    {
+        return isSaveDirty;
+    }
+
+    /**
+     * Mark if the colony changed since its backup file was last written.
+     *
+     * @param isSaveDirty the new state.
+     */
+    public void setSaveDirty(final boolean isSaveDirty)
+    {
+        this.isSaveDirty = isSaveDirty;
     }
 
     @Override
@@ -1413,6 +1478,7 @@ public class Colony implements IColony
     public void addWayPoint(final BlockPos point, final BlockState block)
     {
         wayPoints.put(point, block);
+        packageManager.setDirty(SECTION_WAYPOINTS);
         this.markDirty();
     }
 
@@ -1577,6 +1643,26 @@ public class Colony implements IColony
         return progressManager;
     }
 
+    /**
+     * Get the navigation layer of the colony.
+     *
+     * @return the layer.
+     */
+    public ColonyNavigationLayer getNavigationLayer()
+    {
+        return navigationLayer;
+    }
+
+    /**
+     * Get the path cache of the colony.
+     *
+     * @return the cache.
+     */
+    public PathCache getPathCache()
+    {
+        return pathCache;
+    }
+
     /**
      * Get all visiting players.
      *
@@ -1809,12 +1895,14 @@ public class Colony implements IColony
             }
         }
         this.loadedChunks.add(chunkPos);
+        this.navigationLayer.addChunk(chunkPos);
     }
 
     @Override
     public void removeLoadedChunk(final long chunkPos)
     {
         loadedChunks.remove(chunkPos);
+        navigationLayer.removeChunk(chunkPos);
     }
 
     @Override
@@ -10,8 +10,10 @@ import com.minecolonies.api.colony.permissions.Player;
 import com.minecolonies.api.compatibility.CompatibilityManager;
 import com.minecolonies.api.compatibility.ICompatibilityManager;
 import com.minecolonies.api.crafting.IRecipeManager;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.apiimp.initializer.ModTagsInitializer;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
@@ -179,15 +181,14 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
+            // Also covers buildings which failed to destroy above.
+            for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
             {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
+                BuildingItemIndex.clearContainers(world, building.getContainers());
             }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
+            colony.getNavigationLayer().clear();
+            colony.getPathCache().clear();
+            ColonyTickScheduler.cancel(colony);
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
@@ -198,6 +199,11 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            final ColonyClaimIndex claimIndex = ColonyClaimIndex.get(colony.getDimension());
+            if (claimIndex != null)
+            {
+                claimIndex.removeColony(id);
+            }
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayerEntity) player));
@@ -282,8 +288,9 @@ public final class ColonyManager implements IColonyManager
         {
             return null;
         }
-        final Chunk centralChunk = w.getChunkAt(pos);
-        final int id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        final int id = w.isClientSide
+                         ? w.getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0)
+                         : ColonyClaimIndex.getOwner(w.dimension(), pos);
         if (id == 0)
         {
             return null;
@@ -472,18 +479,15 @@ public final class ColonyManager implements IColonyManager
     @Override
     public IColony getClosestColony(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        final Chunk chunk = w.getChunkAt(pos);
-        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
-        if (cap == null)
+        final int owner = ColonyClaimIndex.getOwner(w.dimension(), pos);
+        if (owner != 0)
         {
-            return null;
+            return getColonyByWorld(owner, w);
         }
 
-        if (cap.getOwningColony() != 0)
-        {
-            return getColonyByWorld(cap.getOwningColony(), w);
-        }
-        else if (!cap.getAllCloseColonies().isEmpty())
+        // The close colonies are only known to the chunk, without it all colonies are compared.
+        final IColonyTagCapability cap = WorldUtil.isBlockLoaded(w, pos) ? w.getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null) : null;
+        if (cap != null && !cap.getAllCloseColonies().isEmpty())
         {
             @Nullable IColony closestColony = null;
             long closestDist = Long.MAX_VALUE;
@@ -666,6 +670,8 @@ public final class ColonyManager implements IColonyManager
             }
             capLoaded = false;
 
+            world.getCapability(CHUNK_STORAGE_UPDATE_CAP, null).ifPresent(cap -> ColonyClaimIndex.register(world.dimension(), cap.getClaimIndex()));
+
             for (@NotNull final IColony c : getColonies(world))
             {
                 c.onWorldLoad(world);
@@ -706,7 +712,9 @@ public final class ColonyManager implements IColonyManager
             if (hasColonies)
             {
                 BackUpHelper.backupColonyData();
+                BackUpHelper.waitForPendingSaves();
             }
+            ColonyClaimIndex.unregister(world.dimension());
         }
     }
 
@@ -849,6 +857,10 @@ public final class ColonyManager implements IColonyManager
     @Override
     public boolean isCoordinateInAnyColony(@NotNull final World world, final BlockPos pos)
     {
+        if (!world.isClientSide)
+        {
+            return ColonyClaimIndex.getOwner(world.dimension(), pos) != 0;
+        }
         final Chunk centralChunk = world.getChunkAt(pos);
         return centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0) != 0;
     }
@@ -0,0 +1,281 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Server wide scheduler for the periodic heavy work of the colonies (manager ticks, request ticks, view syncs). The colonies queue their work here instead of running it
+ * right away. Each colony starts its work with its own phase offset, so colonies which were created together don't all do it in the same tick. Every server tick runs the
+ * due work until the configured time budget is used up, the rest is carried to the next tick ahead of newer work. Only used from the server thread.
+ */
+public final class ColonyTickScheduler
+{
+    /**
+     * Max phase offset in ticks.
+     */
+    private static final int MAX_PHASE = 100;
+
+    /**
+     * Queued work, oldest due first.
+     */
+    private static final PriorityQueue<Task> queue = new PriorityQueue<>(Comparator.<Task>comparingLong(task -> task.dueTick).thenComparingLong(task -> task.sequence));
+
+    /**
+     * Names of the queued work, by colony. Work which is still queued is not queued again.
+     */
+    private static final Map<Colony, Set<String>> queued = new HashMap<>();
+
+    /**
+     * Timings by work name.
+     */
+    private static final Map<String, Timing> timings = new TreeMap<>();
+
+    /**
+     * Current scheduler tick.
+     */
+    private static long tick = 0;
+
+    /**
+     * Counter keeping the queue order stable.
+     */
+    private static long sequence = 0;
+
+    /**
+     * Amount of ticks which ran out of budget with due work left.
+     */
+    private static long overBudgetTicks = 0;
+
+    /**
+     * Amount of times work was carried to the next tick.
+     */
+    private static long carried = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyTickScheduler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue work of a colony, unless the same work is still queued.
+     *
+     * @param colony the colony.
+     * @param name   the name of the work, also used for the timings.
+     * @param period the ticks between two runs of the work, limits the phase offset.
+     * @param work   the work.
+     */
+    public static void schedule(@NotNull final Colony colony, @NotNull final String name, final int period, @NotNull final Runnable work)
+    {
+        if (!queued.computeIfAbsent(colony, key -> new HashSet<>()).add(name))
+        {
+            return;
+        }
+
+        final int phase = Math.floorMod(colony.getID() * 0x9E3779B9 + name.hashCode(), Math.max(1, Math.min(period, MAX_PHASE)));
+        queue.add(new Task(colony, name, work, tick + phase, sequence++));
+    }
+
+    /**
+     * Drop all queued work of a colony, when it unloads or gets deleted.
+     *
+     * @param colony the colony.
+     */
+    public static void cancel(@NotNull final Colony colony)
+    {
+        if (queued.remove(colony) != null)
+        {
+            queue.removeIf(task -> task.colony == colony);
+        }
+    }
+
+    /**
+     * Run the due work within the budget, called at the end of every server tick.
+     */
+    public static void onServerTick()
+    {
+        tick++;
+        if (queue.isEmpty())
+        {
+            return;
+        }
+
+        final long budget = MineColonies.getConfig().getServer().colonyTickBudget.get() * 1000000L;
+        final long start = System.nanoTime();
+        boolean ranAny = false;
+        while (!queue.isEmpty() && queue.peek().dueTick <= tick)
+        {
+            if (ranAny && System.nanoTime() - start >= budget)
+            {
+                overBudgetTicks++;
+                for (final Task task : queue)
+                {
+                    if (task.dueTick <= tick)
+                    {
+                        carried++;
+                    }
+                }
+                return;
+            }
+
+            final Task task = queue.poll();
+            final Set<String> names = queued.get(task.colony);
+            if (names != null)
+            {
+                names.remove(task.name);
+            }
+
+            if (task.colony.getWorld() != null)
+            {
+                run(task);
+                ranAny = true;
+            }
+        }
+    }
+
+    /**
+     * Run a task and record its time.
+     *
+     * @param task the task.
+     */
+    private static void run(final Task task)
+    {
+        final long taskStart = System.nanoTime();
+        try
+        {
+            task.work.run();
+        }
+        catch (final RuntimeException e)
+        {
+            Log.getLogger().warn("Colony " + task.colony.getID() + " failed running " + task.name, e);
+        }
+        timings.computeIfAbsent(task.name, key -> new Timing()).add(System.nanoTime() - taskStart);
+    }
+
+    /**
+     * Get the timings of the work, by name.
+     *
+     * @return an unmodifiable view of the timings.
+     */
+    public static Map<String, Timing> getTimings()
+    {
+        return Collections.unmodifiableMap(timings);
+    }
+
+    /**
+     * Get the amount of queued work.
+     *
+     * @return the queue size.
+     */
+    public static int getQueueSize()
+    {
+        return queue.size();
+    }
+
+    /**
+     * Get the amount of ticks which ran out of budget with due work left.
+     *
+     * @return the amount.
+     */
+    public static long getOverBudgetTicks()
+    {
+        return overBudgetTicks;
+    }
+
+    /**
+     * Get the amount of times work was carried to the next tick.
+     *
+     * @return the amount.
+     */
+    public static long getCarried()
+    {
+        return carried;
+    }
+
+    /**
+     * Drop all queued work and timings, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        queue.clear();
+        queued.clear();
+        timings.clear();
+        tick = 0;
+        overBudgetTicks = 0;
+        carried = 0;
+    }
+
+    /**
+     * Run times of one kind of work.
+     */
+    public static final class Timing
+    {
+        private long count = 0;
+        private long total = 0;
+        private long max   = 0;
+
+        private void add(final long nanos)
+        {
+            count++;
+            total += nanos;
+            max = Math.max(max, nanos);
+        }
+
+        /**
+         * Get how often the work ran.
+         *
+         * @return the count.
+         */
+        public long getCount()
+        {
+            return count;
+        }
+
+        /**
+         * Get the average run time.
+         *
+         * @return the time in microseconds.
+         */
+        public long getAverageMicros()
+        {
+            return count == 0 ? 0 : total / count / 1000;
+        }
+
+        /**
+         * Get the longest run time.
+         *
+         * @return the time in microseconds.
+         */
+        public long getMaxMicros()
+        {
+            return max / 1000;
+        }
+    }
+
+    /**
+     * Queued work of a colony.
+     */
+    private static final class Task
+    {
+        private final Colony   colony;
+        private final String   name;
+        private final Runnable work;
+        private final long     dueTick;
+        private final long     sequence;
+
+        private Task(final Colony colony, final String name, final Runnable work, final long dueTick, final long sequence)
+        {
+            this.colony = colony;
+            this.name = name;
+            this.work = work;
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -65,7 +65,24 @@ public final class ColonyView implements IColonyView
     /**
      * Max allowed CompoundNBT in bytes
      */
-    private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
+    public static final int REQUEST_MANAGER_MAX_SIZE = 700000;
+
+    /**
+     * Sections of the network data, a view update only carries the sections which changed.
+     */
+    public static final int SECTION_GENERAL     = 1;
+    public static final int SECTION_FREE_BLOCKS = 1 << 1;
+    public static final int SECTION_WAYPOINTS   = 1 << 2;
+    public static final int SECTION_REQUESTS    = 1 << 3;
+    public static final int SECTION_DIPLOMACY   = 1 << 4;
+    public static final int SECTION_RESEARCH    = 1 << 5;
+    public static final int SECTION_TICKETS     = 1 << 6;
+    public static final int SECTION_GRAVES      = 1 << 7;
+
+    /**
+     * The amount of sections.
+     */
+    public static final int SECTION_COUNT = 8;
 
     //  General Attributes
     private final int                            id;
@@ -125,6 +142,11 @@ public final class ColonyView implements IColonyView
      */
     private int citizenCountWithEmptyGuardTowers = 0;
 
+    /**
+     * The citizen statistics, by statistic ordinal.
+     */
+    private final int[] citizenStatistics = new int[CitizenStatistic.values().length];
+
     /**
      * Check if the colony has a warehouse.
      */
@@ -245,15 +267,78 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Populate a network packet section representing a part of a ColonyView, see {@link #handleColonyViewMessage(PacketBuffer, World, boolean)}. The request system is
+     * written by the {@link com.minecolonies.coremod.colony.managers.ColonyViewDeltaTracker}.
+     *
+     * @param colony  Colony to write data about.
+     * @param section the section to write, one of the SECTION flags.
+     * @param buf     {@link PacketBuffer} to write data in.
+     */
+    public static void serializeSection(@NotNull final Colony colony, final int section, @NotNull final PacketBuffer buf)
+    {
+        switch (section)
+        {
+            case SECTION_GENERAL:
+                serializeGeneral(colony, buf);
+                break;
+            case SECTION_FREE_BLOCKS:
+                final Set<Block> freeBlocks = colony.getFreeBlocks();
+                final Set<BlockPos> freePos = colony.getFreePositions();
+
+                buf.writeInt(freeBlocks.size());
+                for (final Block block : freeBlocks)
+                {
+                    buf.writeUtf(block.getRegistryName().toString());
+                }
+
+                buf.writeInt(freePos.size());
+                for (final BlockPos block : freePos)
+                {
+                    buf.writeBlockPos(block);
+                }
+                break;
+            case SECTION_WAYPOINTS:
+                final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
+                buf.writeInt(waypoints.size());
+                for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+                {
+                    buf.writeBlockPos(block.getKey());
+                    buf.writeInt(Block.getId(block.getValue()));
+                }
+                break;
+            case SECTION_DIPLOMACY:
+                serializeDiplomacy(colony, buf);
+                break;
+            case SECTION_RESEARCH:
+                final CompoundNBT treeTag = new CompoundNBT();
+                colony.getResearchManager().writeToNBT(treeTag);
+                buf.writeNbt(treeTag);
+                break;
+            case SECTION_TICKETS:
+                buf.writeInt(colony.getTicketedChunks().size());
+                for (final long pos : colony.getTicketedChunks())
+                {
+                    buf.writeLong(pos);
+                }
+                break;
+            case SECTION_GRAVES:
+                final CompoundNBT graveTag = new CompoundNBT();
+                colony.getGraveManager().write(graveTag);
+                buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown colony view section: " + section);
+        }
+    }
+
+    /**
+     * Write the general attributes of the colony.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link PacketBuffer} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
+     * @param colony the colony.
+     * @param buf    the buffer to write to.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull PacketBuffer buf, boolean hasNewSubscribers)
+    private static void serializeGeneral(@NotNull final Colony colony, @NotNull final PacketBuffer buf)
     {
-        //  General Attributes
         buf.writeUtf(colony.getName());
         buf.writeUtf(colony.getDimension().location().toString());
         buf.writeBlockPos(colony.getCenter());
@@ -261,32 +346,13 @@ public final class ColonyView implements IColonyView
         //  Citizenry
         buf.writeInt(colony.getCitizenManager().getMaxCitizens());
         buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
-
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
+        for (final CitizenStatistic statistic : CitizenStatistic.values())
         {
-            buf.writeUtf(block.getRegistryName().toString());
+            buf.writeVarInt(colony.getCitizenManager().getStatistic(statistic));
         }
 
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            buf.writeBlockPos(block);
-        }
         buf.writeDouble(colony.getOverallHappiness());
         buf.writeBoolean(colony.hasWarehouse());
-
-        buf.writeInt(waypoints.size());
-        for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
-        {
-            buf.writeBlockPos(block.getKey());
-            buf.writeInt(Block.getId(block.getValue()));
-        }
-
         buf.writeInt(colony.getLastContactInHours());
         buf.writeBoolean(colony.isManualHousing());
         buf.writeBoolean(colony.canMoveIn());
@@ -294,22 +360,6 @@ public final class ColonyView implements IColonyView
 
         //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
-            {
-                Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
-
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
         for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
         {
@@ -329,6 +379,16 @@ public final class ColonyView implements IColonyView
         buf.writeUtf(colony.getStyle());
         buf.writeBoolean(colony.getRaiderManager().isRaided());
         buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+    }
+
+    /**
+     * Write the allies and feuds of the colony.
+     *
+     * @param colony the colony.
+     * @param buf    the buffer to write to.
+     */
+    private static void serializeDiplomacy(@NotNull final Colony colony, @NotNull final PacketBuffer buf)
+    {
         // ToDo: rework ally system
         final List<IColony> allies = new ArrayList<>();
         for (final Player player : colony.getPermissions().getFilteredPlayers(Rank::isColonyManager))
@@ -380,27 +440,6 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeUtf(col.getDimension().location().toString());
         }
-
-        final CompoundNBT treeTag = new CompoundNBT();
-        colony.getResearchManager().writeToNBT(treeTag);
-        buf.writeNbt(treeTag);
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
-
-        final CompoundNBT graveTag = new CompoundNBT();
-        colony.getGraveManager().write(graveTag);
-        buf.writeNbt(graveTag);     // this could be more efficient, but it should usually be short anyway
     }
 
     /**
@@ -717,6 +756,12 @@ public final class ColonyView implements IColonyView
         return citizenCountWithEmptyGuardTowers;
     }
 
+    @Override
+    public int getCitizenStatistic(@NotNull final CitizenStatistic statistic)
+    {
+        return citizenStatistics[statistic.ordinal()];
+    }
+
     /**
      * Getter for the citizens map.
      *
@@ -759,7 +804,7 @@ public final class ColonyView implements IColonyView
     }
 
     /**
-     * Populate a ColonyView from the network data.
+     * Populate a ColonyView from the network data, the data starts with the flags of the sections it contains, the other sections are left as they are.
      *
      * @param buf               {@link PacketBuffer} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
@@ -770,15 +815,6 @@ public final class ColonyView implements IColonyView
     public IMessage handleColonyViewMessage(@NotNull final PacketBuffer buf, @NotNull final World world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readUtf(32767);
-        dimensionId = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
-        center = buf.readBlockPos();
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
-
         if (isNewSubscription)
         {
             citizens.clear();
@@ -786,80 +822,120 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
+        final int sections = buf.readInt();
+        if ((sections & SECTION_GENERAL) != 0)
         {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
-        }
+            //  General Attributes
+            name = buf.readUtf(32767);
+            dimensionId = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
+            center = buf.readBlockPos();
+            manualHiring = buf.readBoolean();
+            //  Citizenry
+            citizenCount = buf.readInt();
+            citizenCountWithEmptyGuardTowers = buf.readInt();
+            for (int i = 0; i < citizenStatistics.length; i++)
+            {
+                citizenStatistics[i] = buf.readVarInt();
+            }
 
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
-        {
-            freePositions.add(buf.readBlockPos());
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
+            this.overallHappiness = buf.readDouble();
+            this.hasColonyWarehouse = buf.readBoolean();
+            this.lastContactInHours = buf.readInt();
+            this.manualHousing = buf.readBoolean();
+            this.moveIn = buf.readBoolean();
+            this.textureStyle = buf.readUtf(32767);
 
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+            lastSpawnPoints.clear();
+            final int barbSpawnListSize = buf.readInt();
+            for (int i = 0; i < barbSpawnListSize; i++)
+            {
+                lastSpawnPoints.add(buf.readBlockPos());
+            }
+            Collections.reverse(lastSpawnPoints);
+
+            this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+            this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+
+            this.printProgress = buf.readBoolean();
+
+            this.mercenaryLastUseTime = buf.readLong();
+
+            this.style = buf.readUtf(32767);
+
+            this.isUnderRaid = buf.readBoolean();
+            this.spiesEnabled = buf.readBoolean();
         }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
-        this.textureStyle = buf.readUtf(32767);
 
-        if (buf.readBoolean())
+        if ((sections & SECTION_FREE_BLOCKS) != 0)
         {
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+            freePositions.clear();
+            freeBlocks.clear();
+
+            final int blockListSize = buf.readInt();
+            for (int i = 0; i < blockListSize; i++)
+            {
+                freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readUtf(32767)))));
+            }
+
+            final int posListSize = buf.readInt();
+            for (int i = 0; i < posListSize; i++)
+            {
+                freePositions.add(buf.readBlockPos());
+            }
         }
 
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
+        if ((sections & SECTION_WAYPOINTS) != 0)
         {
-            lastSpawnPoints.add(buf.readBlockPos());
+            wayPoints.clear();
+            final int wayPointListSize = buf.readInt();
+            for (int i = 0; i < wayPointListSize; i++)
+            {
+                wayPoints.put(buf.readBlockPos(), Block.stateById(buf.readInt()));
+            }
         }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = TextFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readNbt().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
 
-        this.printProgress = buf.readBoolean();
-
-        this.mercenaryLastUseTime = buf.readLong();
+        if ((sections & SECTION_REQUESTS) != 0)
+        {
+            final boolean fullRequests = buf.readBoolean();
+            if (fullRequests || !(requestManager instanceof StandardRequestManager))
+            {
+                this.requestManager = new StandardRequestManager(this);
+            }
 
-        this.style = buf.readUtf(32767);
+            final StandardRequestManager standardRequestManager = (StandardRequestManager) requestManager;
+            if (buf.readBoolean())
+            {
+                standardRequestManager.deserializeStructure(StandardFactoryController.getInstance(), buf);
+            }
+            standardRequestManager.deserializeRequestChanges(StandardFactoryController.getInstance(), buf);
+        }
 
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
+        if ((sections & SECTION_DIPLOMACY) != 0)
+        {
+            this.allies = new ArrayList<>();
+            this.feuds = new ArrayList<>();
 
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
+            final int noOfAllies = buf.readInt();
+            for (int i = 0; i < noOfAllies; i++)
+            {
+                allies.add(new CompactColonyReference(buf.readUtf(32767), buf.readBlockPos(), buf.readInt(), buf.readBoolean(), RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            }
 
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
-        {
-            allies.add(new CompactColonyReference(buf.readUtf(32767), buf.readBlockPos(), buf.readInt(), buf.readBoolean(), RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            final int noOfFeuds = buf.readInt();
+            for (int i = 0; i < noOfFeuds; i++)
+            {
+                feuds.add(new CompactColonyReference(buf.readUtf(32767), buf.readBlockPos(), buf.readInt(), false, RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            }
         }
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
+        if ((sections & SECTION_RESEARCH) != 0)
         {
-            feuds.add(new CompactColonyReference(buf.readUtf(32767), buf.readBlockPos(), buf.readInt(), false, RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)))));
+            this.manager.readFromNBT(buf.readNbt());
         }
 
-        this.manager.readFromNBT(buf.readNbt());
-
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
+        if ((sections & SECTION_TICKETS) != 0)
         {
+            final int ticketChunkCount = buf.readInt();
             ticketedChunks = new HashSet<>(ticketChunkCount);
             for (int i = 0; i < ticketChunkCount; i++)
             {
@@ -867,7 +943,10 @@ public final class ColonyView implements IColonyView
             }
         }
 
-        this.graveManager.read(buf.readNbt());
+        if ((sections & SECTION_GRAVES) != 0)
+        {
+            this.graveManager.read(buf.readNbt());
+        }
 
         return null;
     }
@@ -411,6 +411,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         ConstructionTapeHelper.removeConstructionTape(getCorners(), world);
 
         getModules(IBuildingEventsModule.class).forEach(IBuildingEventsModule::onDestroyed);
+        itemIndex.clear();
     }
 
     /**
@@ -681,22 +682,19 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         buf.writeBoolean(isMirrored());
         buf.writeInt(getClaimRadius(getBuildingLevel()));
 
-        final CompoundNBT requestSystemCompound = new CompoundNBT();
-        writeRequestSystemToNBT(requestSystemCompound);
-
         final ImmutableCollection<IRequestResolver<?>> resolvers = getResolvers();
         buf.writeInt(resolvers.size());
         for (final IRequestResolver<?> resolver : resolvers)
         {
-            buf.writeNbt(StandardFactoryController.getInstance().serialize(resolver.getId()));
+            StandardFactoryController.getInstance().serialize(buf, resolver.getId());
         }
-        buf.writeNbt(StandardFactoryController.getInstance().serialize(getId()));
+        StandardFactoryController.getInstance().serialize(buf, getId());
         buf.writeInt(containerList.size());
         for (BlockPos blockPos : containerList)
         {
             buf.writeBlockPos(blockPos);
         }
-        buf.writeNbt(requestSystemCompound);
+        StandardFactoryController.getInstance().serialize(buf, rsDataStoreToken);
 
         buf.writeBoolean(isDeconstructed());
 
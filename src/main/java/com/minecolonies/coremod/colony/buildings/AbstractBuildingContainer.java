@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.IBuildingContainer;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
@@ -48,6 +49,11 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
      */
     protected final List<BlockPos> containerList = new ArrayList<>();
 
+    /**
+     * Index of the items in the racks of the building.
+     */
+    protected final BuildingItemIndex itemIndex = new BuildingItemIndex();
+
     /**
      * List of items the worker should keep. With the quantity and if he should keep it in the inventory as well.
      */
@@ -133,6 +139,10 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
         if (!containerList.contains(pos))
         {
             containerList.add(pos);
+            if (itemIndex.isInitialized())
+            {
+                itemIndex.addContainer(colony.getWorld(), pos);
+            }
         }
     }
 
@@ -140,6 +150,20 @@ public abstract class AbstractBuildingContainer extends AbstractSchematicProvide
     public void removeContainerPosition(final BlockPos pos)
     {
         containerList.remove(pos);
+        if (!pos.equals(getPosition()))
+        {
+            itemIndex.removeContainer(pos);
+        }
+    }
+
+    @Override
+    public BuildingItemIndex getItemIndex()
+    {
+        if (!itemIndex.isInitialized() && colony.getWorld() != null)
+        {
+            itemIndex.initialize(colony.getWorld(), getContainers());
+        }
+        return itemIndex;
     }
 
     @Override
@@ -45,7 +45,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-import static com.minecolonies.api.research.util.ResearchConstants.ARCHER_USE_ARROWS;
+import static com.minecolonies.api.research.util.ResearchConstants.ARCHER_USE_ARROWS_ID;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.coremod.util.ServerUtils.getPlayerFromUUID;
@@ -176,7 +176,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuilding implements
                 return false;
             }
 
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS_ID) > 0;
         }, new Tuple<>(128, true));
     }
 
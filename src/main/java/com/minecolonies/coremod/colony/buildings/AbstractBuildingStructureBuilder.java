@@ -323,6 +323,27 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuilding
         this.markDirty();
     }
 
+    /**
+     * Get the key of the structure the needed resources were calculated for.
+     *
+     * @return the key, empty if they are not calculated.
+     */
+    public String getRequirementsKey()
+    {
+        return getFirstModuleOccurance(BuildingResourcesModule.class).getRequirementsKey();
+    }
+
+    /**
+     * Mark the needed resources as completely calculated for a structure.
+     *
+     * @param requirementsKey the key of the structure.
+     */
+    public void setRequirementsKey(@NotNull final String requirementsKey)
+    {
+        getFirstModuleOccurance(BuildingResourcesModule.class).setRequirementsKey(requirementsKey);
+        this.markDirty();
+    }
+
     /**
      * Check if the structureBuilder requires a certain ItemStack for the current construction.
      *
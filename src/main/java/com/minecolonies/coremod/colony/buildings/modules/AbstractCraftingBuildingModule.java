@@ -30,6 +30,7 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.PublicWorkerCraft
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PublicWorkerCraftingRequestResolver;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.loot.LootContext;
 import net.minecraft.loot.LootParameters;
@@ -49,7 +50,7 @@ import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static com.minecolonies.api.research.util.ResearchConstants.RECIPES;
+import static com.minecolonies.api.research.util.ResearchConstants.RECIPES_ID;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_RECIPES;
 import static com.minecolonies.api.util.constant.TranslationConstants.RECIPE_IMPROVED;
 
@@ -143,11 +144,11 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         final double increase;
         if(canLearnLargeRecipes() || canLearnFurnaceRecipes())
         {
-            increase = (1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPES)) * EXTRA_RECIPE_MULTIPLIER;
+            increase = (1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPES_ID)) * EXTRA_RECIPE_MULTIPLIER;
         }
         else
         {
-            increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPES);
+            increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPES_ID);
         }
         return (int) (Math.pow(2, building.getBuildingLevel()) * increase);
     }
@@ -241,7 +242,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         final Map<ResourceLocation, CustomRecipe> crafterRecipes = CustomRecipeManager.getInstance().getAllRecipes().getOrDefault(getCustomRecipeKey(), Collections.emptyMap());
         for (final IToken<?> token : new ArrayList<>(recipes))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
 
             if (storage == null || (storage.getRecipeSource() != null && !crafterRecipes.containsKey(storage.getRecipeSource())) || (!isRecipeCompatibleWithCraftingModule(token) && !isPreTaughtRecipe(storage, crafterRecipes)))
             {
@@ -256,7 +257,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         buf.writeInt(storages.size());
         for (final IRecipeStorage storage : storages)
         {
-            buf.writeNbt(StandardFactoryController.getInstance().serialize(storage));
+            StandardFactoryController.getInstance().serialize(buf, storage);
         }
         buf.writeInt(getMaxRecipes());
         buf.writeUtf(getId());
@@ -329,7 +330,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 for (final IToken<?> taskToken : assignedTasks)
                 {
                     final IRequest<? extends PublicCrafting> request = (IRequest<? extends PublicCrafting>) building.getColony().getRequestManager().getRequestForToken(taskToken);
-                    final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(request.getRequest().getRecipeID());
+                    final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(request.getRequest().getRecipeID());
                     if (holdsRecipe(request.getRequest().getRecipeID()) && recipeStorage != null)
                     {
                         recipes.add(new Tuple<>(recipeStorage, request.getRequest().getCount()));
@@ -359,7 +360,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 return true;
             }
 
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (recipeStorage != null)
             {
                 building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
@@ -395,7 +396,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                         duplicateFound = token;
                         break;
                     }
-                    final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                    final IRecipeStorage storage = recipeManager.getRecipe(token);
 
                     //Let's verify that this recipe doesn't exist in an improved form
                     if(storage != null && storage.getPrimaryOutput().equals(recipeStorage.getPrimaryOutput(), true))
@@ -456,7 +457,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                     final List<ItemStack> alternates = recipeStorage.getAlternateOutputs();
                     for(IToken<?> token : recipes)
                     {
-                        final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                        final IRecipeStorage storage = recipeManager.getRecipe(token);
                         if(storage.getRecipeType() instanceof ClassicRecipe && ItemStackUtils.compareItemStackListIgnoreStackSize(alternates, storage.getPrimaryOutput(), false, true))
                         {
                             removeRecipe(token);
@@ -483,6 +484,19 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         recipes.clear();
     }
 
+    @Override
+    public boolean canCraftItem(@NotNull final Item item)
+    {
+        for (final IToken<?> token : IColonyManager.getInstance().getRecipeManager().getRecipesForOutput(item))
+        {
+            if (recipes.contains(token))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void improveRecipe(IRecipeStorage recipe, int count, ICitizenData citizen)
     {
@@ -557,7 +571,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
         for (final IToken<?> token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(stackPredicate::test)))
             {
                 if(foundRecipe == null)
@@ -582,7 +596,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
         if(foundRecipe != null && foundRecipe.getRecipeType() instanceof MultiOutputRecipe)
         {
             IToken<?> token = IColonyManager.getInstance().getRecipeManager().checkOrAddRecipe(foundRecipe.getClassicForMultiOutput(stackPredicate));
-            foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            foundRecipe = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
         }
 
         return foundRecipe;
@@ -637,7 +651,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     {
         for (final IToken<?> token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
             {
                 final Set<IItemHandler> handlers = new HashSet<>();
@@ -696,7 +710,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
     {
         for (final IToken<?> token : recipes)
         {
-            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (recipeStorage != null)
             {
                 building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(recipeStorage.getPrimaryOutput()));
@@ -21,15 +21,16 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
 import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.items.CapabilityItemHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CURR_STAGE;
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_TOTAL_STAGES;
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABILITY;
 
 /**
@@ -53,11 +54,51 @@ public class BuildingResourcesModule extends AbstractBuildingModule implements I
     private int totalStages = 0;
     private int currentStage = 0;
 
+    /**
+     * Identifies the structure the needed resources were calculated for, empty if not calculated.
+     */
+    private String requirementsKey = "";
+
     @Override
     public void deserializeNBT(final CompoundNBT compound)
     {
         currentStage = compound.getInt(TAG_CURR_STAGE);
         totalStages = compound.getInt(TAG_TOTAL_STAGES);
+
+        requirementsKey = compound.getString(TAG_REQUIREMENTS_KEY);
+        if (requirementsKey.isEmpty())
+        {
+            return;
+        }
+
+        neededResources.clear();
+        final ListNBT resourceList = compound.getList(TAG_NEEDED_RESOURCES, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < resourceList.size(); i++)
+        {
+            final CompoundNBT resourceCompound = resourceList.getCompound(i);
+            final ItemStack stack = ItemStack.of(resourceCompound);
+            if (!ItemStackUtils.isEmpty(stack))
+            {
+                final int hashCode = stack.hasTag() ? stack.getTag().hashCode() : 0;
+                neededResources.put(stack.getDescriptionId() + "-" + hashCode, new BuildingBuilderResource(stack, resourceCompound.getInt(TAG_QUANTITY)));
+            }
+        }
+
+        buckets.clear();
+        final ListNBT bucketList = compound.getList(TAG_BUCKETS, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < bucketList.size(); i++)
+        {
+            final CompoundNBT bucketCompound = bucketList.getCompound(i);
+            final BuilderBucket bucket = new BuilderBucket();
+            bucket.setTotalStacks(bucketCompound.getInt(TAG_TOTAL_STACKS));
+            final ListNBT bucketResources = bucketCompound.getList(TAG_NEEDED_RESOURCES, Constants.NBT.TAG_COMPOUND);
+            for (int j = 0; j < bucketResources.size(); j++)
+            {
+                final CompoundNBT entryCompound = bucketResources.getCompound(j);
+                bucket.addOrAdjustResource(entryCompound.getString(TAG_NAME), entryCompound.getInt(TAG_QUANTITY));
+            }
+            buckets.add(bucket);
+        }
     }
 
     @Override
@@ -65,6 +106,62 @@ public class BuildingResourcesModule extends AbstractBuildingModule implements I
     {
         compound.putInt(TAG_TOTAL_STAGES, totalStages);
         compound.putInt(TAG_CURR_STAGE, currentStage);
+
+        if (requirementsKey.isEmpty())
+        {
+            return;
+        }
+
+        compound.putString(TAG_REQUIREMENTS_KEY, requirementsKey);
+        final ListNBT resourceList = new ListNBT();
+        for (final BuildingBuilderResource resource : neededResources.values())
+        {
+            final CompoundNBT resourceCompound = new CompoundNBT();
+            resource.getItemStack().save(resourceCompound);
+            resourceCompound.putInt(TAG_QUANTITY, resource.getAmount());
+            resourceList.add(resourceCompound);
+        }
+        compound.put(TAG_NEEDED_RESOURCES, resourceList);
+
+        final ListNBT bucketList = new ListNBT();
+        for (final BuilderBucket bucket : buckets)
+        {
+            final CompoundNBT bucketCompound = new CompoundNBT();
+            bucketCompound.putInt(TAG_TOTAL_STACKS, bucket.getTotalStacks());
+            final ListNBT bucketResources = new ListNBT();
+            for (final Map.Entry<String, Integer> entry : bucket.getResourceMap().entrySet())
+            {
+                final CompoundNBT entryCompound = new CompoundNBT();
+                entryCompound.putString(TAG_NAME, entry.getKey());
+                entryCompound.putInt(TAG_QUANTITY, entry.getValue());
+                bucketResources.add(entryCompound);
+            }
+            bucketCompound.put(TAG_NEEDED_RESOURCES, bucketResources);
+            bucketList.add(bucketCompound);
+        }
+        compound.put(TAG_BUCKETS, bucketList);
+    }
+
+    /**
+     * Get the key of the structure the needed resources were calculated for.
+     *
+     * @return the key, empty if they are not calculated.
+     */
+    public String getRequirementsKey()
+    {
+        return requirementsKey;
+    }
+
+    /**
+     * Mark the needed resources as completely calculated for a structure. They are kept over restarts and updated as blocks are placed, so the calculation does not have to
+     * run again while the key stays the same.
+     *
+     * @param requirementsKey the key of the structure.
+     */
+    public void setRequirementsKey(@NotNull final String requirementsKey)
+    {
+        this.requirementsKey = requirementsKey;
+        this.markDirty();
     }
 
     /**
@@ -308,6 +405,7 @@ public class BuildingResourcesModule extends AbstractBuildingModule implements I
     {
         neededResources = new HashMap<>();
         buckets.clear();
+        requirementsKey = "";
         this.markDirty();
     }
 
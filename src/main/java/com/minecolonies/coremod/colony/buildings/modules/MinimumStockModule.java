@@ -23,7 +23,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 import java.util.function.Predicate;
 
-import static com.minecolonies.api.research.util.ResearchConstants.MINIMUM_STOCK;
+import static com.minecolonies.api.research.util.ResearchConstants.MINIMUM_STOCK_ID;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_QUANTITY;
 
 /**
@@ -53,7 +53,7 @@ public class MinimumStockModule extends AbstractBuildingModule implements IMinim
      */
     private int minimumStockSize()
     {
-        final double increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MINIMUM_STOCK);
+        final double increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MINIMUM_STOCK_ID);
 
         return (int) (building.getBuildingLevel() * STOCK_PER_LEVEL * increase);
     }
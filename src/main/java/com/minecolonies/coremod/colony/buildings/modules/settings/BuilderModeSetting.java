@@ -6,7 +6,7 @@ import com.minecolonies.api.colony.buildings.modules.settings.ISettingsModuleVie
 
 import java.util.List;
 
-import static com.minecolonies.api.research.util.ResearchConstants.BUILDER_MODE;
+import static com.minecolonies.api.research.util.ResearchConstants.BUILDER_MODE_ID;
 
 /**
  * Stores the builder mode setting.
@@ -36,6 +36,6 @@ public class BuilderModeSetting extends StringSetting
     @Override
     public boolean isActive(final ISettingsModuleView module)
     {
-        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(BUILDER_MODE) > 0;
+        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(BUILDER_MODE_ID) > 0;
     }
 }
@@ -3,7 +3,7 @@ package com.minecolonies.coremod.colony.buildings.modules.settings;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingsModuleView;
 import java.util.List;
 
-import static com.minecolonies.api.research.util.ResearchConstants.RECIPE_MODE;
+import static com.minecolonies.api.research.util.ResearchConstants.RECIPE_MODE_ID;
 
 /**
  * Stores the recipe setting for crafters.
@@ -37,6 +37,6 @@ public class CrafterRecipeSetting extends StringSettingWithDesc
     @Override
     public boolean isActive(final ISettingsModuleView module)
     {
-        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPE_MODE) > 0;
+        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPE_MODE_ID) > 0;
     }
 }
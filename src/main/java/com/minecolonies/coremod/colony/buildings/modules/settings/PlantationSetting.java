@@ -17,7 +17,7 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 
 import java.util.List;
 
-import static com.minecolonies.api.research.util.ResearchConstants.PLANT_2;
+import static com.minecolonies.api.research.util.ResearchConstants.PLANT_2_ID;
 
 /**
  * Stores the string-list setting (Like enum, but easily serializable).
@@ -58,7 +58,7 @@ public class PlantationSetting extends StringSetting
       final ISettingsModuleView settingsModuleView,
       final IBuildingView building, final Window window)
     {
-        hasResearch = building.getColony().getResearchManager().getResearchEffects().getEffectStrength(PLANT_2) > 0;
+        hasResearch = building.getColony().getResearchManager().getResearchEffects().getEffectStrength(PLANT_2_ID) > 0;
         Loader.createFromXMLFile("minecolonies:gui/layouthuts/layoutstringsetting.xml", (View) pane);
         pane.findPaneOfTypeByID("id", Text.class).setText(key.getUniqueId().toString());
         pane.findPaneOfTypeByID("trigger", ButtonImage.class).setHandler(button -> settingsModuleView.trigger(key));
@@ -74,7 +74,7 @@ public class CraftingModuleView extends AbstractBuildingModuleView
         final int recipesSize = buf.readInt();
         for (int i = 0; i < recipesSize; i++)
         {
-            final IRecipeStorage storage = StandardFactoryController.getInstance().deserialize(buf.readNbt());
+            final IRecipeStorage storage = StandardFactoryController.getInstance().deserialize(buf);
             if (storage != null)
             {
                 recipes.add(storage);
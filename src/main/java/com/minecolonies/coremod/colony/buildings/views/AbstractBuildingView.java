@@ -22,7 +22,6 @@ import com.minecolonies.coremod.client.gui.huts.WindowHutWorkerModulePlaceholder
 import com.minecolonies.coremod.colony.buildings.moduleviews.WorkerBuildingModuleView;
 import com.minecolonies.coremod.network.messages.server.colony.OpenInventoryMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.HutRenameMessage;
-import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.IFormattableTextComponent;
@@ -36,7 +35,6 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.BuildingConstants.NO_WORK_ORDER;
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_RS_BUILDING_DATASTORE;
 import static com.minecolonies.api.util.constant.Suppression.GENERIC_WILDCARD;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
@@ -404,26 +402,22 @@ public abstract class AbstractBuildingView implements IBuildingView
         final int resolverSize = buf.readInt();
         for (int i = 0; i < resolverSize; i++)
         {
-            final CompoundNBT compound = buf.readNbt();
-            if (compound != null)
+            final IToken<?> token = StandardFactoryController.getInstance().deserialize(buf);
+            if (token != null)
             {
-                list.add(StandardFactoryController.getInstance().deserialize(compound));
+                list.add(token);
             }
         }
 
         resolvers = ImmutableList.copyOf(list);
-        final CompoundNBT compound = buf.readNbt();
-        if (compound != null)
-        {
-            requesterId = StandardFactoryController.getInstance().deserialize(compound);
-        }
+        requesterId = StandardFactoryController.getInstance().deserialize(buf);
         containerlist.clear();
         final int racks = buf.readInt();
         for (int i = 0; i < racks; i++)
         {
             containerlist.add(buf.readBlockPos());
         }
-        loadRequestSystemFromNBT(buf.readNbt());
+        rsDataStoreToken = StandardFactoryController.getInstance().deserialize(buf);
         isDeconstructed = buf.readBoolean();
 
         for (final IBuildingModuleView module: moduleViews)
@@ -432,11 +426,6 @@ public abstract class AbstractBuildingView implements IBuildingView
         }
     }
 
-    private void loadRequestSystemFromNBT(final CompoundNBT compound)
-    {
-        this.rsDataStoreToken = StandardFactoryController.getInstance().deserialize(compound.getCompound(TAG_RS_BUILDING_DATASTORE));
-    }
-
     private IRequestSystemBuildingDataStore getDataStore()
     {
         return colony.getRequestManager().getDataStoreManager().get(rsDataStoreToken, TypeConstants.REQUEST_SYSTEM_BUILDING_DATA_STORE);
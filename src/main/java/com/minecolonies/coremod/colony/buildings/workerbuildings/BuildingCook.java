@@ -391,6 +391,12 @@ public class BuildingCook extends AbstractBuilding
             return null;
         }
 
+        @Override
+        public boolean canCraftItem(@NotNull final Item item)
+        {
+            return super.canCraftItem(item) || FurnaceRecipes.getInstance().getFirstSmeltingRecipeByResult(stack -> stack.getItem() == item) != null;
+        }
+
         @Override
         public IRecipeStorage getFirstFulfillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
         {
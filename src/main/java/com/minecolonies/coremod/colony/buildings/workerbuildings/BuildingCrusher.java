@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.colony.buildings.workerbuildings;
 
-import com.google.common.collect.ImmutableMap;
 import com.ldtteam.blockout.views.Window;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -27,7 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static com.minecolonies.api.research.util.ResearchConstants.CRUSHING_11;
+import static com.minecolonies.api.research.util.ResearchConstants.CRUSHING_11_ID;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
@@ -104,10 +103,9 @@ public class BuildingCrusher extends AbstractBuilding
         final CraftingModule module =  getFirstModuleOccurance(CraftingModule.class);
 
         this.crusherRecipes.clear();
-        final ImmutableMap<IToken<?>, IRecipeStorage> recipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
         for (final IToken<?> token : module.getRecipes())
         {
-            final IRecipeStorage storage = recipes.get(token);
+            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
             if (storage == null) continue; //wat
 
             final ItemStorage key = storage.getCleanedInput().get(0);
@@ -239,7 +237,7 @@ public class BuildingCrusher extends AbstractBuilding
     {
         super.serializeToView(buf);
 
-        final boolean oneOne = getColony().getResearchManager().getResearchEffects().getEffectStrength(CRUSHING_11) > 0;
+        final boolean oneOne = getColony().getResearchManager().getResearchEffects().getEffectStrength(CRUSHING_11_ID) > 0;
         if (crusherRecipes.isEmpty() || oneByOne != oneOne)
         {
             loadCrusherMode();
@@ -19,6 +19,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.modules.AbstractCraftingBuildingModule;
 import net.minecraft.block.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.tags.ItemTags;
@@ -127,6 +128,12 @@ public class BuildingDyer extends AbstractBuilding
             return recipe;
         }
 
+        @Override
+        public boolean canCraftItem(@NotNull final Item item)
+        {
+            return item == Items.WHITE_WOOL || super.canCraftItem(item);
+        }
+
         @Override
         public boolean holdsRecipe(final IToken<?> token)
         {
@@ -154,7 +161,7 @@ public class BuildingDyer extends AbstractBuilding
                 {
                     IToken<?> token = getTokenForWool(color);
 
-                    final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+                    final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(token);
 
                     IRecipeStorage toTest = storage.getRecipeType() instanceof MultiOutputRecipe ? storage.getClassicForMultiOutput(stackPredicate) : storage;
                     if (toTest.canFullFillRecipe(count, considerReservation ? reservedStacks() : Collections.emptyMap(), new ArrayList<>(handlers), building))
@@ -29,7 +29,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 
-import static com.minecolonies.api.research.util.ResearchConstants.PLANT_2;
+import static com.minecolonies.api.research.util.ResearchConstants.PLANT_2_ID;
 import static com.minecolonies.api.util.constant.BuildingConstants.CONST_DEFAULT_MAX_BUILDING_LEVEL;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
@@ -162,7 +162,7 @@ public class BuildingPlantation extends AbstractBuilding
      */
     public Item nextPlantPhase()
     {
-        if (getColony().getResearchManager().getResearchEffects().getEffectStrength(PLANT_2) > 0)
+        if (getColony().getResearchManager().getResearchEffects().getEffectStrength(PLANT_2_ID) > 0)
         {
             int next = settings.indexOf(currentPhase);
 
@@ -548,7 +548,7 @@ public class CustomRecipe
             {
                 for (IToken<?> recipeToken : module.getRecipes())
                 {
-                    final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(recipeToken);
+                    final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipe(recipeToken);
                     if ((storage.getRecipeSource() != null && storage.getRecipeSource().equals(recipeSource)) || (
                       ItemStackUtils.compareItemStacksIgnoreStackSize(storage.getPrimaryOutput(), compareStorage.getPrimaryOutput(), false, true) &&
                         storage.getCleanedInput().containsAll(compareStorage.getCleanedInput())
@@ -609,7 +609,7 @@ public class CustomRecipe
             IToken<?> cachedRecipeToken = recipeManager.getRecipeId(cachedRecipeStorage);
             if(cachedRecipeToken != null && !cachedRecipeToken.equals(cachedRecipeStorage.getToken()))
             {
-                cachedRecipeStorage = (RecipeStorage) recipeManager.getRecipes().get(cachedRecipeToken);
+                cachedRecipeStorage = (RecipeStorage) recipeManager.getRecipe(cachedRecipeToken);
             }
             recipeManager.registerUse(cachedRecipeStorage.getToken());
         }
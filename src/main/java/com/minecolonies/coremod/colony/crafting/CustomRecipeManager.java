@@ -7,7 +7,7 @@ import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.loot.ModLootTables;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.buildings.modules.AnimalHerdingModule;
-import io.netty.buffer.Unpooled;
+import com.minecolonies.coremod.util.CachedPayload;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -55,6 +55,11 @@ public class CustomRecipeManager
      */
     private final Map<ResourceLocation, List<LootTableAnalyzer.LootDrop>> lootTables = new HashMap<>();
 
+    /**
+     * The serialized recipes sent to clients, invalidated whenever the recipes or loot data change.
+     */
+    private final CachedPayload networkPayload = new CachedPayload(this::serializeNetworkData);
+
     private CustomRecipeManager()
     {
     }
@@ -75,6 +80,7 @@ public class CustomRecipeManager
      */
     public void addRecipe(@NotNull final CustomRecipe recipe)
     {
+        networkPayload.invalidate();
         if(!recipeMap.containsKey(recipe.getCrafter()))
         {
             recipeMap.put(recipe.getCrafter(), new HashMap<>());
@@ -105,6 +111,7 @@ public class CustomRecipeManager
     {
         if(!removedRecipes.contains(toRemove))
         {
+            networkPayload.invalidate();
             removedRecipes.add(toRemove);
         }
     }
@@ -115,6 +122,7 @@ public class CustomRecipeManager
      */
     public void reset()
     {
+        networkPayload.invalidate();
         recipeMap.clear();
     }
 
@@ -224,6 +232,7 @@ public class CustomRecipeManager
             }
 
             removedRecipes.clear();
+            networkPayload.invalidate();
         }
     }
 
@@ -258,6 +267,7 @@ public class CustomRecipeManager
         lootIds.add(ModLootTables.FISHING);
         lootIds.addAll(ModLootTables.FISHERMAN_BONUS.values());
 
+        networkPayload.invalidate();
         lootTables.clear();
         lootTables.putAll(lootIds.stream()
                 .filter(Objects::nonNull)   // just in case
@@ -268,13 +278,21 @@ public class CustomRecipeManager
 
     /**
      * Sends relevant Custom Recipes loaded from the Custom Recipe Manager to the client.
+     * Only the content hash is sent, the client requests the data if it has no persisted copy of it.
      * @param player the player to send the new data to.
      */
     public void sendCustomRecipeManagerPackets(final ServerPlayerEntity player)
     {
-        final PacketBuffer recipeMgrPacketBuffer = new PacketBuffer(Unpooled.buffer());
-        serializeNetworkData(recipeMgrPacketBuffer);
-        Network.getNetwork().sendToPlayer(new CustomRecipeManagerMessage(recipeMgrPacketBuffer), player);
+        Network.getNetwork().sendToPlayer(new CustomRecipeManagerMessage(networkPayload.getHash(), null), player);
+    }
+
+    /**
+     * Sends the full Custom Recipe Manager data to the client, when it requested it.
+     * @param player the player to send the data to.
+     */
+    public void sendCustomRecipeManagerData(final ServerPlayerEntity player)
+    {
+        Network.getNetwork().sendToPlayer(new CustomRecipeManagerMessage(networkPayload.getHash(), networkPayload.getData()), player);
     }
 
     /**
@@ -288,6 +306,8 @@ public class CustomRecipeManager
         // For safety with arbitrary data packs (or sets of data packs), we can not wrap the entire CustomRecipeManager into single ListNBT.
         // Including all recipes in transfer results in total transfer size around ~670KB for just Minecolonies + Structurize recipes.
         // See CustomRecipeFactory.serialize for last tested numbers and more precise breakdown.
+        // Apply pending removals first, so the cached payload and its hash don't change when they are applied later.
+        removeRecipes();
         recipeMgrPacketBuffer.writeVarInt(recipeMap.size());
         for (Map.Entry<String, Map<ResourceLocation, CustomRecipe>> crafter : recipeMap.entrySet())
         {
@@ -318,6 +338,7 @@ public class CustomRecipeManager
      */
     public void handleCustomRecipeManagerMessage(final PacketBuffer buff)
     {
+        networkPayload.invalidate();
         recipeOutputMap.clear();
         recipeMap.clear();
         lootTables.clear();
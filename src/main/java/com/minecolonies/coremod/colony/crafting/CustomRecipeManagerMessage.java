@@ -1,6 +1,10 @@
 package com.minecolonies.coremod.colony.crafting;
 
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.server.SyncPayloadRequestMessage;
+import com.minecolonies.coremod.util.CachedPayload;
+import io.netty.buffer.Unpooled;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.api.distmarker.Dist;
@@ -10,15 +14,29 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+
 /**
  * The message used to synchronize crafter recipes from a server to a client.
+ * The server first only sends the content hash of the recipes, the client applies its persisted copy with that hash or requests the data, which is then persisted.
  */
 public class CustomRecipeManagerMessage implements IMessage
 {
     /**
-     * The buffer with the data.
+     * The name of the persisted client copy.
      */
-    private PacketBuffer managerBuffer;
+    private static final String PAYLOAD_NAME = "customrecipes";
+
+    /**
+     * The content hash of the recipe data.
+     */
+    private long hash;
+
+    /**
+     * The recipe data, null if only the hash is sent.
+     */
+    @Nullable
+    private byte[] managerData;
 
     /**
      * Empty constructor used when registering the message
@@ -31,23 +49,32 @@ public class CustomRecipeManagerMessage implements IMessage
     /**
      * Add or Update a CustomRecipeManager on the client.
      *
-     * @param buf               the bytebuffer.
+     * @param hash        the content hash of the recipe data.
+     * @param managerData the recipe data, or null to only send the hash.
      */
-    public CustomRecipeManagerMessage(final PacketBuffer buf)
+    public CustomRecipeManagerMessage(final long hash, @Nullable final byte[] managerData)
     {
-        this.managerBuffer = new PacketBuffer(buf.copy());
+        super();
+        this.hash = hash;
+        this.managerData = managerData;
     }
 
     @Override
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
-        managerBuffer = new PacketBuffer(buf.retain());
+        hash = buf.readLong();
+        managerData = buf.readBoolean() ? buf.readByteArray() : null;
     }
 
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
-        buf.writeBytes(managerBuffer);
+        buf.writeLong(hash);
+        buf.writeBoolean(managerData != null);
+        if (managerData != null)
+        {
+            buf.writeByteArray(managerData);
+        }
     }
 
     @Nullable
@@ -61,10 +88,27 @@ public class CustomRecipeManagerMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        if (Minecraft.getInstance().level != null)
+        if (Minecraft.getInstance().level == null)
+        {
+            return;
+        }
+
+        final File directory = new File(Minecraft.getInstance().gameDirectory, CachedPayload.CLIENT_DIRECTORY);
+        byte[] data = managerData;
+        if (data == null)
+        {
+            data = CachedPayload.loadClientCopy(directory, PAYLOAD_NAME, hash);
+            if (data == null)
+            {
+                Network.getNetwork().sendToServer(new SyncPayloadRequestMessage(SyncPayloadRequestMessage.Payload.CUSTOM_RECIPES));
+                return;
+            }
+        }
+        else
         {
-            CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(managerBuffer);
+            CachedPayload.saveClientCopy(directory, PAYLOAD_NAME, hash, data);
         }
-        managerBuffer.release();
+
+        CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(new PacketBuffer(Unpooled.wrappedBuffer(data)));
     }
-}
\ No newline at end of file
+}
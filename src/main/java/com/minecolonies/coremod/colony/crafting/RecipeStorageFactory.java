@@ -162,7 +162,7 @@ public class RecipeStorageFactory implements IRecipeStorageFactory
         for (int i = 0; i < inputTagList.size(); ++i)
         {
             final CompoundNBT inputTag = inputTagList.getCompound(i);
-            if(inputTag.contains("Type")) //Check to see if it's something the factorycontroller can handle
+            if(inputTag.contains(StandardFactoryController.NBT_TYPE) || inputTag.contains(StandardFactoryController.NBT_ID)) //Check to see if it's something the factorycontroller can handle
             {
                 input.add(StandardFactoryController.getInstance().deserialize(inputTag));
             }
@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -68,13 +69,22 @@ public abstract class AbstractJobStructure<AI extends AbstractAISkeleton<J>, J e
     }
 
     /**
-     * Set the structure of the structure job.
+     * Set the structure of the structure job, releasing the previous one to the blueprint cache.
      *
      * @param blueprint {@link Blueprint} object
      */
     public void setBlueprint(final Blueprint blueprint)
     {
+        final Blueprint previous = this.blueprint;
         this.blueprint = blueprint;
+        BlueprintCache.release(previous);
+    }
+
+    @Override
+    public void onRemoval()
+    {
+        super.onRemoval();
+        setBlueprint(null);
     }
 
     /**
@@ -7,7 +7,7 @@ import com.minecolonies.coremod.entity.ai.citizen.miner.EntityAIStructureMiner;
 import net.minecraft.util.DamageSource;
 import org.jetbrains.annotations.NotNull;
 
-import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
+import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES_ID;
 
 /**
  * Special miner job. Defines miner model and specialized job behaviour.
@@ -54,7 +54,7 @@ public class JobMiner extends AbstractJobStructure<EntityAIStructureMiner, JobMi
     {
         if (damageSource == DamageSource.LAVA || damageSource == DamageSource.IN_FIRE || damageSource == DamageSource.ON_FIRE)
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_ID) > 0;
         }
 
         return super.ignoresDamage(damageSource);
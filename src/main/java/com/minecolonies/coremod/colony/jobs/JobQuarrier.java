@@ -13,7 +13,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
-import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
+import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES_ID;
 
 /**
  * Special quarrier job. Defines miner model and specialized job behaviour.
@@ -84,7 +84,7 @@ public class JobQuarrier extends AbstractJobStructure<EntityAIQuarrier, JobQuarr
     {
         if (damageSource == DamageSource.LAVA || damageSource == DamageSource.IN_FIRE || damageSource == DamageSource.ON_FIRE)
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_ID) > 0;
         }
 
         return super.ignoresDamage(damageSource);
@@ -240,6 +240,7 @@ public class BuildingManager implements IBuildingManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        colony.setSaveDirty(true);
     }
 
     @Override
@@ -691,6 +692,7 @@ public class BuildingManager implements IBuildingManager
     private void markFieldsDirty()
     {
         isFieldsDirty = true;
+        colony.setSaveDirty(true);
     }
 
     /**
@@ -736,13 +738,16 @@ public class BuildingManager implements IBuildingManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+
+            final List<IBuilding> toSend = new ArrayList<>();
             for (@NotNull final IBuilding building : buildings.values())
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    toSend.add(building);
                 }
             }
+            sendBuildingViews(toSend, players);
         }
     }
 
@@ -762,13 +767,35 @@ public class BuildingManager implements IBuildingManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+
+            final List<IBuilding> toSend = new ArrayList<>();
             for (final IBuilding building : buildings.values())
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    toSend.add(building);
                 }
             }
+            sendBuildingViews(toSend, players);
+        }
+    }
+
+    /**
+     * Serialize the views of buildings once and send the batches to all players.
+     *
+     * @param toSend  the buildings.
+     * @param players the players.
+     */
+    private void sendBuildingViews(final List<IBuilding> toSend, final Set<ServerPlayerEntity> players)
+    {
+        if (toSend.isEmpty() || players.isEmpty())
+        {
+            return;
+        }
+
+        for (final ColonyViewBuildingViewMessage message : ColonyViewBuildingViewMessage.createBatches(colony, toSend))
+        {
+            players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
         }
     }
 
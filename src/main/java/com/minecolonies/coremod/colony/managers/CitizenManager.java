@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.ldtteam.structurize.util.LanguageHandler;
 import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.colony.CitizenStatistic;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.ICitizenDataManager;
 import com.minecolonies.api.colony.ICivilianData;
@@ -43,6 +44,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_CAP;
+import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_CAP_ID;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZENS;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_ID;
@@ -97,6 +99,21 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean areCitizensSleeping;
 
+    /**
+     * All statistics, by ordinal.
+     */
+    private static final CitizenStatistic[] STATISTICS = CitizenStatistic.values();
+
+    /**
+     * The statistics each citizen is counted in, as bit mask by statistic ordinal, by citizen id.
+     */
+    private final Map<Integer, Integer> statisticMasks = new HashMap<>();
+
+    /**
+     * The amount of citizens counted in each statistic, by statistic ordinal.
+     */
+    private final int[] statistics = new int[STATISTICS.length];
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -176,6 +193,10 @@ public class CitizenManager implements ICitizenManager
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(ICitizenData::getId, Function.identity())));
 
+        statisticMasks.clear();
+        Arrays.fill(statistics, 0);
+        citizens.values().forEach(this::updateStatistics);
+
         // Update child state after loading citizen data
         colony.updateHasChilds();
     }
@@ -213,13 +234,24 @@ public class CitizenManager implements ICitizenManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+            if (players.isEmpty())
+            {
+                return;
+            }
+
+            final List<ICitizenData> toSend = new ArrayList<>();
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
                 if (citizen.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                    toSend.add(citizen);
                 }
             }
+
+            for (final ColonyViewCitizenViewMessage message : ColonyViewCitizenViewMessage.createBatches(colony, toSend))
+            {
+                players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            }
         }
     }
 
@@ -328,6 +360,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        updateStatistics(citizenData);
 
         return citizenData;
     }
@@ -354,6 +387,7 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        updateStatistics(citizenData);
         spawnOrCreateCitizen(citizenData, world, spawnPos);
         return citizenData;
     }
@@ -368,6 +402,7 @@ public class CitizenManager implements ICitizenManager
 
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        setStatisticMask(citizen.getId(), 0);
 
         for (@NotNull final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
@@ -390,6 +425,76 @@ public class CitizenManager implements ICitizenManager
         colony.markDirty();
     }
 
+    @Override
+    public void updateStatistics(@NotNull final ICitizenData citizen)
+    {
+        // Visitors share the citizen data class but are not part of the statistics.
+        if (citizens.get(citizen.getId()) != citizen)
+        {
+            return;
+        }
+
+        int mask = 0;
+        if (!citizen.isChild() && citizen.getJob() == null)
+        {
+            mask |= 1 << CitizenStatistic.UNEMPLOYED.ordinal();
+        }
+
+        if (citizen.getHomeBuilding() == null)
+        {
+            mask |= 1 << CitizenStatistic.HOMELESS.ordinal();
+        }
+
+        if (citizen.getEntity().isPresent() && citizen.getEntity().get().getCitizenDiseaseHandler().isSick())
+        {
+            mask |= 1 << CitizenStatistic.SICK.ordinal();
+        }
+
+        if (citizen.getSaturation() <= 1)
+        {
+            mask |= 1 << CitizenStatistic.HUNGRY.ordinal();
+        }
+
+        if (citizen.getJob() instanceof AbstractJobGuard)
+        {
+            mask |= 1 << CitizenStatistic.GUARDS.ordinal();
+        }
+
+        setStatisticMask(citizen.getId(), mask);
+    }
+
+    /**
+     * Set the statistics a citizen is counted in and update the counts by the difference.
+     *
+     * @param citizenId the citizen id.
+     * @param mask      the new bit mask, 0 to remove the citizen.
+     */
+    private void setStatisticMask(final int citizenId, final int mask)
+    {
+        final Integer previous = mask == 0 ? statisticMasks.remove(citizenId) : statisticMasks.put(citizenId, mask);
+        final int changed = (previous == null ? 0 : previous) ^ mask;
+        if (changed == 0)
+        {
+            return;
+        }
+
+        for (final CitizenStatistic statistic : STATISTICS)
+        {
+            final int bit = 1 << statistic.ordinal();
+            if ((changed & bit) != 0)
+            {
+                statistics[statistic.ordinal()] += (mask & bit) != 0 ? 1 : -1;
+            }
+        }
+        colony.markDirty();
+    }
+
+    @Override
+    public int getStatistic(@NotNull final CitizenStatistic statistic)
+    {
+        return statistics[statistic.ordinal()];
+    }
+
     @Override
     public ICitizenData getJoblessCitizen()
     {
@@ -492,7 +597,7 @@ public class CitizenManager implements ICitizenManager
     {
         if(MinecoloniesAPIProxy.getInstance().getGlobalResearchTree().hasResearchEffect(CITIZEN_CAP))
         {
-            final double max = 25 + colony.getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_CAP);
+            final double max = 25 + colony.getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_CAP_ID);
             return Math.min(max, MineColonies.getConfig().getServer().maxCitizenPerColony.get());
         }
         else
@@ -1,31 +1,29 @@
 package com.minecolonies.coremod.colony.managers;
 
+import com.google.common.collect.Sets;
 import com.ldtteam.structurize.management.Structures;
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.Colony;
-import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewMessage;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewWorkOrderMessage;
-import io.netty.buffer.Unpooled;
+import com.minecolonies.coremod.util.SchematicManifest;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_STATE_INTERVAL;
 import static com.minecolonies.api.util.constant.Constants.TICKS_HOUR;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_DIPLOMACY;
 
 public class ColonyPackageManager implements IColonyPackageManager
 {
@@ -65,6 +63,11 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * Tracks what the subscribers received of the colony view.
+     */
+    private final ColonyViewDeltaTracker viewTracker;
+
     /**
      * Creates the ColonyPackageManager for a colony.
      *
@@ -73,6 +76,7 @@ public class ColonyPackageManager implements IColonyPackageManager
     public ColonyPackageManager(final Colony colony)
     {
         this.colony = colony;
+        this.viewTracker = new ColonyViewDeltaTracker(colony);
     }
 
     @Override
@@ -156,6 +160,11 @@ public class ColonyPackageManager implements IColonyPackageManager
 
             sendSchematicsPackets();
         }
+        else
+        {
+            // Nobody receives the view, the next subscriber gets a full one anyway.
+            viewTracker.invalidate();
+        }
 
         if (newSubscribers.isEmpty())
         {
@@ -170,10 +179,17 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        final long gameTime = colony.getWorld().getGameTime();
+        final boolean fullSyncDue = !newSubscribers.isEmpty() || viewTracker.isFullSyncDue(closeSubscribers, gameTime);
+        if (colony.getPermissions().isDirty())
         {
-            final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyPacketBuffer, !newSubscribers.isEmpty());
+            viewTracker.markDirty(SECTION_DIPLOMACY);
+        }
+
+        if (isDirty || fullSyncDue)
+        {
+            viewTracker.refresh(fullSyncDue);
+
             final Set<ServerPlayerEntity> players = new HashSet<>();
             if (isDirty)
             {
@@ -181,7 +197,17 @@ public class ColonyPackageManager implements IColonyPackageManager
             }
             players.addAll(newSubscribers);
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyPacketBuffer, newSubscribers.contains(player)), player));
+            final Map<List<Integer>, PacketBuffer> updates = new HashMap<>();
+            for (final ServerPlayerEntity player : fullSyncDue ? Sets.union(players, closeSubscribers) : players)
+            {
+                final boolean isNewSubscription = newSubscribers.contains(player);
+                final PacketBuffer update = viewTracker.getUpdate(player, isNewSubscription, gameTime, updates);
+                if (update != null)
+                {
+                    Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, update, isNewSubscription), player);
+                }
+            }
+            viewTracker.retainSubscribers(closeSubscribers);
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -238,7 +264,11 @@ public class ColonyPackageManager implements IColonyPackageManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyStylesMessage(), player));
+            if (!players.isEmpty())
+            {
+                final ColonyStylesMessage message = new ColonyStylesMessage(SchematicManifest.getServerManifest());
+                players.forEach(player -> Network.getNetwork().sendToPlayer(message, player));
+            }
         }
         Structures.clearDirty();
     }
@@ -249,6 +279,13 @@ public class ColonyPackageManager implements IColonyPackageManager
         this.isDirty = true;
     }
 
+    @Override
+    public void setDirty(final int sections)
+    {
+        viewTracker.markDirty(sections);
+        this.isDirty = true;
+    }
+
     @Override
     public void addCloseSubscriber(@NotNull final ServerPlayerEntity subscriber)
     {
@@ -262,6 +299,7 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void removeCloseSubscriber(@NotNull final ServerPlayerEntity player)
     {
+        viewTracker.removeSubscriber(player);
         newSubscribers.remove(player);
         closeSubscribers.remove(player);
     }
@@ -0,0 +1,516 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.google.common.primitives.Ints;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.Constants.TICKS_FIVE_MIN;
+import static com.minecolonies.coremod.colony.ColonyView.*;
+
+/**
+ * Keeps track of which version of each colony view section the subscribers of a colony received last, so view updates only carry the sections which changed since. Only
+ * sections marked dirty by their data owners are serialized again, and get a new version. The request system is versioned per request, only requests marked dirty by the
+ * request manager are serialized again and subscribers only receive the added, changed and removed requests. Subscribers get the full view when they subscribe and again
+ * periodically, then everything is serialized and compared with the last copy, as a fallback for changes which were never marked dirty.
+ */
+public class ColonyViewDeltaTracker
+{
+    /**
+     * Ticks between two full syncs of the same subscriber.
+     */
+    private static final int FULL_SYNC_INTERVAL = TICKS_FIVE_MIN;
+
+    /**
+     * Max amount of removed requests remembered for deltas, subscribers which are further behind get all requests.
+     */
+    private static final int MAX_REMOVED_REQUESTS = 512;
+
+    /**
+     * Index of the request section.
+     */
+    private static final int REQUEST_INDEX = Integer.numberOfTrailingZeros(SECTION_REQUESTS);
+
+    /**
+     * Index of the general section, which has no dirty marks as it aggregates many small values. It is small and of fixed size, so it is serialized with every refresh.
+     */
+    private static final int GENERAL_INDEX = Integer.numberOfTrailingZeros(SECTION_GENERAL);
+
+    /**
+     * Flags of all sections.
+     */
+    private static final int ALL_SECTIONS = (1 << SECTION_COUNT) - 1;
+
+    /**
+     * The colony of the tracker.
+     */
+    private final Colony colony;
+
+    /**
+     * Current version of each section.
+     */
+    private final int[] versions = new int[SECTION_COUNT];
+
+    /**
+     * Last serialized content of each section, except the requests.
+     */
+    private final byte[][] sections = new byte[SECTION_COUNT][];
+
+    /**
+     * Sections marked dirty since the last refresh.
+     */
+    private int dirtySections = ALL_SECTIONS;
+
+    /**
+     * If dirty marks were dropped, the next refresh then has to compare everything.
+     */
+    private boolean stale = true;
+
+    /**
+     * The request manager the requests were read from.
+     */
+    @Nullable
+    private StandardRequestManager requestManager = null;
+
+    /**
+     * Last serialized request system structure, null until the requests were read once.
+     */
+    @Nullable
+    private byte[] requestStructure = null;
+
+    /**
+     * Request section version at which the structure last changed.
+     */
+    private int structureVersion = 0;
+
+    /**
+     * Last serialized token and request, by token.
+     */
+    private final Map<IToken<?>, SyncedRequest> requests = new HashMap<>();
+
+    /**
+     * Request section version at which a request was removed, oldest first.
+     */
+    private final LinkedHashMap<IToken<?>, Integer> removedRequests = new LinkedHashMap<>();
+
+    /**
+     * Oldest request section version deltas can be built from, older subscribers might miss removed requests.
+     */
+    private int requestHorizon = 0;
+
+    /**
+     * The sync state of each subscriber.
+     */
+    private final Map<ServerPlayerEntity, Subscriber> subscribers = new HashMap<>();
+
+    /**
+     * Create the tracker of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyViewDeltaTracker(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Check if any of the players is due for a periodic full sync.
+     *
+     * @param players  the players.
+     * @param gameTime the current game time.
+     * @return true if so.
+     */
+    public boolean isFullSyncDue(@NotNull final Set<ServerPlayerEntity> players, final long gameTime)
+    {
+        for (final ServerPlayerEntity player : players)
+        {
+            final Subscriber subscriber = subscribers.get(player);
+            if (subscriber == null || gameTime >= subscriber.nextFullSync)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mark sections dirty, they are serialized again with the next refresh.
+     *
+     * @param sections the section flags.
+     */
+    public void markDirty(final int sections)
+    {
+        dirtySections |= sections;
+    }
+
+    /**
+     * Drop all dirty marks, while nobody is subscribed. The next refresh serializes and compares everything.
+     */
+    public void invalidate()
+    {
+        dirtySections = ALL_SECTIONS;
+        stale = true;
+        if (colony.getRequestManager() instanceof StandardRequestManager)
+        {
+            ((StandardRequestManager) colony.getRequestManager()).clearDirtyRequests();
+        }
+    }
+
+    /**
+     * Serialize the dirty sections and requests again and bump their versions.
+     *
+     * @param full true to serialize everything and only bump the versions of what changed, as fallback for changes which were never marked dirty.
+     */
+    public void refresh(final boolean full)
+    {
+        final boolean compare = full || stale;
+        final int toSerialize = compare ? ALL_SECTIONS : dirtySections | SECTION_GENERAL;
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        for (int i = 0; i < SECTION_COUNT; i++)
+        {
+            if (i == REQUEST_INDEX || (toSerialize & (1 << i)) == 0)
+            {
+                continue;
+            }
+
+            buffer.clear();
+            ColonyView.serializeSection(colony, 1 << i, buffer);
+            final byte[] data = toArray(buffer);
+            if ((compare || i == GENERAL_INDEX) && Arrays.equals(data, sections[i]))
+            {
+                continue;
+            }
+
+            sections[i] = data;
+            versions[i]++;
+        }
+
+        refreshRequests(buffer, compare);
+        buffer.release();
+        dirtySections = 0;
+        stale = false;
+    }
+
+    /**
+     * Serialize the dirty requests again, remembering which requests were added, changed or removed.
+     *
+     * @param buffer  a scratch buffer.
+     * @param compare true to serialize all requests and compare them with the last copies.
+     */
+    private void refreshRequests(final PacketBuffer buffer, final boolean compare)
+    {
+        if (!(colony.getRequestManager() instanceof StandardRequestManager))
+        {
+            return;
+        }
+
+        final StandardRequestManager manager = (StandardRequestManager) colony.getRequestManager();
+        final boolean fullScan = manager.collectRequestsReplaced() || compare || manager != requestManager || requestStructure == null;
+        requestManager = manager;
+
+        final int next = versions[REQUEST_INDEX] + 1;
+        boolean changed = false;
+
+        if (fullScan || manager.isDirty())
+        {
+            buffer.clear();
+            manager.serializeStructure(StandardFactoryController.getInstance(), buffer);
+            final byte[] structure = toArray(buffer);
+            if (!fullScan || !Arrays.equals(structure, requestStructure))
+            {
+                requestStructure = structure;
+                structureVersion = next;
+                changed = true;
+            }
+        }
+
+        final Set<IToken<?>> dirtyRequests = manager.collectDirtyRequests();
+        final Map<IToken<?>, IRequest<?>> identities = manager.getRequestIdentitiesDataStore().getIdentities();
+        if (fullScan)
+        {
+            for (final Map.Entry<IToken<?>, IRequest<?>> entry : identities.entrySet())
+            {
+                final byte[] data = serializeRequest(buffer, entry.getKey(), entry.getValue());
+                final SyncedRequest synced = requests.get(entry.getKey());
+                if (synced == null || !Arrays.equals(synced.data, data))
+                {
+                    requests.put(entry.getKey(), new SyncedRequest(data, next));
+                    removedRequests.remove(entry.getKey());
+                    changed = true;
+                }
+            }
+
+            for (final Iterator<IToken<?>> iterator = requests.keySet().iterator(); iterator.hasNext(); )
+            {
+                final IToken<?> token = iterator.next();
+                if (!identities.containsKey(token))
+                {
+                    iterator.remove();
+                    removedRequests.put(token, next);
+                    changed = true;
+                }
+            }
+        }
+        else
+        {
+            for (final IToken<?> token : dirtyRequests)
+            {
+                final IRequest<?> request = identities.get(token);
+                if (request != null)
+                {
+                    requests.put(token, new SyncedRequest(serializeRequest(buffer, token, request), next));
+                    removedRequests.remove(token);
+                    changed = true;
+                }
+                else if (requests.remove(token) != null)
+                {
+                    removedRequests.put(token, next);
+                    changed = true;
+                }
+            }
+        }
+
+        for (final Iterator<Integer> iterator = removedRequests.values().iterator(); iterator.hasNext() && removedRequests.size() > MAX_REMOVED_REQUESTS; )
+        {
+            requestHorizon = Math.max(requestHorizon, iterator.next());
+            iterator.remove();
+        }
+
+        if (changed)
+        {
+            versions[REQUEST_INDEX] = next;
+
+            int size = requestStructure.length;
+            for (final SyncedRequest synced : requests.values())
+            {
+                size += synced.data.length;
+            }
+            if (size >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+            {
+                Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+            }
+        }
+    }
+
+    /**
+     * Serialize a token and its request.
+     *
+     * @param buffer  a scratch buffer.
+     * @param token   the token.
+     * @param request the request.
+     * @return the bytes.
+     */
+    private static byte[] serializeRequest(final PacketBuffer buffer, final IToken<?> token, final IRequest<?> request)
+    {
+        buffer.clear();
+        StandardFactoryController.getInstance().serialize(buffer, token);
+        StandardFactoryController.getInstance().serialize(buffer, request);
+        return toArray(buffer);
+    }
+
+    /**
+     * Get the view update for a player and remember it as sent.
+     *
+     * @param player    the player.
+     * @param forceFull true if the player needs the full view.
+     * @param gameTime  the current game time.
+     * @param cache     the updates built so far in this round, by the versions they start from, the full view uses the empty list.
+     * @return the update or null if the player is up to date.
+     */
+    @Nullable
+    public PacketBuffer getUpdate(@NotNull final ServerPlayerEntity player, final boolean forceFull, final long gameTime, @NotNull final Map<List<Integer>, PacketBuffer> cache)
+    {
+        Subscriber subscriber = subscribers.get(player);
+        final boolean full = forceFull || subscriber == null || gameTime >= subscriber.nextFullSync;
+        if (full)
+        {
+            subscriber = new Subscriber(gameTime + FULL_SYNC_INTERVAL);
+            subscribers.put(player, subscriber);
+        }
+
+        final List<Integer> key = full ? Collections.emptyList() : Ints.asList(subscriber.acknowledged.clone());
+        PacketBuffer update = cache.get(key);
+        if (update == null && !cache.containsKey(key))
+        {
+            update = write(full ? null : subscriber.acknowledged);
+            cache.put(key, update);
+        }
+
+        System.arraycopy(versions, 0, subscriber.acknowledged, 0, SECTION_COUNT);
+        return update;
+    }
+
+    /**
+     * Write the sections a subscriber is missing.
+     *
+     * @param acknowledged the versions the subscriber has, null for a full view.
+     * @return the buffer or null if nothing changed.
+     */
+    @Nullable
+    private PacketBuffer write(@Nullable final int[] acknowledged)
+    {
+        int mask = 0;
+        for (int i = 0; i < SECTION_COUNT; i++)
+        {
+            if (acknowledged == null || acknowledged[i] != versions[i])
+            {
+                mask |= 1 << i;
+            }
+        }
+
+        if (requestStructure == null)
+        {
+            mask &= ~SECTION_REQUESTS;
+        }
+
+        if (mask == 0)
+        {
+            return null;
+        }
+
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        buffer.writeInt(mask);
+        for (int i = 0; i < SECTION_COUNT; i++)
+        {
+            if ((mask & (1 << i)) == 0)
+            {
+                continue;
+            }
+
+            if (i == REQUEST_INDEX)
+            {
+                writeRequests(buffer, acknowledged == null || acknowledged[i] < requestHorizon ? -1 : acknowledged[i]);
+            }
+            else
+            {
+                buffer.writeBytes(sections[i]);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Write the request section.
+     *
+     * @param buffer the buffer to write to.
+     * @param since  the request section version the subscriber has, -1 to write all requests.
+     */
+    private void writeRequests(final PacketBuffer buffer, final int since)
+    {
+        final boolean full = since < 0;
+        buffer.writeBoolean(full);
+
+        final boolean structure = full || structureVersion > since;
+        buffer.writeBoolean(structure);
+        if (structure)
+        {
+            buffer.writeBytes(requestStructure);
+        }
+
+        final List<IToken<?>> removed = new ArrayList<>();
+        if (!full)
+        {
+            for (final Map.Entry<IToken<?>, Integer> entry : removedRequests.entrySet())
+            {
+                if (entry.getValue() > since)
+                {
+                    removed.add(entry.getKey());
+                }
+            }
+        }
+
+        buffer.writeInt(removed.size());
+        for (final IToken<?> token : removed)
+        {
+            StandardFactoryController.getInstance().serialize(buffer, token);
+        }
+
+        final List<byte[]> changed = new ArrayList<>();
+        for (final SyncedRequest synced : requests.values())
+        {
+            if (synced.version > since)
+            {
+                changed.add(synced.data);
+            }
+        }
+
+        buffer.writeInt(changed.size());
+        for (final byte[] data : changed)
+        {
+            buffer.writeBytes(data);
+        }
+    }
+
+    /**
+     * Forget the state of all players which are not subscribed anymore.
+     *
+     * @param players the subscribed players.
+     */
+    public void retainSubscribers(@NotNull final Set<ServerPlayerEntity> players)
+    {
+        subscribers.keySet().retainAll(players);
+    }
+
+    /**
+     * Forget the state of a player, it gets the full view again once it subscribes.
+     *
+     * @param player the player.
+     */
+    public void removeSubscriber(@NotNull final ServerPlayerEntity player)
+    {
+        subscribers.remove(player);
+    }
+
+    /**
+     * Copy the readable bytes of a buffer.
+     *
+     * @param buffer the buffer.
+     * @return the bytes.
+     */
+    private static byte[] toArray(final PacketBuffer buffer)
+    {
+        final byte[] data = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), data);
+        return data;
+    }
+
+    /**
+     * The serialized token and request as last sent.
+     */
+    private static final class SyncedRequest
+    {
+        private final byte[] data;
+        private final int    version;
+
+        private SyncedRequest(final byte[] data, final int version)
+        {
+            this.data = data;
+            this.version = version;
+        }
+    }
+
+    /**
+     * The versions a subscriber received.
+     */
+    private static final class Subscriber
+    {
+        private final int[] acknowledged = new int[SECTION_COUNT];
+        private final long  nextFullSync;
+
+        private Subscriber(final long nextFullSync)
+        {
+            this.nextFullSync = nextFullSync;
+        }
+    }
+}
@@ -28,8 +28,9 @@ import java.util.Iterator;
 import java.util.Map;
 
 import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
-import static com.minecolonies.api.research.util.ResearchConstants.GRAVE_DECAY_BONUS;
+import static com.minecolonies.api.research.util.ResearchConstants.GRAVE_DECAY_BONUS_ID;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_GRAVES;
 
 public class GraveManager implements IGraveManager
 {
@@ -113,14 +114,14 @@ public class GraveManager implements IGraveManager
             if (!(graveEntity instanceof TileEntityGrave))
             {
                 iterator.remove();
-                colony.markDirty();
+                markGravesDirty();
                 continue;
             }
 
             if (!((TileEntityGrave) graveEntity).onColonyTick(MAX_TICKRATE))
             {
                 iterator.remove();
-                colony.markDirty();
+                markGravesDirty();
             }
         }
     }
@@ -158,7 +159,7 @@ public class GraveManager implements IGraveManager
         }
 
         graves.put(pos, false);
-        colony.markDirty();
+        markGravesDirty();
         return true;
     }
 
@@ -171,7 +172,7 @@ public class GraveManager implements IGraveManager
     public void removeGrave(@NotNull final BlockPos pos)
     {
         graves.remove(pos);
-        colony.markDirty();
+        markGravesDirty();
     }
 
     /**
@@ -189,7 +190,7 @@ public class GraveManager implements IGraveManager
         }
 
         graves.put(pos, true);
-        colony.markDirty();
+        markGravesDirty();
         return true;
     }
 
@@ -199,7 +200,7 @@ public class GraveManager implements IGraveManager
         if (graves.containsKey(pos) && graves.get(pos))
         {
             graves.put(pos, false);
-            colony.markDirty();
+            markGravesDirty();
         }
     }
 
@@ -259,7 +260,7 @@ public class GraveManager implements IGraveManager
                 InventoryUtils.dropItemHandler(citizenData.getInventory(), world, pos.getX(), pos.getY(), pos.getZ());
             }
 
-            graveEntity.delayDecayTimer(colony.getResearchManager().getResearchEffects().getEffectStrength(GRAVE_DECAY_BONUS));
+            graveEntity.delayDecayTimer(colony.getResearchManager().getResearchEffects().getEffectStrength(GRAVE_DECAY_BONUS_ID));
 
             GraveData graveData = new GraveData();
             graveData.setCitizenName(citizenData.getName());
@@ -279,4 +280,13 @@ public class GraveManager implements IGraveManager
             InventoryUtils.dropItemHandler(citizenData.getInventory(), world, pos.getX(), pos.getY(), pos.getZ());
         }
     }
+
+    /**
+     * Mark the colony and the graves section of its view dirty, after the graves changed.
+     */
+    private void markGravesDirty()
+    {
+        colony.getPackageManager().setDirty(SECTION_GRAVES);
+        colony.markDirty();
+    }
 }
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.RESEARCH_CONCLUDED;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_RESEARCH;
 
 /**
  * Research manager of the colony.
@@ -180,6 +181,7 @@ public class ResearchManager implements IResearchManager
             }
         }
         tree.addResearch(research.getBranch(), new LocalResearch(research.getId(), research.getBranch(), research.getDepth()));
+        colony.getPackageManager().setDirty(SECTION_RESEARCH);
         if(research.isInstant() || (creativePlayer && MinecoloniesAPIProxy.getInstance().getConfig().getServer().researchCreativeCompletion.get()))
         {
             ILocalResearch localResearch = tree.getResearch(research.getBranch(), research.getId());
@@ -10,6 +10,7 @@ import com.minecolonies.api.entity.citizen.AbstractCivilianEntity;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.VisitorData;
 import com.minecolonies.coremod.entity.citizen.VisitorCitizen;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyVisitorViewDataMessage;
@@ -172,7 +173,7 @@ public class VisitorManager implements IVisitorManager
             }
         }
 
-        if (toSend.isEmpty())
+        if (toSend.isEmpty() || players.isEmpty())
         {
             return;
         }
@@ -256,6 +257,10 @@ public class VisitorManager implements IVisitorManager
     public void markDirty()
     {
         this.isDirty = true;
+        if (colony instanceof Colony)
+        {
+            ((Colony) colony).setSaveDirty(true);
+        }
     }
 
     @Override
@@ -17,6 +17,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -66,6 +67,16 @@ public class StandardDataStoreManager implements IDataStoreManager
         storeMap.clear();
     }
 
+    /**
+     * Get all data stores by their id.
+     *
+     * @return an unmodifiable view of the stores.
+     */
+    public Map<IToken<?>, IDataStore> getStores()
+    {
+        return Collections.unmodifiableMap(storeMap);
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardDataStoreManager>
     {
 
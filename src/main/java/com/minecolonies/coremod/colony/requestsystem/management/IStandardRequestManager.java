@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.management.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import org.jetbrains.annotations.NotNull;
 
@@ -40,4 +41,11 @@ public interface IStandardRequestManager extends IRequestManager
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
+
+    /**
+     * Marks a request as changed, so the colony view sync sends it again. Requests which got removed are marked as well.
+     *
+     * @param token the token of the request.
+     */
+    void markRequestDirty(@NotNull IToken<?> token);
 }
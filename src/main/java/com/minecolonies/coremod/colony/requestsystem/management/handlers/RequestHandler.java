@@ -70,6 +70,7 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Registering request: " + request);
 
         manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.markRequestDirty(request.getId());
     }
 
     /**
@@ -128,27 +129,21 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Starting resolver assignment search for request: " + request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
+        manager.markRequestDirty(request.getId());
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
+        final IToken<?>[] resolverTokens = manager.getResolverHandler().getSortedResolverTokens(request);
 
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        for (@SuppressWarnings(RAWTYPES) final IRequestResolver resolver : resolvers)
+        for (final IToken<?> resolverToken : resolverTokens)
         {
             //Skip when the resolver is in the blacklist.
-            if (resolverTokenBlackList.contains(resolver.getId()) || manager.getResolverHandler().isBeingRemoved(resolver.getId()))
+            if (resolverTokenBlackList.contains(resolverToken) || manager.getResolverHandler().isBeingRemoved(resolverToken))
+            {
+                continue;
+            }
+
+            //Skip when the resolver got removed while assigning.
+            @SuppressWarnings(RAWTYPES) final IRequestResolver resolver = manager.getRequestResolverIdentitiesDataStore().getIdentities().get(resolverToken);
+            if (resolver == null)
             {
                 continue;
             }
@@ -181,6 +176,7 @@ public class RequestHandler implements IRequestHandler
 
                 childRequest.setParent(request.getId());
                 request.addChild(childRequest.getId());
+                manager.markRequestDirty(childRequest.getId());
             }
 
             for (final IToken<?> childRequestToken :
@@ -268,12 +264,14 @@ public class RequestHandler implements IRequestHandler
         final List<IRequest<?>> followupRequests = resolver.getFollowupRequestForCompletion(manager, request);
 
         request.setState(manager, RequestState.FOLLOWUP_IN_PROGRESS);
+        manager.markRequestDirty(token);
 
         //Assign the followup to the parent as a child so that processing is still halted.
         if (followupRequests != null && !followupRequests.isEmpty())
         {
             followupRequests.forEach(followupRequest -> request.addChild(followupRequest.getId()));
             followupRequests.forEach(followupRequest -> followupRequest.setParent(request.getId()));
+            followupRequests.forEach(followupRequest -> manager.markRequestDirty(followupRequest.getId()));
         }
 
         //Assign the followup request if need be
@@ -313,6 +311,8 @@ public class RequestHandler implements IRequestHandler
             parentRequest.removeChild(request.getId());
 
             request.setParent(null);
+            manager.markRequestDirty(request.getId());
+            manager.markRequestDirty(parentRequest.getId());
 
             if (!parentRequest.hasChildren())
             {
@@ -344,6 +344,7 @@ public class RequestHandler implements IRequestHandler
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
             manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.markRequestDirty(token);
             return;
         }
 
@@ -398,6 +399,7 @@ public class RequestHandler implements IRequestHandler
         final IRequest<?> request = manager.getRequestForToken(token);
         final IRequest<?> parent = manager.getRequestForToken(request.getParent());
         parent.resetDeliveries();
+        manager.markRequestDirty(parent.getId());
         parent.getChildren().forEach(this::onRequestCancelledDirectly);
         this.reassignRequest(parent, ImmutableList.of());
     }
@@ -447,9 +449,11 @@ public class RequestHandler implements IRequestHandler
                 if (request.hasParent())
         {
             getRequest(request.getParent()).removeChild(request.getId());
+            manager.markRequestDirty(request.getParent());
         }
         request.setParent(null);
         request.setState(manager, RequestState.CANCELLED);
+        manager.markRequestDirty(request.getId());
 
         if (assigned)
         {
@@ -486,6 +490,7 @@ public class RequestHandler implements IRequestHandler
         final IRequestResolver resolver = manager.getResolverHandler().getResolverForRequest(request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
+        manager.markRequestDirty(request.getId());
         resolver.resolveRequest(manager, request);
     }
 
@@ -513,6 +518,7 @@ public class RequestHandler implements IRequestHandler
         }
 
         manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.markRequestDirty(token);
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IResolverHandler;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -35,6 +36,17 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Sorted resolver tokens by concrete requestable type, cleared whenever a resolver is registered or removed.
+     */
+    private final Map<TypeToken<?>, IToken<?>[]> resolverIndex = new HashMap<>();
+
+    /**
+     * The assignment store the index was built from, the store is replaced when the manager is deserialized.
+     */
+    @Nullable
+    private IRequestableTypeRequestResolverAssignmentDataStore indexedDataStore = null;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -98,6 +110,7 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
+        resolverIndex.clear();
 
         return resolver.getId();
     }
@@ -299,6 +312,7 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+        resolverIndex.clear();
     }
 
     /**
@@ -353,6 +367,7 @@ public class ResolverHandler implements IResolverHandler
         manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).add(request.getId());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
+        manager.markRequestDirty(request.getId());
     }
 
     /**
@@ -432,6 +447,60 @@ public class ResolverHandler implements IResolverHandler
         manager.getRequestResolverIdentitiesDataStore().getIdentities().values().forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign));
     }
 
+    @Override
+    public IToken<?>[] getSortedResolverTokens(final IRequest<?> request)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (dataStore != indexedDataStore)
+        {
+            resolverIndex.clear();
+            indexedDataStore = dataStore;
+        }
+
+        return resolverIndex.computeIfAbsent(TypeToken.of(request.getRequest().getClass()), type -> buildResolverIndex(request, dataStore));
+    }
+
+    /**
+     * Collect and sort the resolvers for the type of a request.
+     *
+     * @param request   The request, its type hierarchy is used.
+     * @param dataStore The type to resolver assignments.
+     * @return The sorted resolver tokens.
+     */
+    private IToken<?>[] buildResolverIndex(final IRequest<?> request, final IRequestableTypeRequestResolverAssignmentDataStore dataStore)
+    {
+        final List<TypeToken<?>> typeIndexList = new ArrayList<>(request.getSuperClasses());
+        final Map<TypeToken<?>, Integer> typeIndex = new HashMap<>();
+        for (int i = 0; i < typeIndexList.size(); i++)
+        {
+            typeIndex.put(typeIndexList.get(i), i);
+        }
+
+        //Keep the registration order, the sort is stable so ties resolve in the same order as the linear scan did.
+        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>();
+        for (final TypeToken<?> type : typeIndexList)
+        {
+            final Collection<IToken<?>> tokens = dataStore.getAssignments().get(type);
+            if (tokens != null)
+            {
+                for (final IToken<?> token : tokens)
+                {
+                    final IRequestResolver<?> resolver = getResolver(token);
+                    if (typeIndex.containsKey(resolver.getRequestType()))
+                    {
+                        resolvers.add(resolver);
+                    }
+                }
+            }
+        }
+
+        return resolvers.stream()
+                 .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                           .thenComparingInt((IRequestResolver<?> r) -> typeIndex.get(r.getRequestType())))
+                 .map(IRequestResolver::getId)
+                 .toArray(IToken<?>[]::new);
+    }
+
     @Override
     public boolean isBeingRemoved(final IToken<?> id)
     {
@@ -8,13 +8,14 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 public class StandardRecipeManager implements IRecipeManager
 {
@@ -40,6 +41,11 @@ public class StandardRecipeManager implements IRecipeManager
      */
     private final Set<IToken<?>> usedRecipes = new HashSet<>();
 
+    /**
+     * The recipes by their primary and alternate output items.
+     */
+    private final Map<Item, Set<IToken<?>>> recipesByOutput = new HashMap<>();
+
     @Override
     public ImmutableMap<IToken<?>, IRecipeStorage> getRecipes()
     {
@@ -60,11 +66,46 @@ public class StandardRecipeManager implements IRecipeManager
     public IToken<?> addRecipe(final IRecipeStorage storage)
     {
         recipes.put(storage.getToken(), storage);
+        indexOutputs(storage);
         registerUse(storage.getToken());
         cache = null;
         return storage.getToken();
     }
 
+    /**
+     * Add a recipe to the output index.
+     *
+     * @param storage the recipe.
+     */
+    private void indexOutputs(final IRecipeStorage storage)
+    {
+        indexOutput(storage.getPrimaryOutput(), storage.getToken());
+        for (final ItemStack output : storage.getAlternateOutputs())
+        {
+            indexOutput(output, storage.getToken());
+        }
+    }
+
+    /**
+     * Add a single recipe output to the output index.
+     *
+     * @param output the output stack.
+     * @param token  the recipe token.
+     */
+    private void indexOutput(final ItemStack output, final IToken<?> token)
+    {
+        if (!output.isEmpty())
+        {
+            recipesByOutput.computeIfAbsent(output.getItem(), item -> new HashSet<>()).add(token);
+        }
+    }
+
+    @Override
+    public Set<IToken<?>> getRecipesForOutput(@NotNull final Item item)
+    {
+        return Collections.unmodifiableSet(recipesByOutput.getOrDefault(item, Collections.emptySet()));
+    }
+
     @Override
     public IToken<?> checkOrAddRecipe(final IRecipeStorage storage)
     {
@@ -86,30 +127,36 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public void write(@NotNull final CompoundNBT compound)
     {
-        @NotNull final ListNBT recipesTagList =
-          recipes.entrySet().stream().filter(recipeEntry -> usedRecipes.contains(recipeEntry.getKey())).map(entry -> StandardFactoryController.getInstance().serialize(entry.getValue())).collect(NBTUtils.toListNBT());
-        compound.put(TAG_RECIPES, recipesTagList);
+        StandardFactoryController.getInstance().writeWithTypeDictionary(() -> {
+            @NotNull final ListNBT recipesTagList =
+              recipes.entrySet().stream().filter(recipeEntry -> usedRecipes.contains(recipeEntry.getKey())).map(entry -> StandardFactoryController.getInstance().serialize(entry.getValue())).collect(NBTUtils.toListNBT());
+            compound.put(TAG_RECIPES, recipesTagList);
+            return compound;
+        });
     }
 
     @Override
     public void read(@NotNull final CompoundNBT compound)
     {
-        final ListNBT list = compound.getList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND);
-        for (int i = 0; i < list.size(); i++)
-        {
-            IRecipeStorage recipe = StandardFactoryController.getInstance().deserialize(list.getCompound(i));
-            if (recipe != null && !recipes.containsValue(recipe) && !recipe.getCleanedInput().isEmpty())
+        StandardFactoryController.getInstance().readWithTypeDictionary(compound, () -> {
+            final ListNBT list = compound.getList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND);
+            for (int i = 0; i < list.size(); i++)
             {
-                try
+                IRecipeStorage recipe = StandardFactoryController.getInstance().deserialize(list.getCompound(i));
+                if (recipe != null && !recipes.containsValue(recipe) && !recipe.getCleanedInput().isEmpty())
                 {
-                    recipes.put(recipe.getToken(), recipe);
-                }
-                catch (Exception e)
-                {
-                    // Eat the exception
+                    try
+                    {
+                        recipes.put(recipe.getToken(), recipe);
+                        indexOutputs(recipe);
+                    }
+                    catch (Exception e)
+                    {
+                        // Eat the exception
+                    }
                 }
             }
-        }
+        });
         cache = null;
     }
 
@@ -118,6 +165,7 @@ public class StandardRecipeManager implements IRecipeManager
     {
         recipes.clear();
         usedRecipes.clear();
+        recipesByOutput.clear();
     }
 
     @Override
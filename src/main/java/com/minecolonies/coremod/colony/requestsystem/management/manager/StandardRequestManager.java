@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
+import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.IColony;
@@ -20,6 +21,7 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardDataStoreManager;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
@@ -31,7 +33,7 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -80,6 +82,16 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     private boolean dirty = true;
 
+    /**
+     * Requests which changed since the colony view sync last collected them.
+     */
+    private final Set<IToken<?>> dirtyRequests = new HashSet<>();
+
+    /**
+     * If all requests got replaced since the colony view sync last checked, it then has to compare all of them.
+     */
+    private boolean requestsReplaced = true;
+
     /**
      * Colony of the manager.
      */
@@ -176,6 +188,7 @@ public class StandardRequestManager implements IStandardRequestManager
     public <T extends IRequestable> IToken<?> createRequest(@NotNull final IRequester requester, @NotNull final T object)
     {
         final IRequest<T> request = getRequestHandler().createRequest(requester, object);
+        markRequestDirty(request.getId());
         markDirty();
         return request.getId();
     }
@@ -200,6 +213,45 @@ public class StandardRequestManager implements IStandardRequestManager
         return dirty;
     }
 
+    @Override
+    public void markRequestDirty(@NotNull final IToken<?> token)
+    {
+        dirtyRequests.add(token);
+    }
+
+    /**
+     * Get the requests which changed since the last call and forget them.
+     *
+     * @return the tokens of the changed and removed requests.
+     */
+    public Set<IToken<?>> collectDirtyRequests()
+    {
+        final Set<IToken<?>> collected = new HashSet<>(dirtyRequests);
+        dirtyRequests.clear();
+        return collected;
+    }
+
+    /**
+     * Forget the requests which changed, while the colony view sync isn't collecting them.
+     */
+    public void clearDirtyRequests()
+    {
+        dirtyRequests.clear();
+        requestsReplaced = false;
+    }
+
+    /**
+     * Check if all requests got replaced since the last call, by a reset or reading from nbt.
+     *
+     * @return true if so.
+     */
+    public boolean collectRequestsReplaced()
+    {
+        final boolean replaced = requestsReplaced;
+        requestsReplaced = false;
+        return replaced;
+    }
+
     @Override
     public void setDirty(final boolean isDirty)
     {
@@ -221,6 +273,7 @@ public class StandardRequestManager implements IStandardRequestManager
     public void assignRequest(@NotNull final IToken<?> token)
     {
         getRequestHandler().assignRequest(getRequestHandler().getRequest(token));
+        markRequestDirty(token);
         markDirty();
     }
 
@@ -246,6 +299,7 @@ public class StandardRequestManager implements IStandardRequestManager
     public IToken<?> reassignRequest(@NotNull final IToken<?> token, @NotNull final Collection<IToken<?>> resolverTokenBlackList)
     {
         final IRequest<?> request = getRequestHandler().getRequest(token);
+        markRequestDirty(token);
         markDirty();
         return getRequestHandler().reassignRequest(request, resolverTokenBlackList);
     }
@@ -290,6 +344,11 @@ public class StandardRequestManager implements IStandardRequestManager
         getLogger().debug("Updating request state from:" + token + ". With original state: " + request.getState() + " to : " + state);
 
         request.setState(new WrappedStaticStateRequestManager(this), state);
+        markRequestDirty(token);
+        if (request.hasParent() && request.getParent() != null)
+        {
+            markRequestDirty(request.getParent());
+        }
         markDirty();
 
         switch (request.getState())
@@ -412,6 +471,7 @@ public class StandardRequestManager implements IStandardRequestManager
 
         version = -1;
         getUpdateHandler().handleUpdate(UpdateType.RESET);
+        requestsReplaced = true;
     }
 
     /**
@@ -422,20 +482,22 @@ public class StandardRequestManager implements IStandardRequestManager
     @Override
     public CompoundNBT serializeNBT()
     {
-        final CompoundNBT systemCompound = new CompoundNBT();
-        systemCompound.putInt(NBT_VERSION, version);
+        return getFactoryController().writeWithTypeDictionary(() -> {
+            final CompoundNBT systemCompound = new CompoundNBT();
+            systemCompound.putInt(NBT_VERSION, version);
 
-        systemCompound.put(NBT_DATASTORE, getFactoryController().serialize(dataStoreManager));
-        systemCompound.put(NBT_ID_REQUEST_IDENTITIES, getFactoryController().serialize(requestIdentitiesDataStoreId));
-        systemCompound.put(NBT_ID_REQUEST_RESOLVER_IDENTITIES, getFactoryController().serialize(requestResolverIdentitiesDataStoreId));
-        systemCompound.put(NBT_ID_PROVIDER_ASSIGNMENTS, getFactoryController().serialize(providerRequestResolverAssignmentDataStoreId));
-        systemCompound.put(NBT_ID_REQUEST_RESOLVER_ASSIGNMENTS, getFactoryController().serialize(requestResolverRequestAssignmentDataStoreId));
-        systemCompound.put(NBT_ID_REQUESTABLE_TYPE_ASSIGNMENTS, getFactoryController().serialize(requestableTypeRequestResolverAssignmentDataStoreId));
+            systemCompound.put(NBT_DATASTORE, getFactoryController().serialize(dataStoreManager));
+            systemCompound.put(NBT_ID_REQUEST_IDENTITIES, getFactoryController().serialize(requestIdentitiesDataStoreId));
+            systemCompound.put(NBT_ID_REQUEST_RESOLVER_IDENTITIES, getFactoryController().serialize(requestResolverIdentitiesDataStoreId));
+            systemCompound.put(NBT_ID_PROVIDER_ASSIGNMENTS, getFactoryController().serialize(providerRequestResolverAssignmentDataStoreId));
+            systemCompound.put(NBT_ID_REQUEST_RESOLVER_ASSIGNMENTS, getFactoryController().serialize(requestResolverRequestAssignmentDataStoreId));
+            systemCompound.put(NBT_ID_REQUESTABLE_TYPE_ASSIGNMENTS, getFactoryController().serialize(requestableTypeRequestResolverAssignmentDataStoreId));
 
-        systemCompound.put(NBT_ID_PLAYER, getFactoryController().serialize(playerRequestResolverId));
-        systemCompound.put(NBT_ID_RETRYING, getFactoryController().serialize(retryingRequestResolverId));
+            systemCompound.put(NBT_ID_PLAYER, getFactoryController().serialize(playerRequestResolverId));
+            systemCompound.put(NBT_ID_RETRYING, getFactoryController().serialize(retryingRequestResolverId));
 
-        return systemCompound;
+            return systemCompound;
+        });
     }
 
     /**
@@ -446,46 +508,48 @@ public class StandardRequestManager implements IStandardRequestManager
     @Override
     public void deserializeNBT(final CompoundNBT nbt)
     {
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_VERSION,
-          CompoundNBT::getInt,
-          v -> version = v);
-
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_DATASTORE,
-          CompoundNBT::getCompound,
-          c -> dataStoreManager = getFactoryController().deserialize(c));
-
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_REQUEST_IDENTITIES,
-          CompoundNBT::getCompound,
-          c -> requestIdentitiesDataStoreId = getFactoryController().deserialize(c));
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_REQUEST_RESOLVER_IDENTITIES,
-          CompoundNBT::getCompound,
-          c -> requestResolverIdentitiesDataStoreId = getFactoryController().deserialize(c));
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_PROVIDER_ASSIGNMENTS,
-          CompoundNBT::getCompound,
-          c -> providerRequestResolverAssignmentDataStoreId = getFactoryController().deserialize(c));
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_REQUEST_RESOLVER_ASSIGNMENTS,
-          CompoundNBT::getCompound,
-          c -> requestResolverRequestAssignmentDataStoreId = getFactoryController().deserialize(c));
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_REQUESTABLE_TYPE_ASSIGNMENTS,
-          CompoundNBT::getCompound,
-          c -> requestableTypeRequestResolverAssignmentDataStoreId = getFactoryController().deserialize(c));
-
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_PLAYER,
-          CompoundNBT::getCompound,
-          c -> playerRequestResolverId = getFactoryController().deserialize(c));
-
-        executeDeserializationStepOrMarkForUpdate(nbt,
-          NBT_ID_RETRYING,
-          CompoundNBT::getCompound,
-          c -> retryingRequestResolverId = getFactoryController().deserialize(c));
+        getFactoryController().readWithTypeDictionary(nbt, () -> {
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_VERSION,
+              CompoundNBT::getInt,
+              v -> version = v);
+
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_DATASTORE,
+              CompoundNBT::getCompound,
+              c -> dataStoreManager = getFactoryController().deserialize(c));
+
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_REQUEST_IDENTITIES,
+              CompoundNBT::getCompound,
+              c -> requestIdentitiesDataStoreId = getFactoryController().deserialize(c));
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_REQUEST_RESOLVER_IDENTITIES,
+              CompoundNBT::getCompound,
+              c -> requestResolverIdentitiesDataStoreId = getFactoryController().deserialize(c));
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_PROVIDER_ASSIGNMENTS,
+              CompoundNBT::getCompound,
+              c -> providerRequestResolverAssignmentDataStoreId = getFactoryController().deserialize(c));
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_REQUEST_RESOLVER_ASSIGNMENTS,
+              CompoundNBT::getCompound,
+              c -> requestResolverRequestAssignmentDataStoreId = getFactoryController().deserialize(c));
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_REQUESTABLE_TYPE_ASSIGNMENTS,
+              CompoundNBT::getCompound,
+              c -> requestableTypeRequestResolverAssignmentDataStoreId = getFactoryController().deserialize(c));
+
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_PLAYER,
+              CompoundNBT::getCompound,
+              c -> playerRequestResolverId = getFactoryController().deserialize(c));
+
+            executeDeserializationStepOrMarkForUpdate(nbt,
+              NBT_ID_RETRYING,
+              CompoundNBT::getCompound,
+              c -> retryingRequestResolverId = getFactoryController().deserialize(c));
+        });
 
         if (dataStoreManager == null)
         {
@@ -493,6 +557,7 @@ public class StandardRequestManager implements IStandardRequestManager
         }
 
         updateIfRequired();
+        requestsReplaced = true;
     }
 
     @Override
@@ -523,6 +588,90 @@ public class StandardRequestManager implements IStandardRequestManager
         retryingRequestResolverId = controller.deserialize(buffer);
     }
 
+    /**
+     * Write everything but the requests themselves to the network, the requests are synced one by one by the colony view sync.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to write to.
+     */
+    public void serializeStructure(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        buffer.writeInt(version);
+        controller.serialize(buffer, requestIdentitiesDataStoreId);
+        controller.serialize(buffer, requestResolverIdentitiesDataStoreId);
+        controller.serialize(buffer, providerRequestResolverAssignmentDataStoreId);
+        controller.serialize(buffer, requestResolverRequestAssignmentDataStoreId);
+        controller.serialize(buffer, requestableTypeRequestResolverAssignmentDataStoreId);
+        controller.serialize(buffer, playerRequestResolverId);
+        controller.serialize(buffer, retryingRequestResolverId);
+
+        final Map<IToken<?>, IDataStore> stores = ((StandardDataStoreManager) dataStoreManager).getStores();
+        buffer.writeInt(stores.size() - (stores.containsKey(requestIdentitiesDataStoreId) ? 1 : 0));
+        stores.forEach((key, value) -> {
+            if (!key.equals(requestIdentitiesDataStoreId))
+            {
+                controller.serialize(buffer, key);
+                controller.serialize(buffer, value);
+            }
+        });
+    }
+
+    /**
+     * Read the data written by {@link #serializeStructure(IFactoryController, PacketBuffer)}, keeping the currently known requests.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to read from.
+     */
+    public void deserializeStructure(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        final IRequestIdentitiesDataStore requests = getRequestIdentitiesDataStore();
+
+        version = buffer.readInt();
+        requestIdentitiesDataStoreId = controller.deserialize(buffer);
+        requestResolverIdentitiesDataStoreId = controller.deserialize(buffer);
+        providerRequestResolverAssignmentDataStoreId = controller.deserialize(buffer);
+        requestResolverRequestAssignmentDataStoreId = controller.deserialize(buffer);
+        requestableTypeRequestResolverAssignmentDataStoreId = controller.deserialize(buffer);
+        playerRequestResolverId = controller.deserialize(buffer);
+        retryingRequestResolverId = controller.deserialize(buffer);
+
+        final Map<IToken<?>, IDataStore> stores = new HashMap<>();
+        final int storeSize = buffer.readInt();
+        for (int i = 0; i < storeSize; ++i)
+        {
+            stores.put(controller.deserialize(buffer), controller.deserialize(buffer));
+        }
+
+        requests.setId(requestIdentitiesDataStoreId);
+        stores.put(requestIdentitiesDataStoreId, requests);
+        dataStoreManager = new StandardDataStoreManager(stores);
+    }
+
+    /**
+     * Read the removed and the added or changed requests from the network.
+     *
+     * @param controller the factory controller.
+     * @param buffer     the buffer to read from.
+     */
+    public void deserializeRequestChanges(final IFactoryController controller, final PacketBuffer buffer)
+    {
+        final BiMap<IToken<?>, IRequest<?>> requests = getRequestIdentitiesDataStore().getIdentities();
+
+        final int removedSize = buffer.readInt();
+        for (int i = 0; i < removedSize; ++i)
+        {
+            requests.remove(controller.<IToken<?>>deserialize(buffer));
+        }
+
+        final int changedSize = buffer.readInt();
+        for (int i = 0; i < changedSize; ++i)
+        {
+            final IToken<?> token = controller.deserialize(buffer);
+            final IRequest<?> request = controller.deserialize(buffer);
+            requests.forcePut(token, request);
+        }
+    }
+
     private <T> void executeDeserializationStepOrMarkForUpdate(
       @NotNull final CompoundNBT nbt,
       @NotNull final String key,
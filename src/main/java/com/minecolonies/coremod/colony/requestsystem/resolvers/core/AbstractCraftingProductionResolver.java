@@ -122,7 +122,7 @@ public abstract class AbstractCraftingProductionResolver<C extends AbstractCraft
       final IToken<?> recipeId)
     {
         final ICraftingBuildingModule module = building.getCraftingModuleForRecipe(recipeId);
-        if (module == null)
+        if (module == null || !module.canCraftItem(stack.getItem()))
         {
             return null;
         }
@@ -11,6 +11,8 @@ import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.Food;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.Tag;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeStorage;
@@ -22,13 +24,12 @@ import com.minecolonies.coremod.colony.buildings.modules.CraftingWorkerBuildingM
 import com.minecolonies.coremod.colony.buildings.modules.WorkerBuildingModule;
 import com.minecolonies.coremod.colony.requestsystem.requesters.IBuildingBasedRequester;
 import net.minecraft.block.Blocks;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.research.util.ResearchConstants.CITIZEN_INV_SLOTS;
@@ -130,6 +131,11 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
             return false;
         }
 
+        if (!canBuildingCraftAnyItem(building, request.getRequest()))
+        {
+            return false;
+        }
+
         if (createsCraftingCycle(manager, request, request))
         {
             return false;
@@ -158,6 +164,43 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
         return false;
     }
 
+    /**
+     * Quick check against the recipe output index if any crafting module of the building may craft the requested items.
+     * Only requests for plain items or tags are checked, all other requests pass.
+     *
+     * @param building    the building to check.
+     * @param deliverable the requested deliverable.
+     * @return false if the building definitely can't craft it.
+     */
+    private static boolean canBuildingCraftAnyItem(@NotNull final AbstractBuilding building, @NotNull final IDeliverable deliverable)
+    {
+        final Collection<Item> candidates;
+        if (deliverable instanceof Stack && !((Stack) deliverable).matchOreDic())
+        {
+            candidates = Collections.singletonList(((Stack) deliverable).getStack().getItem());
+        }
+        else if (deliverable instanceof Tag)
+        {
+            candidates = ((Tag) deliverable).getTag().getValues();
+        }
+        else
+        {
+            return true;
+        }
+
+        for (final ICraftingBuildingModule module : building.getModules(ICraftingBuildingModule.class))
+        {
+            for (final Item item : candidates)
+            {
+                if (module.canCraftItem(item))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Method to check if a crafting cycle can be created.
      *
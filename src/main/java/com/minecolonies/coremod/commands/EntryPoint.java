@@ -55,7 +55,8 @@ public class EntryPoint
                                              .addNode(new CommandRSReset().build())
                                              .addNode(new CommandRSResetAll().build())
                                              .addNode(new CommandSetAbandoned().build())
-                                             .addNode(new CommandExportColony().build());
+                                             .addNode(new CommandExportColony().build())
+                                             .addNode(new CommandPathCacheStats().build());
 
         /*
          * Citizen commands subtree
@@ -86,7 +87,9 @@ public class EntryPoint
                                                .addNode(new CommandBackup().build())
                                                .addNode(new CommandResetPlayerSupplies().build())
                                                .addNode(new CommandHelp().build())
-                                               .addNode(new CommandPruneWorld().build());
+                                               .addNode(new CommandPruneWorld().build())
+                                               .addNode(new CommandPathfindingStats().build())
+                                               .addNode(new CommandColonyTickStats().build());
 
         /*
          * Root minecolonies alias command tree, all subtrees are added here.
@@ -105,7 +108,9 @@ public class EntryPoint
                                                     .addNode(new CommandBackup().build())
                                                     .addNode(new CommandResetPlayerSupplies().build())
                                                     .addNode(new CommandHelp().build())
-                                                    .addNode(new CommandPruneWorld().build());
+                                                    .addNode(new CommandPruneWorld().build())
+                                                    .addNode(new CommandPathfindingStats().build())
+                                                    .addNode(new CommandColonyTickStats().build());
 
         // Adds all command trees to the dispatcher to register the commands.
         dispatcher.register(minecoloniesRoot.build());
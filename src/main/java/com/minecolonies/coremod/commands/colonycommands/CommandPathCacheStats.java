@@ -0,0 +1,65 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+
+import static com.minecolonies.coremod.commands.CommandArgumentNames.COLONYID_ARG;
+
+/**
+ * Shows the statistics of the path cache of a colony.
+ */
+public class CommandPathCacheStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSource> context)
+    {
+        final int colonyID = IntegerArgumentType.getInteger(context, COLONYID_ARG);
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyID, context.getSource().getLevel().dimension());
+        if (!(colony instanceof Colony))
+        {
+            context.getSource().sendSuccess(LanguageHandler.buildChatComponent("com.minecolonies.command.colonyidnotfound", colonyID), true);
+            return 0;
+        }
+
+        final PathCache cache = ((Colony) colony).getPathCache();
+        context.getSource()
+          .sendSuccess(LanguageHandler.buildChatComponent("com.minecolonies.command.pathcache.stats",
+            colonyID,
+            cache.size(),
+            cache.getHits(),
+            cache.getMisses(),
+            cache.getEvictions(),
+            cache.getInvalidations()), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathCache";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSource> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .then(IMCCommand.newArgument(COLONYID_ARG, IntegerArgumentType.integer(1)).executes(this::checkPreConditionAndExecute));
+    }
+}
@@ -0,0 +1,50 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+
+import java.util.Map;
+
+/**
+ * Shows the queue and the timings of the colony tick scheduler.
+ */
+public class CommandColonyTickStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSource> context)
+    {
+        context.getSource()
+          .sendSuccess(LanguageHandler.buildChatComponent("com.minecolonies.command.colonyticks.queue",
+            ColonyTickScheduler.getQueueSize(),
+            ColonyTickScheduler.getOverBudgetTicks(),
+            ColonyTickScheduler.getCarried()), true);
+
+        for (final Map.Entry<String, ColonyTickScheduler.Timing> entry : ColonyTickScheduler.getTimings().entrySet())
+        {
+            context.getSource()
+              .sendSuccess(LanguageHandler.buildChatComponent("com.minecolonies.command.colonyticks.timing",
+                entry.getKey(),
+                entry.getValue().getCount(),
+                entry.getValue().getAverageMicros(),
+                entry.getValue().getMaxMicros()), true);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "colonyTicks";
+    }
+}
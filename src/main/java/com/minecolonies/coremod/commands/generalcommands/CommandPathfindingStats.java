@@ -0,0 +1,47 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
+import com.minecolonies.coremod.entity.pathfinding.PathJobScheduler;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+
+/**
+ * Shows the queue depth and wait times of the pathfinding scheduler per priority.
+ */
+public class CommandPathfindingStats implements IMCOPCommand
+{
+    /**
+     * What happens when the command is executed after preConditions are successful.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSource> context)
+    {
+        final PathJobScheduler scheduler = Pathfinding.getExecutor();
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            context.getSource()
+              .sendSuccess(LanguageHandler.buildChatComponent("com.minecolonies.command.pathfinding.stats",
+                priority.name().toLowerCase(),
+                scheduler.getQueueDepth(priority),
+                scheduler.getSubmitted(priority),
+                scheduler.getDropped(priority),
+                scheduler.getAverageWait(priority),
+                scheduler.getMaxWait(priority)), true);
+        }
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "pathfinding";
+    }
+}
@@ -33,6 +33,7 @@ import com.minecolonies.coremod.colony.buildings.utils.BuilderBucket;
 import com.minecolonies.coremod.colony.buildings.utils.BuildingBuilderResource;
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
 import net.minecraft.block.AirBlock;
 import net.minecraft.block.Block;
@@ -56,7 +57,7 @@ import java.util.function.Predicate;
 
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
-import static com.minecolonies.api.research.util.ResearchConstants.BLOCK_PLACE_SPEED;
+import static com.minecolonies.api.research.util.ResearchConstants.BLOCK_PLACE_SPEED_ID;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure.ItemCheckResult.*;
@@ -470,6 +471,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
             if (hasListOfResInInvOrRequest(this, result.getBlockResult().getRequiredItems(), result.getBlockResult().getRequiredItems().size() > 1) == RECALC)
             {
                 job.getWorkOrder().setRequested(false);
+                // Drop the stored key, so loading the structure requests the recalculated materials again.
+                getOwnBuilding().setRequirementsKey("");
                 return LOAD_STRUCTURE;
             }
             return NEEDS_ITEM;
@@ -483,7 +486,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
 
         if (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() > 0)
         {
-            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED);
+            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED_ID);
 
             setDelay((int) (
               (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER))
@@ -547,48 +550,40 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
-        final BuildingStructureHandler<J, B> structure;
+        final BuildingStructureHandler.Stage[] stages;
         IBuilding colonyBuilding = worker.getCitizenColonyHandler().getColony().getBuildingManager().getBuilding(position);
         final TileEntity entity = world.getBlockEntity(position);
 
         if (removal)
         {
-            structure = new BuildingStructureHandler<>(world,
-              position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
-              this, new BuildingStructureHandler.Stage[] {REMOVE_WATER, REMOVE});
-            getOwnBuilding().setTotalStages(2);
+            stages = new BuildingStructureHandler.Stage[] {REMOVE_WATER, REMOVE};
         }
         else if ((colonyBuilding != null && (colonyBuilding.getBuildingLevel() > 0 || colonyBuilding.hasParent())) ||
                    (entity instanceof TileEntityDecorationController && ((TileEntityDecorationController) entity).getTier() > 0))
         {
-            structure = new BuildingStructureHandler<>(world,
-              position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
-              this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
-            getOwnBuilding().setTotalStages(5);
+            stages = new BuildingStructureHandler.Stage[] {BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN};
         }
         else
         {
-            structure = new BuildingStructureHandler<>(world,
-              position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
-              this, new BuildingStructureHandler.Stage[] {CLEAR, BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
-            getOwnBuilding().setTotalStages(6);
+            stages = new BuildingStructureHandler.Stage[] {CLEAR, BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN};
         }
+        getOwnBuilding().setTotalStages(stages.length);
 
-        if (!structure.hasBluePrint())
+        final Blueprint blueprint = BlueprintCache.acquire(world, name, rotateTimes, isMirrored);
+        if (blueprint == null)
         {
             handleSpecificCancelActions();
             Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
             return;
         }
 
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        final BuildingStructureHandler<J, B> structure = new BuildingStructureHandler<>(world,
+          position,
+          blueprint,
+          new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+          this, stages);
+
+        job.setBlueprint(blueprint);
         setStructurePlacer(structure);
 
         if (getProgressPos() != null)
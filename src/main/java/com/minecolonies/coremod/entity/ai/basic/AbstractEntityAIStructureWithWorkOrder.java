@@ -64,6 +64,11 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      */
     protected BlockPos requestProgress = null;
 
+    /**
+     * Identifies the loaded structure, to know if the requirements stored in the building still apply.
+     */
+    private String requirementsKey = "";
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -168,7 +173,10 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
         loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored(), removal);
         workOrder.setCleared(false);
-        workOrder.setRequested(removal);
+
+        // The requirements stay valid while the builder works on the same structure, they are reduced as blocks are placed.
+        requirementsKey = workOrder.getID() + ":" + workOrder.getStructureName() + ":" + tempRotation + ":" + workOrder.isMirrored();
+        workOrder.setRequested(removal || requirementsKey.equals(getOwnBuilding().getRequirementsKey()));
     }
 
     /**
@@ -185,6 +193,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         if (requestMaterials())
         {
             job.getWorkOrder().setRequested(true);
+            buildingWorker.setRequirementsKey(requirementsKey);
         }
         int newQuantity = buildingWorker.getNeededResources().values().stream().mapToInt(ItemStorage::getAmount).sum();
         if (job.getWorkOrder().getAmountOfRes() == 0 || newQuantity > job.getWorkOrder().getAmountOfRes())
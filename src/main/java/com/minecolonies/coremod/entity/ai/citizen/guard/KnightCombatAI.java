@@ -17,6 +17,7 @@ import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.ai.combat.AttackMoveAI;
+import com.minecolonies.coremod.entity.ai.combat.CombatantIndex;
 import com.minecolonies.coremod.entity.ai.combat.CombatUtils;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.util.NamedDamageSource;
@@ -103,7 +104,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
     {
         final int shieldSlot = InventoryUtils.findFirstSlotInItemHandlerWith(user.getInventoryCitizen(), Items.SHIELD);
         if (shieldSlot != -1 && target != null && target.isAlive() && nextAttackTime - user.level.getGameTime() >= MIN_TIME_TO_ATTACK &&
-              user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SHIELD_USAGE) > 0)
+              user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SHIELD_USAGE_ID) > 0)
         {
             user.getCitizenItemHandler().setHeldItem(Hand.OFF_HAND, shieldSlot);
             user.startUsingItem(Hand.OFF_HAND);
@@ -167,7 +168,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
         target.hurt(source, (float) damageToBeDealt);
         target.setLastHurtByMob(user);
 
-        if (target instanceof MobEntity && user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_TAUNT) > 0)
+        if (target instanceof MobEntity && user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_TAUNT_ID) > 0)
         {
             ((MobEntity) target).setTarget(user);
             if (target instanceof IThreatTableEntity)
@@ -190,10 +191,10 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
      */
     private void doAoeAttack(final DamageSource source, final double damageToBeDealt)
     {
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_WHIRLWIND) > 0
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_WHIRLWIND_ID) > 0
               && user.getRandom().nextInt(KNOCKBACK_CHANCE) == 0)
         {
-            List<LivingEntity> entities = user.level.getLoadedEntitiesOfClass(LivingEntity.class, user.getBoundingBox().inflate(2.0D, 0.5D, 2.0D));
+            List<LivingEntity> entities = CombatantIndex.get(user.level).getEntities(user.getBoundingBox().inflate(2.0D, 0.5D, 2.0D));
             for (LivingEntity livingentity : entities)
             {
                 if (livingentity != user && isEntityValidTarget(livingentity) && (!(livingentity instanceof ArmorStandEntity)))
@@ -258,7 +259,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
             addDmg += EnchantmentHelper.getDamageBonus(heldItem, target.getMobType()) / 2.5;
         }
 
-        addDmg += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_DAMAGE);
+        addDmg += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_DAMAGE_ID);
 
         if (user.getHealth() <= user.getMaxHealth() * 0.2D)
         {
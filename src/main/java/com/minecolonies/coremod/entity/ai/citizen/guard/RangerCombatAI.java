@@ -133,9 +133,9 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         user.swing(Hand.MAIN_HAND);
 
         int amountOfArrows = 1;
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS) > 0)
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS_ID) > 0)
         {
-            if (user.getRandom().nextDouble() < user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS))
+            if (user.getRandom().nextDouble() < user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS_ID))
             {
                 amountOfArrows++;
             }
@@ -145,7 +145,7 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         {
             final AbstractArrowEntity arrow = CombatUtils.createArrowForShooter(user);
 
-            if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARROW_PIERCE) > 0)
+            if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARROW_PIERCE_ID) > 0)
             {
                 arrow.setPierceLevel((byte) 2);
             }
@@ -229,9 +229,9 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         final ItemStack heldItem = user.getItemInHand(Hand.MAIN_HAND);
         damage += EnchantmentHelper.getDamageBonus(heldItem, target.getMobType()) / 2.5;
         damage += EnchantmentHelper.getItemEnchantmentLevel(Enchantments.POWER_ARROWS, heldItem);
-        damage += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_DAMAGE);
+        damage += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_DAMAGE_ID);
 
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS) > 0)
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS_ID) > 0)
         {
             int slot = InventoryUtils.findFirstSlotInItemHandlerWith(user.getInventoryCitizen(), item -> item.getItem() instanceof ArrowItem);
             if (slot != -1)
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.ai.citizen.miner;
 
+import com.ldtteam.structures.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructureIterators;
@@ -29,6 +30,7 @@ import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructureWithWor
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.entity.ai.util.WorkerLoadOnlyStructureHandler;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.*;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.fluid.Fluids;
@@ -45,7 +47,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
-import static com.minecolonies.api.research.util.ResearchConstants.BLOCK_PLACE_SPEED;
+import static com.minecolonies.api.research.util.ResearchConstants.BLOCK_PLACE_SPEED_ID;
 import static com.minecolonies.api.research.util.ResearchConstants.MORE_ORES;
 import static com.minecolonies.api.util.constant.CitizenConstants.PROGRESS_MULTIPLIER;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
@@ -146,25 +148,23 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
     @Override
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
-        final BuildingStructureHandler<JobQuarrier, BuildingMiner> structure;
+        getOwnBuilding().setTotalStages(3);
 
-        structure = new BuildingStructureHandler<>(world,
-          position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
-              this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, DECORATE, CLEAR});
-            getOwnBuilding().setTotalStages(3);
-
-
-        if (!structure.hasBluePrint())
+        final Blueprint blueprint = BlueprintCache.acquire(world, name, rotateTimes, isMirrored);
+        if (blueprint == null)
         {
             handleSpecificCancelActions();
             Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
             return;
         }
 
-        job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+        final BuildingStructureHandler<JobQuarrier, BuildingMiner> structure = new BuildingStructureHandler<>(world,
+          position,
+          blueprint,
+          new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+          this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, DECORATE, CLEAR});
+
+        job.setBlueprint(blueprint);
         setStructurePlacer(structure);
 
         if (getProgressPos() != null)
@@ -313,6 +313,8 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
             if (hasListOfResInInvOrRequest(this, result.getBlockResult().getRequiredItems(), result.getBlockResult().getRequiredItems().size() > 1) == RECALC)
             {
                 job.getWorkOrder().setRequested(false);
+                // Drop the stored key, so loading the structure requests the recalculated materials again.
+                getOwnBuilding().setRequirementsKey("");
                 return LOAD_STRUCTURE;
             }
             return NEEDS_ITEM;
@@ -334,7 +336,7 @@ public class EntityAIQuarrier extends AbstractEntityAIStructureWithWorkOrder<Job
 
         if (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() > 0)
         {
-            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED);
+            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED_ID);
 
             setDelay((int) (
               (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER))
@@ -14,6 +14,7 @@ import java.util.List;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_RESEARCH;
 
 public class EntityAIWorkResearcher extends AbstractEntityAIInteract<JobResearch, BuildingUniversity>
 {
@@ -74,6 +75,7 @@ public class EntityAIWorkResearcher extends AbstractEntityAIInteract<JobResearch
             {
                 getOwnBuilding().onSuccess(research);
             }
+            colony.getPackageManager().setDirty(SECTION_RESEARCH);
             job.reduceCurrentMana();
         }
 
@@ -0,0 +1,197 @@
+package com.minecolonies.coremod.entity.ai.combat;
+
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid of the living entities of a world by chunk section, shared by the target searches of all guards, mercenaries and raiders. A section is read from its chunk
+ * the first time it is queried in a tick and reused by every other query of that tick, so many combatants searching the same area cost one read per section instead of
+ * one entity query each.
+ */
+public final class CombatantIndex
+{
+    /**
+     * Max radius of an entity bounding box, entities are bucketed by their position but may reach into neighbouring sections.
+     */
+    private static final double MAX_ENTITY_RADIUS = 2.0D;
+
+    /**
+     * The index of each dimension.
+     */
+    private static final Map<RegistryKey<World>, CombatantIndex> indexByDimension = new HashMap<>();
+
+    /**
+     * The world of the index.
+     */
+    private final World world;
+
+    /**
+     * The game time the sections were read at.
+     */
+    private long gameTime = -1;
+
+    /**
+     * The living entities of each section read this tick, by section position.
+     */
+    private final Long2ObjectOpenHashMap<List<LivingEntity>> sections = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Create the index of a world.
+     *
+     * @param world the world.
+     */
+    private CombatantIndex(@NotNull final World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Get the index of a server world.
+     *
+     * @param world the world.
+     * @return the index.
+     */
+    public static CombatantIndex get(@NotNull final World world)
+    {
+        CombatantIndex index = indexByDimension.get(world.dimension());
+        if (index == null || index.world != world)
+        {
+            index = new CombatantIndex(world);
+            indexByDimension.put(world.dimension(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Get all living entities touching an area.
+     *
+     * @param area the area.
+     * @return the entities, in no particular order.
+     */
+    public List<LivingEntity> getEntities(@NotNull final AxisAlignedBB area)
+    {
+        if (gameTime != world.getGameTime())
+        {
+            gameTime = world.getGameTime();
+            sections.clear();
+        }
+
+        final int minX = MathHelper.floor(area.minX - MAX_ENTITY_RADIUS) >> 4;
+        final int maxX = MathHelper.floor(area.maxX + MAX_ENTITY_RADIUS) >> 4;
+        final int minY = MathHelper.clamp(MathHelper.floor(area.minY - MAX_ENTITY_RADIUS) >> 4, 0, 15);
+        final int maxY = MathHelper.clamp(MathHelper.floor(area.maxY + MAX_ENTITY_RADIUS) >> 4, 0, 15);
+        final int minZ = MathHelper.floor(area.minZ - MAX_ENTITY_RADIUS) >> 4;
+        final int maxZ = MathHelper.floor(area.maxZ + MAX_ENTITY_RADIUS) >> 4;
+
+        final List<LivingEntity> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    for (final LivingEntity entity : getSection(x, y, z))
+                    {
+                        if (entity.getBoundingBox().intersects(area))
+                        {
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the nearest living entity in an area matching a predicate.
+     *
+     * @param area      the area.
+     * @param from      the entity to measure the distance from, never returned itself.
+     * @param predicate the predicate, only tested until the nearest match is found.
+     * @return the entity or null if none matches.
+     */
+    @Nullable
+    public LivingEntity findNearest(@NotNull final AxisAlignedBB area, @NotNull final LivingEntity from, @NotNull final Predicate<LivingEntity> predicate)
+    {
+        for (final LivingEntity entity : getEntitiesByDistance(area, from))
+        {
+            if (predicate.test(entity))
+            {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get all living entities touching an area, nearest first.
+     *
+     * @param area the area.
+     * @param from the entity to measure the distance from, not part of the result.
+     * @return the sorted entities.
+     */
+    public List<LivingEntity> getEntitiesByDistance(@NotNull final AxisAlignedBB area, @NotNull final LivingEntity from)
+    {
+        final List<LivingEntity> entities = getEntities(area);
+        entities.remove(from);
+        entities.sort(Comparator.comparingDouble(from::distanceToSqr));
+        return entities;
+    }
+
+    /**
+     * Get the living entities of a section, reading them from the chunk if this is the first query of the tick.
+     *
+     * @param x the section x.
+     * @param y the section y.
+     * @param z the section z.
+     * @return the entities, empty if the chunk is not loaded.
+     */
+    private List<LivingEntity> getSection(final int x, final int y, final int z)
+    {
+        final long key = SectionPos.asLong(x, y, z);
+        List<LivingEntity> section = sections.get(key);
+        if (section == null)
+        {
+            section = Collections.emptyList();
+            if (WorldUtil.isEntityChunkLoaded(world, x, z))
+            {
+                final Chunk chunk = world.getChunkSource().getChunkNow(x, z);
+                if (chunk != null)
+                {
+                    // Same as the spectator filter of getLoadedEntitiesOfClass, spectators are never combatants.
+                    section = new ArrayList<>();
+                    for (final LivingEntity entity : chunk.getEntitySections()[y].find(LivingEntity.class))
+                    {
+                        if (!entity.isSpectator())
+                        {
+                            section.add(entity);
+                        }
+                    }
+                }
+            }
+            sections.put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * Forget all worlds, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        indexByDimension.clear();
+    }
+}
@@ -126,7 +126,8 @@ public class TargetAI<T extends LivingEntity & IThreatTableEntity> implements IS
     }
 
     /**
-     * Get a target for the guard. First check if we're under attack by anything and switch target if necessary.
+     * Get a target for the guard. First check if we're under attack by anything and switch target if necessary. Candidates come from the shared {@link CombatantIndex},
+     * nearest first, so the nearest valid targets enter the threat table first and win ties in threat.
      *
      * @return The next IAIState to go to.
      */
@@ -137,7 +138,7 @@ public class TargetAI<T extends LivingEntity & IThreatTableEntity> implements IS
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getLoadedEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = CombatantIndex.get(user.level).getEntitiesByDistance(getSearchArea(), user);
 
         if (entities.isEmpty())
         {
@@ -9,8 +9,10 @@ import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHospital;
+import com.minecolonies.coremod.entity.ai.combat.CombatantIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.BlockPos;
@@ -162,6 +164,13 @@ public class EntityAICitizenAvoidEntity extends Goal
         {
             return CompatibilityUtils.getWorldFromCitizen(citizen).getNearestPlayer(citizen, (double) distanceFromEntity);
         }
+        else if (LivingEntity.class.isAssignableFrom(targetEntityClass))
+        {
+            return CombatantIndex.get(CompatibilityUtils.getWorldFromCitizen(citizen))
+                     .findNearest(citizen.getBoundingBox().inflate(distanceFromEntity, 3.0D, distanceFromEntity),
+                       citizen,
+                       target -> targetEntityClass.isInstance(target) && target.isAlive() && citizen.getSensing().canSee(target));
+        }
         else
         {
             final Optional<Entity> entityOptional = CompatibilityUtils.getWorldFromCitizen(citizen).getEntities(
@@ -28,7 +28,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
 
-import static com.minecolonies.api.research.util.ResearchConstants.GROWTH;
+import static com.minecolonies.api.research.util.ResearchConstants.GROWTH_ID;
 
 /**
  * AI which controls child behaviour and growing.
@@ -299,7 +299,7 @@ public class EntityAICitizenChild extends Goal
                 return true;
             }
 
-            final double growthModifier = (1 + child.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(GROWTH));
+            final double growthModifier = (1 + child.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(GROWTH_ID));
 
             // 1/144 Chance to grow up, every 25 seconds = avg 1h. Set to half since this AI isnt always active, e.g. sleeping.  At 2h they directly grow
             if (rand.nextInt((int) (70 / growthModifier) + 1) == 0 || aiActiveTime > 70000 / growthModifier)
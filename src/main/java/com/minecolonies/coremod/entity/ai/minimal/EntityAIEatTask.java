@@ -37,7 +37,7 @@ import net.minecraft.util.text.TranslationTextComponent;
 
 import java.util.EnumSet;
 
-import static com.minecolonies.api.research.util.ResearchConstants.SATURATION;
+import static com.minecolonies.api.research.util.ResearchConstants.SATURATION_ID;
 import static com.minecolonies.api.util.ItemStackUtils.CAN_EAT;
 import static com.minecolonies.api.util.ItemStackUtils.ISCOOKABLE;
 import static com.minecolonies.api.util.constant.CitizenConstants.LOW_SATURATION;
@@ -287,7 +287,7 @@ public class EntityAIEatTask extends Goal
         final Item containerItem = stack.getItem().getCraftingRemainingItem();
 
         final double satIncrease =
-          itemFood.getNutrition() * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION));
+          itemFood.getNutrition() * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION_ID));
 
         citizenData.increaseSaturation(satIncrease / 2.0);
         citizenData.getInventory().extractItem(foodSlot, 1, false);
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.ai.minimal;
 
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import net.minecraft.block.*;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.MobEntity;
@@ -324,6 +325,7 @@ public class EntityAIInteractToggleAble extends Goal
                 if (toggleAble.isBlockToggleAble(state))
                 {
                     toggleAble.toggleBlockClosed(state, entity.level, pos);
+                    Pathfinding.onBlockChanged(entity.level, pos);
                     break;
                 }
             }
@@ -396,6 +398,7 @@ public class EntityAIInteractToggleAble extends Goal
                     if (toggleAble.isBlockToggleAble(blockState))
                     {
                         toggleAble.toggleBlockClosed(blockState, entity.level, pos);
+                        Pathfinding.onBlockChanged(entity.level, pos);
                         break;
                     }
                 }
@@ -415,6 +418,7 @@ public class EntityAIInteractToggleAble extends Goal
                     if (toggleAble.isBlockToggleAble(state))
                     {
                         toggleAble.toggleBlock(state, entity.level, chosen);
+                        Pathfinding.onBlockChanged(entity.level, chosen);
                         break;
                     }
                 }
@@ -577,11 +577,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS_ID) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS_ID) > 0;
     }
 
     /**
@@ -596,11 +596,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES_ID) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES_ID) > 0;
     }
 
 
@@ -623,12 +623,12 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (getHealth() < getMaxHealth())
         {
-            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_ID);
 
             final double healAmount;
             if (citizenData.getSaturation() >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_ID));
             }
             else if (citizenData.getSaturation() < LOW_SATURATION)
             {
@@ -636,7 +636,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             }
             else
             {
-                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_ID));
             }
 
             heal((float) healAmount);
@@ -1157,7 +1157,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     private boolean shouldWorkWhileRaining()
     {
         return MineColonies.getConfig().getServer().workersAlwaysWorkInRain.get() ||
-                 getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN) > 0 ||
+                 getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN_ID) > 0 ||
                  (citizenColonyHandler.getWorkBuilding() != null
                     && citizenColonyHandler.getWorkBuilding().hasModule(WorkerBuildingModule.class)
                     && citizenColonyHandler.getWorkBuilding().getFirstModuleOccurance(WorkerBuildingModule.class).canWorkDuringTheRain());
@@ -1341,9 +1341,9 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             {
                 if (citizenJobHandler.getColonyJob() instanceof JobKnight)
                 {
-                    if (citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS) > 0)
+                    if (citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS_ID) > 0)
                     {
-                        if (getRandom().nextDouble() < citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS))
+                        if (getRandom().nextDouble() < citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS_ID))
                         {
                             return false;
                         }
@@ -1353,7 +1353,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
                 if (citizenData.getWorkBuilding() instanceof AbstractBuildingGuards && ((AbstractBuildingGuards) citizenData.getWorkBuilding()).shallRetrieveOnLowHealth()
                       && getHealth() < ((int) getMaxHealth() * 0.2D))
                 {
-                    damageInc *= 1 - citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_DAMAGE);
+                    damageInc *= 1 - citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_DAMAGE_ID);
                 }
             }
         }
@@ -1560,11 +1560,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (citizenJobHandler.getColonyJob() instanceof JobKnight)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR_ID)));
         }
         else if (citizenJobHandler.getColonyJob() instanceof JobRanger)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR_ID)));
         }
         return super.getArmorValue();
     }
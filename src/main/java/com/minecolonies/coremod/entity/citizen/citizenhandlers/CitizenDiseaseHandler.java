@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.citizen.citizenhandlers;
 
 import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
@@ -84,6 +85,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
                   citizen.getRandom().nextInt(configModifier * DISEASE_FACTOR) < citizenModifier)
             {
                 this.disease = IColonyManager.getInstance().getCompatibilityManager().getRandomDisease();
+                updateStatistics();
             }
         }
 
@@ -114,6 +116,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
               && citizen.getRandom().nextInt(ONE_HUNDRED_PERCENT) < 1)
         {
             this.disease = citizen.getCitizenDiseaseHandler().getDisease();
+            updateStatistics();
         }
     }
 
@@ -151,6 +154,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
     public void cure()
     {
         this.disease = "";
+        updateStatistics();
         if (citizen.getCitizenSleepHandler().isAsleep())
         {
             citizen.stopSleeping();
@@ -164,4 +168,16 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
             immunityTicks = IMMUNITY_TIME;
         }
     }
+
+    /**
+     * Recount the citizen in the colony statistics, after the disease changed.
+     */
+    private void updateStatistics()
+    {
+        final ICitizenData data = citizen.getCitizenData();
+        if (data != null)
+        {
+            data.getColony().getCitizenManager().updateStatistics(data);
+        }
+    }
 }
@@ -1,9 +1,11 @@
 package com.minecolonies.coremod.entity.citizen.citizenhandlers;
 
+import com.minecolonies.api.colony.CitizenStatistic;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.InteractionValidatorRegistry;
+import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHandler;
 import com.minecolonies.api.entity.citizen.happiness.*;
 import com.minecolonies.api.util.Tuple;
@@ -18,7 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static com.minecolonies.api.research.util.ResearchConstants.HAPPINESS;
+import static com.minecolonies.api.research.util.ResearchConstants.HAPPINESS_ID;
 import static com.minecolonies.api.util.constant.HappinessConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.DEMANDS;
 import static com.minecolonies.api.util.constant.TranslationConstants.NO;
@@ -143,7 +145,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS_ID));
 
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
@@ -202,36 +204,14 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     private double getSocialModifier(final IColony colony)
     {
-        final double total = colony.getCitizenManager().getCitizens().size();
-        double unemployment = 0;
-        double homelessness = 0;
-        double sickPeople = 0;
-        double hungryPeople = 0;
-
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (!citizen.isChild() && citizen.getJob() == null)
-            {
-                unemployment++;
-            }
-
-            if (citizen.getHomeBuilding() == null)
-            {
-                homelessness++;
-            }
-
-            if (citizen.getEntity().isPresent() && citizen.getEntity().get().getCitizenDiseaseHandler().isSick())
-            {
-                sickPeople++;
-            }
-
-            if (citizen.getSaturation() <= 1)
-            {
-                hungryPeople++;
-            }
-        }
-
-        return (total - (unemployment + homelessness + sickPeople + hungryPeople)) / total;
+        final ICitizenManager citizenManager = colony.getCitizenManager();
+        final double total = citizenManager.getCivilianDataMap().size();
+        final double unhappy = citizenManager.getStatistic(CitizenStatistic.UNEMPLOYED)
+                                 + citizenManager.getStatistic(CitizenStatistic.HOMELESS)
+                                 + citizenManager.getStatistic(CitizenStatistic.SICK)
+                                 + citizenManager.getStatistic(CitizenStatistic.HUNGRY);
+
+        return (total - unhappy) / total;
     }
 
     /**
@@ -242,19 +222,10 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     private double getGuardFactor(final IColony colony)
     {
-        double guards = 1;
-        double workers = 1;
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (citizen.getJob() instanceof AbstractJobGuard)
-            {
-                guards++;
-            }
-            else
-            {
-                workers++;
-            }
-        }
+        final ICitizenManager citizenManager = colony.getCitizenManager();
+        final int guardCount = citizenManager.getStatistic(CitizenStatistic.GUARDS);
+        final double guards = 1 + guardCount;
+        final double workers = 1 + citizenManager.getCivilianDataMap().size() - guardCount;
         return Math.min(guards / (workers * 2 / 3), 2);
     }
 
@@ -12,7 +12,7 @@ import net.minecraft.util.math.BlockPos;
 
 import java.util.EnumSet;
 
-import static com.minecolonies.api.research.util.ResearchConstants.MECHANIC_ENHANCED_GATES;
+import static com.minecolonies.api.research.util.ResearchConstants.MECHANIC_ENHANCED_GATES_ID;
 
 import net.minecraft.entity.ai.goal.Goal.Flag;
 
@@ -97,7 +97,7 @@ public class EntityAIBreakDoor extends BreakDoorGoal
             {
                 final IColony colony = ((AbstractEntityMinecoloniesMob) mob).getColony();
 
-                fasterBreakPerXNearby += colony.getResearchManager().getResearchEffects().getEffectStrength(MECHANIC_ENHANCED_GATES);
+                fasterBreakPerXNearby += colony.getResearchManager().getResearchEffects().getEffectStrength(MECHANIC_ENHANCED_GATES_ID);
             }
             breakChance = Math.max(1,
               hardness / (1 + (mob.level.getLoadedEntitiesOfClass(AbstractEntityMinecoloniesMob.class, mob.getBoundingBox().inflate(5)).size() / fasterBreakPerXNearby)));
@@ -45,6 +45,16 @@ public class ChunkCache implements IWorldReader
      */
     protected World     world;
 
+    /**
+     * Shared section snapshots of the dimension.
+     */
+    protected ChunkSectionSnapshotCache snapshotCache;
+
+    /**
+     * Section snapshots already resolved by this cache, by chunk x, chunk z and section y.
+     */
+    protected ChunkSectionSnapshot[][][] sectionArray;
+
     public ChunkCache(World worldIn, BlockPos posFromIn, BlockPos posToIn, int subIn)
     {
         this.world = worldIn;
@@ -53,6 +63,8 @@ public class ChunkCache implements IWorldReader
         int i = posToIn.getX() + subIn >> 4;
         int j = posToIn.getZ() + subIn >> 4;
         this.chunkArray = new Chunk[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.sectionArray = new ChunkSectionSnapshot[i - this.chunkX + 1][j - this.chunkZ + 1][];
+        this.snapshotCache = ChunkSectionSnapshotCache.get(worldIn);
         this.empty = true;
 
         for (int k = this.chunkX; k <= i; ++k)
@@ -112,7 +124,7 @@ public class ChunkCache implements IWorldReader
 
                 if (chunk != null)
                 {
-                    return chunk.getBlockState(pos);
+                    return getSection(i, j, pos.getY() >> 4).getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
                 }
             }
         }
@@ -134,7 +146,7 @@ public class ChunkCache implements IWorldReader
 
                 if (chunk != null)
                 {
-                    return chunk.getFluidState(pos);
+                    return getSection(i, j, pos.getY() >> 4).getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15).getFluidState();
                 }
             }
         }
@@ -142,6 +154,32 @@ public class ChunkCache implements IWorldReader
         return Fluids.EMPTY.defaultFluidState();
     }
 
+    /**
+     * Get the snapshot of a section, resolving it from the shared cache on first access.
+     *
+     * @param i        the chunk x index.
+     * @param j        the chunk z index.
+     * @param sectionY the section index.
+     * @return the snapshot.
+     */
+    private ChunkSectionSnapshot getSection(final int i, final int j, final int sectionY)
+    {
+        ChunkSectionSnapshot[] sections = this.sectionArray[i][j];
+        if (sections == null)
+        {
+            sections = new ChunkSectionSnapshot[16];
+            this.sectionArray[i][j] = sections;
+        }
+
+        ChunkSectionSnapshot section = sections[sectionY];
+        if (section == null)
+        {
+            section = snapshotCache.getSection(this.chunkArray[i][j], sectionY);
+            sections[sectionY] = section;
+        }
+        return section;
+    }
+
     @Override
     public Biome getUncachedNoiseBiome(final int x, final int y, final int z)
     {
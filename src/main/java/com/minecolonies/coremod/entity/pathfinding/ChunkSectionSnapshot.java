@@ -0,0 +1,204 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.world.chunk.ChunkSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of the block states of a 16x16x16 chunk section. States are stored as indices into a palette, bit-packed into a long array, so the snapshot can be read
+ * from any thread without touching the live chunk.
+ */
+public final class ChunkSectionSnapshot
+{
+    /**
+     * Amount of blocks in a section.
+     */
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+
+    /**
+     * Snapshot for sections which only contain air.
+     */
+    public static final ChunkSectionSnapshot EMPTY = new ChunkSectionSnapshot(new BlockState[] {Blocks.AIR.defaultBlockState()}, new long[0], 0, 0);
+
+    /**
+     * The palette of states in this section.
+     */
+    private final BlockState[] palette;
+
+    /**
+     * The packed palette indices.
+     */
+    private final long[] data;
+
+    /**
+     * Bits per stored index.
+     */
+    private final int bits;
+
+    /**
+     * Indices stored per long.
+     */
+    private final int valuesPerLong;
+
+    /**
+     * Mask to read a single index.
+     */
+    private final long mask;
+
+    /**
+     * Access stamp at which the snapshot was taken.
+     */
+    private final long created;
+
+    /**
+     * Last time this snapshot was read, used for LRU eviction.
+     */
+    private volatile long lastAccess;
+
+    /**
+     * Create a new snapshot.
+     *
+     * @param palette the palette.
+     * @param data    the packed indices.
+     * @param bits    the bits per index.
+     * @param stamp   the access stamp at creation.
+     */
+    private ChunkSectionSnapshot(final BlockState[] palette, final long[] data, final int bits, final long stamp)
+    {
+        this.palette = palette;
+        this.data = data;
+        this.bits = bits;
+        this.valuesPerLong = bits == 0 ? 0 : 64 / bits;
+        this.mask = (1L << bits) - 1;
+        this.created = stamp;
+        this.lastAccess = stamp;
+    }
+
+    /**
+     * Copy the states of a live chunk section. The section may be changed by the server thread while it is copied, a copy which read an inconsistent palette is discarded,
+     * torn copies have to be detected by the caller.
+     *
+     * @param section the section, may be null for empty sections.
+     * @param stamp   the current access stamp.
+     * @return the snapshot, or null if the copy read an inconsistent state.
+     */
+    @Nullable
+    public static ChunkSectionSnapshot of(@Nullable final ChunkSection section, final long stamp)
+    {
+        if (ChunkSection.isEmpty(section))
+        {
+            return EMPTY;
+        }
+
+        final Reference2IntMap<BlockState> paletteIndex = new Reference2IntOpenHashMap<>();
+        paletteIndex.defaultReturnValue(-1);
+        final List<BlockState> palette = new ArrayList<>();
+        final int[] indices = new int[SECTION_VOLUME];
+        BlockState lastState = null;
+        int lastIndex = -1;
+        try
+        {
+            for (int i = 0; i < SECTION_VOLUME; i++)
+            {
+                final BlockState state = section.getBlockState(i & 15, i >> 8, (i >> 4) & 15);
+                if (state != lastState)
+                {
+                    if (state == null)
+                    {
+                        return null;
+                    }
+
+                    lastIndex = paletteIndex.getInt(state);
+                    if (lastIndex == -1)
+                    {
+                        lastIndex = palette.size();
+                        paletteIndex.put(state, lastIndex);
+                        palette.add(state);
+                    }
+                    lastState = state;
+                }
+                indices[i] = lastIndex;
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            // The palette got resized while we were reading it.
+            return null;
+        }
+
+        if (palette.size() == 1)
+        {
+            return new ChunkSectionSnapshot(new BlockState[] {palette.get(0)}, new long[0], 0, stamp);
+        }
+
+        final int bits = 32 - Integer.numberOfLeadingZeros(palette.size() - 1);
+        final int valuesPerLong = 64 / bits;
+        final long[] data = new long[(SECTION_VOLUME + valuesPerLong - 1) / valuesPerLong];
+        for (int i = 0; i < SECTION_VOLUME; i++)
+        {
+            data[i / valuesPerLong] |= ((long) indices[i]) << ((i % valuesPerLong) * bits);
+        }
+
+        return new ChunkSectionSnapshot(palette.toArray(new BlockState[0]), data, bits, stamp);
+    }
+
+    /**
+     * Get the state at the section relative coordinates.
+     *
+     * @param x the x coordinate, 0-15.
+     * @param y the y coordinate, 0-15.
+     * @param z the z coordinate, 0-15.
+     * @return the state.
+     */
+    @NotNull
+    public BlockState getBlockState(final int x, final int y, final int z)
+    {
+        if (bits == 0)
+        {
+            return palette[0];
+        }
+
+        final int i = (y << 8) | (z << 4) | x;
+        return palette[(int) ((data[i / valuesPerLong] >>> ((i % valuesPerLong) * bits)) & mask)];
+    }
+
+    /**
+     * Mark the snapshot as read.
+     *
+     * @param stamp the current access stamp.
+     */
+    public void touch(final long stamp)
+    {
+        if (this != EMPTY)
+        {
+            lastAccess = stamp;
+        }
+    }
+
+    /**
+     * Get the time the snapshot was taken.
+     *
+     * @return the access stamp at creation.
+     */
+    public long getCreated()
+    {
+        return created;
+    }
+
+    /**
+     * Get the last time the snapshot was read.
+     *
+     * @return the access stamp.
+     */
+    public long getLastAccess()
+    {
+        return lastAccess;
+    }
+}
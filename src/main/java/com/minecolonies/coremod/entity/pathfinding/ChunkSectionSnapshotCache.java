@@ -0,0 +1,295 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.server.ServerWorld;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per dimension cache of immutable chunk section snapshots, shared by all pathfinding jobs. Snapshots are taken on demand by the pathfinding threads, only for the sections a
+ * search actually reads, and published lock-free. Each section has a version which the server thread bumps on every reported block change, a copy is only published if the
+ * version did not change while copying. Sections are dropped again when a block inside changes, when their chunk unloads, after they reached their max age, or when they are
+ * the least recently used ones once the cache is full.
+ */
+public final class ChunkSectionSnapshotCache
+{
+    /**
+     * Ticks between two eviction passes.
+     */
+    private static final int SWEEP_INTERVAL = 100;
+
+    /**
+     * Max age of a snapshot in ticks, catches block changes which are not reported by any event.
+     */
+    private static final int MAX_SNAPSHOT_AGE = 20 * 30;
+
+    /**
+     * Amount of sections in a chunk.
+     */
+    private static final int SECTIONS_PER_CHUNK = 16;
+
+    /**
+     * Copies of a section tried before a torn copy is used by the job alone.
+     */
+    private static final int MAX_COPY_ATTEMPTS = 3;
+
+    /**
+     * The cache of each dimension.
+     */
+    private static final Map<RegistryKey<World>, ChunkSectionSnapshotCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Current access stamp, counts server ticks.
+     */
+    private static volatile long currentStamp = 0;
+
+    /**
+     * Cached snapshots by packed section position.
+     */
+    private final Map<Long, ChunkSectionSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Version of each recently changed section by packed section position.
+     */
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Counter of block changes in this dimension, every change gets a new version.
+     */
+    private final AtomicLong versionCounter = new AtomicLong();
+
+    /**
+     * Version of the sections without a version entry, at least the highest pruned version.
+     */
+    private volatile long prunedVersion = 0;
+
+    /**
+     * Version counter at the previous sweep, older version entries are pruned.
+     */
+    private long versionAtLastSweep = 0;
+
+    private ChunkSectionSnapshotCache()
+    {
+        // Created through get.
+    }
+
+    /**
+     * Get the snapshot cache of the dimension.
+     *
+     * @param world the world.
+     * @return the cache.
+     */
+    @NotNull
+    public static ChunkSectionSnapshotCache get(@NotNull final World world)
+    {
+        return caches.computeIfAbsent(world.dimension(), key -> new ChunkSectionSnapshotCache());
+    }
+
+    /**
+     * Get the snapshot of a section of the chunk, copying it if none is cached. Called from the pathfinding threads.
+     *
+     * @param chunk    the loaded chunk.
+     * @param sectionY the section index.
+     * @return the snapshot.
+     */
+    @NotNull
+    public ChunkSectionSnapshot getSection(@NotNull final Chunk chunk, final int sectionY)
+    {
+        final ChunkSection[] sections = chunk.getSections();
+        final ChunkSection section = sectionY >= 0 && sectionY < sections.length ? sections[sectionY] : null;
+        if (ChunkSection.isEmpty(section))
+        {
+            return ChunkSectionSnapshot.EMPTY;
+        }
+
+        final long key = SectionPos.asLong(chunk.getPos().x, sectionY, chunk.getPos().z);
+        final long stamp = currentStamp;
+        final ChunkSectionSnapshot cached = snapshots.get(key);
+        if (cached != null)
+        {
+            cached.touch(stamp);
+            return cached;
+        }
+
+        ChunkSectionSnapshot snapshot = null;
+        for (int attempt = 0; attempt < MAX_COPY_ATTEMPTS; attempt++)
+        {
+            final long version = getVersion(key);
+            snapshot = ChunkSectionSnapshot.of(section, stamp);
+            if (snapshot == null || getVersion(key) != version)
+            {
+                continue;
+            }
+
+            final ChunkSectionSnapshot existing = snapshots.putIfAbsent(key, snapshot);
+            if (existing != null)
+            {
+                return existing;
+            }
+
+            // The section changed right after the copy, the invalidation may have run before we published.
+            if (getVersion(key) != version)
+            {
+                snapshots.remove(key, snapshot);
+            }
+            return snapshot;
+        }
+
+        // The section keeps changing, keep the last copy to this job.
+        return snapshot == null ? ChunkSectionSnapshot.EMPTY : snapshot;
+    }
+
+    /**
+     * Get the current version of a section.
+     *
+     * @param key the packed section position.
+     * @return the version.
+     */
+    private long getVersion(final long key)
+    {
+        final Long version = versions.get(key);
+        return version == null ? prunedVersion : version;
+    }
+
+    /**
+     * Drop the snapshot of a section and bump its version.
+     *
+     * @param key the packed section position.
+     */
+    private void invalidateSection(final long key)
+    {
+        versions.put(key, versionCounter.incrementAndGet());
+        snapshots.remove(key);
+    }
+
+    /**
+     * Drop the snapshot containing the position, and the one next to it if the position lies on the border to the section above or below, as doors span two blocks.
+     *
+     * @param pos the changed position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        final int sectionX = pos.getX() >> 4;
+        final int sectionY = pos.getY() >> 4;
+        final int sectionZ = pos.getZ() >> 4;
+        invalidateSection(SectionPos.asLong(sectionX, sectionY, sectionZ));
+        if ((pos.getY() & 15) == 15)
+        {
+            invalidateSection(SectionPos.asLong(sectionX, sectionY + 1, sectionZ));
+        }
+        else if ((pos.getY() & 15) == 0)
+        {
+            invalidateSection(SectionPos.asLong(sectionX, sectionY - 1, sectionZ));
+        }
+    }
+
+    /**
+     * Drop all snapshots of the chunk, called when it unloads.
+     *
+     * @param pos the chunk position.
+     */
+    public void invalidateChunk(@NotNull final ChunkPos pos)
+    {
+        for (int y = 0; y < SECTIONS_PER_CHUNK; y++)
+        {
+            invalidateSection(SectionPos.asLong(pos.x, y, pos.z));
+        }
+    }
+
+    /**
+     * Drop the snapshots around a changed block, if the world is a server world.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final IWorld world, @NotNull final BlockPos pos)
+    {
+        if (world instanceof ServerWorld)
+        {
+            get((World) world).invalidate(pos);
+        }
+    }
+
+    /**
+     * Get the amount of cached sections.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return snapshots.size();
+    }
+
+    /**
+     * Evict aged snapshots and trim the cache to the configured size, least recently used first.
+     */
+    private void sweep()
+    {
+        final long stamp = currentStamp;
+        snapshots.values().removeIf(snapshot -> stamp - snapshot.getCreated() > MAX_SNAPSHOT_AGE);
+
+        final int maxSize = MineColonies.getConfig().getServer().pathfindingSnapshotCacheSize.get();
+        if (snapshots.size() > maxSize)
+        {
+            final List<Map.Entry<Long, ChunkSectionSnapshot>> entries = new ArrayList<>(snapshots.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().getLastAccess()));
+            for (int i = 0; i < entries.size() - maxSize; i++)
+            {
+                snapshots.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        }
+
+        // Pruned sections read as the highest pruned version, so a copy running across the pruning sees a change at worst and retries.
+        final long pruneBelow = versionAtLastSweep;
+        prunedVersion = pruneBelow;
+        versions.values().removeIf(version -> version <= pruneBelow);
+        versionAtLastSweep = versionCounter.get();
+    }
+
+    /**
+     * Advance the access stamp and run the eviction, called at the end of every server tick.
+     */
+    public static void onServerTick()
+    {
+        currentStamp++;
+        if (currentStamp % SWEEP_INTERVAL == 0)
+        {
+            for (final ChunkSectionSnapshotCache cache : caches.values())
+            {
+                cache.sweep();
+            }
+        }
+    }
+
+    /**
+     * Drop the cache of the dimension.
+     *
+     * @param world the unloaded world.
+     */
+    public static void clear(@NotNull final World world)
+    {
+        caches.remove(world.dimension());
+    }
+
+    /**
+     * Drop all caches, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        caches.clear();
+    }
+}
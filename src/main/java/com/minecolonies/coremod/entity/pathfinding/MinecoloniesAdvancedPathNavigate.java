@@ -7,6 +7,8 @@ import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.pathfinding.*;
 import com.minecolonies.api.util.*;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.pathfinding.navigation.ColonyNavigationLayer;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.*;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.block.AbstractRailBlock;
@@ -45,6 +47,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     public static final  int    MAX_SPEED_ALLOWED        = 2;
     public static final  double MIN_SPEED_ALLOWED        = 0.1;
 
+    /**
+     * Min squared distance from which the path job is guided by a route on the colony navigation layer.
+     */
+    private static final int MIN_COARSE_ROUTE_DIST_SQ = 32 * 32;
+
     @Nullable
     private PathResult<AbstractPathJob> pathResult;
 
@@ -189,6 +196,48 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       @NotNull final AbstractPathJob job,
       final BlockPos dest,
       final double speedFactor, final boolean safeDestination)
+    {
+        if (!prepareNewPath(dest, speedFactor, safeDestination))
+        {
+            return null;
+        }
+
+        job.setPathingOptions(getPathingOptions());
+        pathResult = job.getResult();
+        pathResult.startJob(Pathfinding.getExecutor());
+        return pathResult;
+    }
+
+    /**
+     * Follow a path taken from the colony path cache, skipping the calculation.
+     *
+     * @param path        the cached path.
+     * @param dest        the destination.
+     * @param speedFactor the speed.
+     * @return the completed result.
+     */
+    @Nullable
+    private PathResult setCachedPath(@NotNull final Path path, final BlockPos dest, final double speedFactor)
+    {
+        if (!prepareNewPath(dest, speedFactor, true))
+        {
+            return null;
+        }
+
+        pathResult = new PathResult<>();
+        pathResult.setCachedPath(path);
+        return pathResult;
+    }
+
+    /**
+     * Stop the current path and set up the destination and speed of a new one.
+     *
+     * @param dest            the destination.
+     * @param speedFactor     the speed.
+     * @param safeDestination whether the destination is kept as desired position.
+     * @return false if the speed is invalid.
+     */
+    private boolean prepareNewPath(final BlockPos dest, final double speedFactor, final boolean safeDestination)
     {
         stop();
 
@@ -208,13 +257,28 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         if (speedFactor > MAX_SPEED_ALLOWED || speedFactor < MIN_SPEED_ALLOWED)
         {
             Log.getLogger().error("Tried to set a bad speed:" + speedFactor + " for entity:" + ourEntity, new Exception());
-            return null;
+            return false;
         }
+        return true;
+    }
 
-        job.setPathingOptions(getPathingOptions());
-        pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
-        return pathResult;
+    /**
+     * Get the path cache of the colony of the entity.
+     *
+     * @return the cache or null if the entity does not belong to a colony.
+     */
+    @Nullable
+    private PathCache getPathCache()
+    {
+        if (ourEntity instanceof AbstractEntityCitizen)
+        {
+            final IColony colony = ((AbstractEntityCitizen) ourEntity).getCitizenColonyHandler().getColony();
+            if (colony instanceof Colony)
+            {
+                return ((Colony) colony).getPathCache();
+            }
+        }
+        return null;
     }
 
     @Override
@@ -341,7 +405,8 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         final int newY = (int) y;
         final int newZ = MathHelper.floor(z);
 
-        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation &&
+        // Results without a job were served from the path cache, which only holds move to location paths.
+        if (pathResult != null && (pathResult.getJob() instanceof PathJobMoveToLocation || pathResult.getJob() == null) &&
               (
                 pathResult.isComputing()
                   || (destination != null && BlockPosUtil.isEqual(destination, newX, newY, newZ))
@@ -355,13 +420,32 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         desiredPos = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
-            start,
-            desiredPos,
-            (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
-            ourEntity),
-          desiredPos, speedFactor, true);
+        final PathCache pathCache = getPathCache();
+        if (pathCache != null)
+        {
+            final Path cachedPath = pathCache.get(start, desiredPos, getPathingOptions());
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, desiredPos, speedFactor);
+            }
+        }
+
+        final PathJobMoveToLocation job = new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
+          start,
+          desiredPos,
+          (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
+          ourEntity);
+
+        if (start.distSqr(desiredPos) > MIN_COARSE_ROUTE_DIST_SQ)
+        {
+            final ColonyNavigationLayer layer = ColonyNavigationLayer.getLayer(level, start);
+            if (layer != null)
+            {
+                job.setNavigationLayer(layer);
+            }
+        }
+
+        return setPathJob(job, desiredPos, speedFactor, true);
     }
 
     @Override
@@ -534,7 +618,19 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     private boolean processCompletedCalculationResult()
     {
-        pathResult.getJob().synchToClient(mob);
+        final AbstractPathJob job = pathResult.getJob();
+        if (job != null)
+        {
+            job.synchToClient(mob);
+            if (job instanceof PathJobMoveToLocation && pathResult.isPathReachingDestination())
+            {
+                final PathCache pathCache = getPathCache();
+                if (pathCache != null)
+                {
+                    pathCache.put(job.getStart(), pathResult.getPath().getTarget(), getPathingOptions(), pathResult.getPath());
+                }
+            }
+        }
         moveTo(pathResult.getPath(), getSpeedFactor());
         pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
         return false;
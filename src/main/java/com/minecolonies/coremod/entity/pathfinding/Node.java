@@ -94,6 +94,11 @@ public class Node implements Comparable<Node>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Index of the node in the open heap, -1 if not queued.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create initial Node.
      *
@@ -439,4 +444,24 @@ public class Node implements Comparable<Node>
     {
         return isCornerNode;
     }
+
+    /**
+     * Get the index of this node in the open node heap.
+     *
+     * @return the index, or -1 if the node is not queued.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Set the index of this node in the open node heap.
+     *
+     * @param heapIndex the index, or -1 if the node got removed.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
@@ -0,0 +1,200 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of open pathfinding nodes. Every node remembers its own index in the heap, which allows decreasing the key of a queued node in O(log n)
+ * without the linear search a {@link java.util.PriorityQueue#remove(Object)} requires.
+ */
+public class NodeHeap
+{
+    /**
+     * Initial capacity of the backing array.
+     */
+    private static final int INITIAL_CAPACITY = 512;
+
+    /**
+     * Capacity above which the array is not kept for reuse after clearing.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * The heap array.
+     */
+    private Node[] heap = new Node[INITIAL_CAPACITY];
+
+    /**
+     * Amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Check if there are no more open nodes.
+     *
+     * @return true if empty.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of queued nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if the node is currently queued.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node to add.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (contains(node))
+        {
+            update(node);
+            return;
+        }
+
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+
+        heap[size] = node;
+        node.setHeapIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Remove the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node result = heap[0];
+        final Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.setHeapIndex(0);
+            siftDown(0);
+        }
+        result.setHeapIndex(-1);
+        return result;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node was decreased.
+     *
+     * @param node the node which got a lower score.
+     */
+    public void update(@NotNull final Node node)
+    {
+        siftUp(node.getHeapIndex());
+    }
+
+    /**
+     * Empty the heap, keeping the backing array for reuse.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+
+        if (heap.length > MAX_RETAINED_CAPACITY)
+        {
+            heap = new Node[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Move the node at the index up until the parent is smaller.
+     *
+     * @param index the index to start at.
+     */
+    private void siftUp(int index)
+    {
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    /**
+     * Move the node at the index down until both children are bigger.
+     *
+     * @param index the index to start at.
+     */
+    private void siftDown(int index)
+    {
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
@@ -0,0 +1,158 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressed map from packed block positions to pathfinding nodes. Keys are stored as primitive longs ({@link BlockPos#asLong()}), so lookups neither box nor collide
+ * for positions that are further than 4096 blocks apart.
+ */
+public class NodeMap
+{
+    /**
+     * Initial capacity, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Capacity above which the arrays are not kept for reuse after clearing.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 17;
+
+    /**
+     * Packed positions.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /**
+     * Nodes, null marks a free slot.
+     */
+    private Node[] values = new Node[INITIAL_CAPACITY];
+
+    /**
+     * Amount of stored nodes.
+     */
+    private int size = 0;
+
+    /**
+     * Get the node at the position.
+     *
+     * @param key the packed position.
+     * @return the node or null if not visited yet.
+     */
+    @Nullable
+    public Node get(final long key)
+    {
+        final int mask = values.length - 1;
+        int index = mix(key) & mask;
+        Node node;
+        while ((node = values[index]) != null)
+        {
+            if (keys[index] == key)
+            {
+                return node;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node for the position, replacing any previous one.
+     *
+     * @param key  the packed position.
+     * @param node the node.
+     */
+    public void put(final long key, @NotNull final Node node)
+    {
+        final int mask = values.length - 1;
+        int index = mix(key) & mask;
+        while (values[index] != null)
+        {
+            if (keys[index] == key)
+            {
+                values[index] = node;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = node;
+        if (++size > (values.length >> 1))
+        {
+            rehash(values.length << 1);
+        }
+    }
+
+    /**
+     * Get the amount of stored nodes.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes. The arrays are kept for the next job unless they grew excessively large.
+     */
+    public void clear()
+    {
+        if (values.length > MAX_RETAINED_CAPACITY)
+        {
+            keys = new long[INITIAL_CAPACITY];
+            values = new Node[INITIAL_CAPACITY];
+        }
+        else if (size > 0)
+        {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Grow the table.
+     *
+     * @param capacity the new capacity.
+     */
+    private void rehash(final int capacity)
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldValues = values;
+        keys = new long[capacity];
+        values = new Node[capacity];
+
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int index = mix(oldKeys[i]) & mask;
+                while (values[index] != null)
+                {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spread the bits of the packed position, neighbouring positions only differ in the low bits of each coordinate.
+     *
+     * @param key the packed position.
+     * @return the hash.
+     */
+    private static int mix(final long key)
+    {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+}
@@ -0,0 +1,446 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Per colony cache of completed paths between two blocks. Citizens walk the same routes over and over, a hit hands out a copy of the stored path without going through
+ * the pathfinding threads. Entries are dropped when a block along the path changes, when a chunk the path crosses (or one next to it) unloads, or when they are the least
+ * recently used ones once the cache is full. Only used from the server thread.
+ */
+public class PathCache
+{
+    /**
+     * Max amount of cached paths per colony.
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * Option bits which are part of the key.
+     */
+    private static final int FLAG_RAILS  = 1;
+    private static final int FLAG_SWIM   = 1 << 1;
+    private static final int FLAG_DOORS  = 1 << 2;
+    private static final int FLAG_OPEN   = 1 << 3;
+    private static final int FLAG_VINES  = 1 << 4;
+
+    /**
+     * Caches holding at least one path, by dimension.
+     */
+    private static final Map<RegistryKey<World>, Set<PathCache>> activeCaches = new HashMap<>();
+
+    /**
+     * The colony of the cache.
+     */
+    private final IColony colony;
+
+    /**
+     * The cached paths, in access order.
+     */
+    private final LinkedHashMap<Key, CachedPath> paths = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Keys of the paths by the packed position of the blocks they pass.
+     */
+    private final Map<Long, Set<Key>> keysByBlock = new HashMap<>();
+
+    /**
+     * Keys of the paths by the packed position of the chunks they cross.
+     */
+    private final Map<Long, Set<Key>> keysByChunk = new HashMap<>();
+
+    /**
+     * Statistics.
+     */
+    private long hits          = 0;
+    private long misses        = 0;
+    private long evictions     = 0;
+    private long invalidations = 0;
+
+    /**
+     * Create the cache of a colony.
+     *
+     * @param colony the colony.
+     */
+    public PathCache(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Get a copy of a cached path.
+     *
+     * @param start   the start block.
+     * @param dest    the destination block.
+     * @param options the pathing options of the entity.
+     * @return a fresh path or null if none is cached.
+     */
+    @Nullable
+    public Path get(@NotNull final BlockPos start, @NotNull final BlockPos dest, @NotNull final PathingOptions options)
+    {
+        final CachedPath cached = paths.get(new Key(start.asLong(), dest.asLong(), getFlags(options)));
+        if (cached == null)
+        {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        final List<PathPoint> points = new ArrayList<>(cached.points.length);
+        for (final PathPointExtended point : cached.points)
+        {
+            points.add(copy(point));
+        }
+        return new Path(points, cached.target, true);
+    }
+
+    /**
+     * Store a path which reached its destination.
+     *
+     * @param start   the start block the path was computed from.
+     * @param dest    the destination block.
+     * @param options the pathing options it was computed with.
+     * @param path    the path.
+     */
+    public void put(@NotNull final BlockPos start, @NotNull final BlockPos dest, @NotNull final PathingOptions options, @NotNull final Path path)
+    {
+        if (path.getNodeCount() == 0)
+        {
+            return;
+        }
+
+        final PathPointExtended[] points = new PathPointExtended[path.getNodeCount()];
+        for (int i = 0; i < points.length; i++)
+        {
+            final PathPoint point = path.getNode(i);
+            if (!(point instanceof PathPointExtended))
+            {
+                return;
+            }
+            points[i] = copy((PathPointExtended) point);
+        }
+
+        final Key key = new Key(start.asLong(), dest.asLong(), getFlags(options));
+        remove(key);
+        final CachedPath cached = new CachedPath(points, path.getTarget());
+        paths.put(key, cached);
+        for (final PathPointExtended point : points)
+        {
+            keysByBlock.computeIfAbsent(BlockPos.asLong(point.x, point.y, point.z), k -> new HashSet<>()).add(key);
+            keysByChunk.computeIfAbsent(ChunkPos.asLong(point.x >> 4, point.z >> 4), k -> new HashSet<>()).add(key);
+        }
+        activeCaches.computeIfAbsent(colony.getDimension(), k -> new HashSet<>()).add(this);
+
+        if (paths.size() > MAX_ENTRIES)
+        {
+            evictions++;
+            remove(paths.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Drop all paths passing the changed block, the one above it or the one below it.
+     *
+     * @param pos the changed block.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        invalidateKeys(keysByBlock.get(pos.asLong()));
+        invalidateKeys(keysByBlock.get(BlockPos.asLong(pos.getX(), pos.getY() + 1, pos.getZ())));
+        invalidateKeys(keysByBlock.get(BlockPos.asLong(pos.getX(), pos.getY() - 1, pos.getZ())));
+    }
+
+    /**
+     * Drop all paths crossing the chunk or any chunk next to it.
+     *
+     * @param pos the unloaded chunk.
+     */
+    public void invalidateChunk(@NotNull final ChunkPos pos)
+    {
+        for (int x = -1; x <= 1; x++)
+        {
+            for (int z = -1; z <= 1; z++)
+            {
+                invalidateKeys(keysByChunk.get(ChunkPos.asLong(pos.x + x, pos.z + z)));
+            }
+        }
+    }
+
+    /**
+     * Drop a set of paths.
+     *
+     * @param keys the keys to drop, may be null.
+     */
+    private void invalidateKeys(@Nullable final Set<Key> keys)
+    {
+        if (keys == null)
+        {
+            return;
+        }
+
+        for (final Key key : new ArrayList<>(keys))
+        {
+            invalidations++;
+            remove(key);
+        }
+    }
+
+    /**
+     * Remove a path and its index entries.
+     *
+     * @param key the key of the path.
+     */
+    private void remove(@NotNull final Key key)
+    {
+        final CachedPath cached = paths.remove(key);
+        if (cached == null)
+        {
+            return;
+        }
+
+        for (final PathPointExtended point : cached.points)
+        {
+            removeIndex(keysByBlock, BlockPos.asLong(point.x, point.y, point.z), key);
+            removeIndex(keysByChunk, ChunkPos.asLong(point.x >> 4, point.z >> 4), key);
+        }
+
+        if (paths.isEmpty())
+        {
+            deactivate();
+        }
+    }
+
+    /**
+     * Remove a key from an index.
+     *
+     * @param index    the index.
+     * @param position the packed position.
+     * @param key      the key.
+     */
+    private static void removeIndex(final Map<Long, Set<Key>> index, final long position, final Key key)
+    {
+        final Set<Key> keys = index.get(position);
+        if (keys != null && keys.remove(key) && keys.isEmpty())
+        {
+            index.remove(position);
+        }
+    }
+
+    /**
+     * Drop all cached paths.
+     */
+    public void clear()
+    {
+        paths.clear();
+        keysByBlock.clear();
+        keysByChunk.clear();
+        deactivate();
+    }
+
+    /**
+     * Stop receiving block and chunk updates.
+     */
+    private void deactivate()
+    {
+        final Set<PathCache> caches = activeCaches.get(colony.getDimension());
+        if (caches != null)
+        {
+            caches.remove(this);
+        }
+    }
+
+    /**
+     * Get the amount of cached paths.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return paths.size();
+    }
+
+    /**
+     * Get the amount of requests served from the cache.
+     *
+     * @return the hits.
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Get the amount of requests which had to be calculated.
+     *
+     * @return the misses.
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Get the amount of paths dropped because the cache was full.
+     *
+     * @return the evictions.
+     */
+    public long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Get the amount of paths dropped because of block changes or chunk unloads.
+     *
+     * @return the invalidations.
+     */
+    public long getInvalidations()
+    {
+        return invalidations;
+    }
+
+    /**
+     * Get the option bits of the key.
+     *
+     * @param options the options.
+     * @return the flags.
+     */
+    private static int getFlags(final PathingOptions options)
+    {
+        return (options.canUseRails() ? FLAG_RAILS : 0)
+                 | (options.canSwim() ? FLAG_SWIM : 0)
+                 | (options.canEnterDoors() ? FLAG_DOORS : 0)
+                 | (options.canOpenDoors() ? FLAG_OPEN : 0)
+                 | (options.canClimbVines() ? FLAG_VINES : 0);
+    }
+
+    /**
+     * Copy a path point, path points carry progress state and must not be shared between paths.
+     *
+     * @param point the point.
+     * @return the copy.
+     */
+    private static PathPointExtended copy(final PathPointExtended point)
+    {
+        final PathPointExtended copy = new PathPointExtended(new BlockPos(point.x, point.y, point.z));
+        copy.setOnLadder(point.isOnLadder());
+        copy.setLadderFacing(point.getLadderFacing());
+        copy.setOnRails(point.isOnRails());
+        if (point.isRailsEntry())
+        {
+            copy.setRailsEntry();
+        }
+        if (point.isRailsExit())
+        {
+            copy.setRailsExit();
+        }
+        return copy;
+    }
+
+    /**
+     * Invalidate the paths of all colonies in the dimension passing the changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Set<PathCache> caches = activeCaches.get(world.dimension());
+        if (caches != null && !caches.isEmpty())
+        {
+            for (final PathCache cache : new ArrayList<>(caches))
+            {
+                cache.invalidate(pos);
+            }
+        }
+    }
+
+    /**
+     * Invalidate the paths of all colonies in the dimension near the unloaded chunk.
+     *
+     * @param world the world.
+     * @param pos   the chunk.
+     */
+    public static void onChunkUnloaded(@NotNull final World world, @NotNull final ChunkPos pos)
+    {
+        final Set<PathCache> caches = activeCaches.get(world.dimension());
+        if (caches != null && !caches.isEmpty())
+        {
+            for (final PathCache cache : new ArrayList<>(caches))
+            {
+                cache.invalidateChunk(pos);
+            }
+        }
+    }
+
+    /**
+     * Forget all active caches, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        activeCaches.clear();
+    }
+
+    /**
+     * Key of a cached path.
+     */
+    private static final class Key
+    {
+        private final long start;
+        private final long dest;
+        private final int  flags;
+
+        private Key(final long start, final long dest, final int flags)
+        {
+            this.start = start;
+            this.dest = dest;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            final Key other = (Key) o;
+            return start == other.start && dest == other.dest && flags == other.flags;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * (31 * Long.hashCode(start) + Long.hashCode(dest)) + flags;
+        }
+    }
+
+    /**
+     * A stored path.
+     */
+    private static final class CachedPath
+    {
+        private final PathPointExtended[] points;
+        private final BlockPos            target;
+
+        private CachedPath(final PathPointExtended[] points, final BlockPos target)
+        {
+            this.points = points;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.colony.jobs.JobDeliveryman;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRaiderPathing;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRandomPos;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobWalkRandomEdge;
+import net.minecraft.entity.LivingEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Priority classes of pathfinding jobs, in the order they are served.
+ */
+public enum PathJobPriority
+{
+    GUARD(5000),
+    RAIDER(10000),
+    COURIER(10000),
+    WORKER(10000),
+    IDLE(3000);
+
+    /**
+     * Max time in milliseconds a job of this priority may wait in the queue before it is dropped.
+     */
+    private final long maxQueueTime;
+
+    PathJobPriority(final long maxQueueTime)
+    {
+        this.maxQueueTime = maxQueueTime;
+    }
+
+    /**
+     * Get the max time a job may wait in the queue.
+     *
+     * @return the time in milliseconds.
+     */
+    public long getMaxQueueTime()
+    {
+        return maxQueueTime;
+    }
+
+    /**
+     * Classify a job by its type and entity, must be called on the server thread.
+     *
+     * @param job    the job, null for plain tasks.
+     * @param entity the entity of the job, may be null.
+     * @return the priority.
+     */
+    public static PathJobPriority of(@Nullable final AbstractPathJob job, @Nullable final LivingEntity entity)
+    {
+        if (job instanceof PathJobRaiderPathing || entity instanceof AbstractEntityMinecoloniesMob)
+        {
+            return RAIDER;
+        }
+
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            final AbstractEntityCitizen citizen = (AbstractEntityCitizen) entity;
+            if (citizen.getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard)
+            {
+                return GUARD;
+            }
+            if (job instanceof PathJobRandomPos || job instanceof PathJobWalkRandomEdge)
+            {
+                return IDLE;
+            }
+            if (citizen.getCitizenJobHandler().getColonyJob() instanceof JobDeliveryman)
+            {
+                return COURIER;
+            }
+            return WORKER;
+        }
+
+        return job instanceof PathJobRandomPos || job instanceof PathJobWalkRandomEdge ? IDLE : WORKER;
+    }
+}
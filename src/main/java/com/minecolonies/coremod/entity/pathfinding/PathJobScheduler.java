@@ -0,0 +1,593 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
+import net.minecraft.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executor for pathfinding jobs. Jobs are served by priority class first and round robin between the colonies within a class, so a flood of jobs of one colony or one
+ * kind of entity does not starve the others. Queued jobs are dropped (completed without a path) when their entity died or walked away from the start, when they waited
+ * longer than their priority allows, or when their entity queued too many newer jobs.
+ */
+public class PathJobScheduler extends AbstractExecutorService
+{
+    /**
+     * Max amount of queued jobs per entity, older ones are dropped.
+     */
+    private static final int MAX_QUEUED_PER_ENTITY = 2;
+
+    /**
+     * Squared distance an entity may move away from the start of a queued job before it is dropped.
+     */
+    private static final int MAX_START_DIST_SQ = 16 * 16;
+
+    /**
+     * Colony key of jobs which do not belong to a colony.
+     */
+    private static final int NO_COLONY = 0;
+
+    /**
+     * Lock guarding all queues.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a job is queued.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * The queues of each priority class.
+     */
+    private final FairQueue[] queues = new FairQueue[PathJobPriority.values().length];
+
+    /**
+     * Queued jobs by entity.
+     */
+    private final Map<LivingEntity, ArrayDeque<PathTask<?>>> queuedByEntity = new IdentityHashMap<>();
+
+    /**
+     * The statistics of each priority class.
+     */
+    private final Stats[] stats = new Stats[PathJobPriority.values().length];
+
+    /**
+     * The worker threads.
+     */
+    private final List<Thread> workers = new ArrayList<>();
+
+    /**
+     * Amount of worker threads to start.
+     */
+    private final int threadCount;
+
+    /**
+     * The factory of the worker threads.
+     */
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Whether the scheduler was shut down.
+     */
+    private volatile boolean shutdown = false;
+
+    /**
+     * Create a new scheduler, the workers are started with the first job.
+     *
+     * @param threadCount   the amount of worker threads.
+     * @param threadFactory the thread factory.
+     */
+    public PathJobScheduler(final int threadCount, @NotNull final ThreadFactory threadFactory)
+    {
+        this.threadCount = Math.max(1, threadCount);
+        this.threadFactory = threadFactory;
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            queues[priority.ordinal()] = new FairQueue();
+            stats[priority.ordinal()] = new Stats();
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+    {
+        if (callable instanceof AbstractPathJob)
+        {
+            final AbstractPathJob job = (AbstractPathJob) callable;
+            final LivingEntity entity = job.getEntity();
+            return new PathTask<>(callable, job, entity, PathJobPriority.of(job, entity), getColonyId(entity));
+        }
+        return new PathTask<>(callable, null, null, PathJobPriority.WORKER, NO_COLONY);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(final Runnable runnable, final T value)
+    {
+        return newTaskFor(Executors.callable(runnable, value));
+    }
+
+    @Override
+    public void execute(@NotNull final Runnable command)
+    {
+        if (shutdown)
+        {
+            throw new RejectedExecutionException("Pathfinding scheduler is shut down");
+        }
+
+        final PathTask<?> task = command instanceof PathTask ? (PathTask<?>) command : (PathTask<?>) newTaskFor(command, null);
+        lock.lock();
+        try
+        {
+            startWorkers();
+            queues[task.priority.ordinal()].add(task);
+            stats[task.priority.ordinal()].submitted.incrementAndGet();
+
+            if (task.entity != null)
+            {
+                final ArrayDeque<PathTask<?>> entityTasks = queuedByEntity.computeIfAbsent(task.entity, key -> new ArrayDeque<>());
+                entityTasks.add(task);
+                while (entityTasks.size() > MAX_QUEUED_PER_ENTITY)
+                {
+                    final PathTask<?> oldest = entityTasks.poll();
+                    queues[oldest.priority.ordinal()].remove(oldest);
+                    drop(oldest);
+                }
+            }
+
+            notEmpty.signal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start the worker threads if not done yet, must hold the lock.
+     */
+    private void startWorkers()
+    {
+        if (!workers.isEmpty())
+        {
+            return;
+        }
+
+        for (int i = 0; i < threadCount; i++)
+        {
+            final Thread worker = threadFactory.newThread(this::runWorker);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Main loop of a worker thread.
+     */
+    private void runWorker()
+    {
+        while (!shutdown)
+        {
+            final PathTask<?> task;
+            try
+            {
+                task = take();
+            }
+            catch (final InterruptedException e)
+            {
+                return;
+            }
+
+            task.run();
+            // Clear a cancellation interrupt so it does not leak into the next job.
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * Wait for the next job which is still worth running.
+     *
+     * @return the job.
+     * @throws InterruptedException when the scheduler shuts down.
+     */
+    private PathTask<?> take() throws InterruptedException
+    {
+        lock.lockInterruptibly();
+        try
+        {
+            while (true)
+            {
+                final PathTask<?> task = poll();
+                if (task == null)
+                {
+                    notEmpty.await();
+                    continue;
+                }
+
+                if (task.entity != null)
+                {
+                    final ArrayDeque<PathTask<?>> entityTasks = queuedByEntity.get(task.entity);
+                    if (entityTasks != null && entityTasks.remove(task) && entityTasks.isEmpty())
+                    {
+                        queuedByEntity.remove(task.entity);
+                    }
+                }
+
+                if (task.isCancelled())
+                {
+                    continue;
+                }
+
+                final long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - task.queuedAt);
+                if (isStale(task, waited))
+                {
+                    drop(task);
+                    continue;
+                }
+
+                stats[task.priority.ordinal()].recordWait(waited);
+                return task;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the next job by priority, must hold the lock.
+     *
+     * @return the job or null if all queues are empty.
+     */
+    @Nullable
+    private PathTask<?> poll()
+    {
+        for (final FairQueue queue : queues)
+        {
+            final PathTask<?> task = queue.poll();
+            if (task != null)
+            {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if a job is no longer worth calculating.
+     *
+     * @param task   the job.
+     * @param waited the time it waited in milliseconds.
+     * @return true if it should be dropped.
+     */
+    private static boolean isStale(final PathTask<?> task, final long waited)
+    {
+        if (waited > task.priority.getMaxQueueTime())
+        {
+            return true;
+        }
+
+        if (task.entity == null)
+        {
+            return false;
+        }
+
+        return !task.entity.isAlive() || (task.job != null && task.entity.blockPosition().distSqr(task.job.getStart()) > MAX_START_DIST_SQ);
+    }
+
+    /**
+     * Complete a job without a path, the owner treats it like a failed search.
+     *
+     * @param task the job.
+     */
+    private void drop(final PathTask<?> task)
+    {
+        stats[task.priority.ordinal()].dropped.incrementAndGet();
+        task.drop();
+    }
+
+    /**
+     * Get the colony of the entity of a job.
+     *
+     * @param entity the entity, may be null.
+     * @return the colony id or NO_COLONY.
+     */
+    private static int getColonyId(@Nullable final LivingEntity entity)
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            return ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColonyId();
+        }
+        if (entity instanceof AbstractEntityMinecoloniesMob && ((AbstractEntityMinecoloniesMob) entity).getColony() != null)
+        {
+            return ((AbstractEntityMinecoloniesMob) entity).getColony().getID();
+        }
+        return NO_COLONY;
+    }
+
+    /**
+     * Get the amount of queued jobs of a priority.
+     *
+     * @param priority the priority.
+     * @return the queue depth.
+     */
+    public int getQueueDepth(@NotNull final PathJobPriority priority)
+    {
+        lock.lock();
+        try
+        {
+            return queues[priority.ordinal()].size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the amount of submitted jobs of a priority.
+     *
+     * @param priority the priority.
+     * @return the submitted count.
+     */
+    public long getSubmitted(@NotNull final PathJobPriority priority)
+    {
+        return stats[priority.ordinal()].submitted.get();
+    }
+
+    /**
+     * Get the amount of dropped jobs of a priority.
+     *
+     * @param priority the priority.
+     * @return the dropped count.
+     */
+    public long getDropped(@NotNull final PathJobPriority priority)
+    {
+        return stats[priority.ordinal()].dropped.get();
+    }
+
+    /**
+     * Get the average time started jobs of a priority waited in the queue.
+     *
+     * @param priority the priority.
+     * @return the average wait in milliseconds.
+     */
+    public long getAverageWait(@NotNull final PathJobPriority priority)
+    {
+        final Stats stat = stats[priority.ordinal()];
+        final long started = stat.started.get();
+        return started == 0 ? 0 : stat.totalWait.get() / started;
+    }
+
+    /**
+     * Get the longest time a started job of a priority waited in the queue.
+     *
+     * @param priority the priority.
+     * @return the max wait in milliseconds.
+     */
+    public long getMaxWait(@NotNull final PathJobPriority priority)
+    {
+        return stats[priority.ordinal()].maxWait.get();
+    }
+
+    @Override
+    public void shutdown()
+    {
+        shutdownNow();
+    }
+
+    @NotNull
+    @Override
+    public List<Runnable> shutdownNow()
+    {
+        final List<Runnable> remaining = new ArrayList<>();
+        lock.lock();
+        try
+        {
+            shutdown = true;
+            for (final FairQueue queue : queues)
+            {
+                PathTask<?> task;
+                while ((task = queue.poll()) != null)
+                {
+                    remaining.add(task);
+                }
+            }
+            queuedByEntity.clear();
+            for (final Thread worker : workers)
+            {
+                worker.interrupt();
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        return remaining;
+    }
+
+    @Override
+    public boolean isShutdown()
+    {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated()
+    {
+        if (!shutdown)
+        {
+            return false;
+        }
+        for (final Thread worker : workers)
+        {
+            if (worker.isAlive())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException
+    {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (final Thread worker : workers)
+        {
+            final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0)
+            {
+                return isTerminated();
+            }
+            worker.join(remaining);
+        }
+        return isTerminated();
+    }
+
+    /**
+     * Queue of one priority class, round robin between the colonies.
+     */
+    private static final class FairQueue
+    {
+        /**
+         * The queue of each colony with queued jobs.
+         */
+        private final Map<Integer, ArrayDeque<PathTask<?>>> byColony = new HashMap<>();
+
+        /**
+         * Colonies with queued jobs, in serving order.
+         */
+        private final ArrayDeque<Integer> rotation = new ArrayDeque<>();
+
+        /**
+         * Amount of queued jobs.
+         */
+        private int size = 0;
+
+        private void add(final PathTask<?> task)
+        {
+            final ArrayDeque<PathTask<?>> colonyQueue = byColony.get(task.colonyId);
+            if (colonyQueue == null)
+            {
+                final ArrayDeque<PathTask<?>> newQueue = new ArrayDeque<>();
+                newQueue.add(task);
+                byColony.put(task.colonyId, newQueue);
+                rotation.add(task.colonyId);
+            }
+            else
+            {
+                colonyQueue.add(task);
+            }
+            size++;
+        }
+
+        @Nullable
+        private PathTask<?> poll()
+        {
+            final Integer colonyId = rotation.poll();
+            if (colonyId == null)
+            {
+                return null;
+            }
+
+            final ArrayDeque<PathTask<?>> colonyQueue = byColony.get(colonyId);
+            final PathTask<?> task = colonyQueue.poll();
+            if (colonyQueue.isEmpty())
+            {
+                byColony.remove(colonyId);
+            }
+            else
+            {
+                rotation.add(colonyId);
+            }
+            size--;
+            return task;
+        }
+
+        private void remove(final PathTask<?> task)
+        {
+            final ArrayDeque<PathTask<?>> colonyQueue = byColony.get(task.colonyId);
+            if (colonyQueue != null && colonyQueue.remove(task))
+            {
+                size--;
+                if (colonyQueue.isEmpty())
+                {
+                    byColony.remove(task.colonyId);
+                    rotation.remove(task.colonyId);
+                }
+            }
+        }
+
+        private int size()
+        {
+            return size;
+        }
+    }
+
+    /**
+     * Statistics of one priority class.
+     */
+    private static final class Stats
+    {
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong started   = new AtomicLong();
+        private final AtomicLong dropped   = new AtomicLong();
+        private final AtomicLong totalWait = new AtomicLong();
+        private final AtomicLong maxWait   = new AtomicLong();
+
+        private void recordWait(final long waited)
+        {
+            started.incrementAndGet();
+            totalWait.addAndGet(waited);
+            maxWait.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    /**
+     * Future of a queued job, with the data needed for scheduling.
+     *
+     * @param <T> the result type.
+     */
+    private static final class PathTask<T> extends FutureTask<T>
+    {
+        @Nullable
+        private final AbstractPathJob job;
+        @Nullable
+        private final LivingEntity    entity;
+        private final PathJobPriority priority;
+        private final int             colonyId;
+        private final long            queuedAt = System.nanoTime();
+
+        private PathTask(
+          final Callable<T> callable,
+          @Nullable final AbstractPathJob job,
+          @Nullable final LivingEntity entity,
+          final PathJobPriority priority,
+          final int colonyId)
+        {
+            super(callable);
+            this.job = job;
+            this.entity = entity;
+            this.priority = priority;
+            this.colonyId = colonyId;
+        }
+
+        /**
+         * Complete the task without running it.
+         */
+        private void drop()
+        {
+            set(null);
+        }
+    }
+}
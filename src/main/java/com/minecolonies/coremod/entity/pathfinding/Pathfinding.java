@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.entity.pathfinding.navigation.ColonyNavigationLayer;
 import com.minecolonies.coremod.entity.pathfinding.pathjobs.AbstractPathJob;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.platform.GlStateManager;
@@ -14,8 +15,12 @@ import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.entity.EntityRendererManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.NotNull;
@@ -24,15 +29,14 @@ import org.lwjgl.opengl.GL11;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    private static PathJobScheduler executor;
 
     /**
      * Set of visited nodes.
@@ -71,26 +75,25 @@ public final class Pathfinding
     }
 
     /**
-     * Creates a new thread pool for pathfinding jobs
+     * Creates a new scheduler for pathfinding jobs
      *
-     * @return the threadpool executor.
+     * @return the scheduler.
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static PathJobScheduler getExecutor()
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobScheduler(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), new MinecoloniesThreadFactory());
         }
         return executor;
     }
 
     /**
-     * Stops all running threads in this thread pool
+     * Stops all running threads of the scheduler
      */
     public static void shutdown()
     {
         getExecutor().shutdownNow();
-        jobQueue.clear();
         executor = null;
     }
 
@@ -109,6 +112,22 @@ public final class Pathfinding
         job.getResult().startJob(getExecutor());
     }
 
+    /**
+     * Drop everything the pathfinding derived from a changed block: the section snapshots, the colony navigation layer and the cached paths through it.
+     *
+     * @param world the world.
+     * @param pos   the changed block.
+     */
+    public static void onBlockChanged(@NotNull final IWorld world, @NotNull final BlockPos pos)
+    {
+        if (world instanceof ServerWorld)
+        {
+            ChunkSectionSnapshotCache.onBlockChanged(world, pos);
+            ColonyNavigationLayer.onBlockChanged((World) world, pos);
+            PathCache.onBlockChanged((World) world, pos);
+        }
+    }
+
     /**
      * Render debugging information for the pathfinding system.
      *
@@ -0,0 +1,457 @@
+package com.minecolonies.coremod.entity.pathfinding.navigation;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.WorldUtil;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Incrementally maintained navigation data over the loaded chunks of a colony. Keeps per block walkable/ladder/door flags and a coarse graph of connected block clusters
+ * per chunk section (HPA* style). Routes on this graph are only a hint for the heuristic of the regular pathfinding, which still searches the actual path.
+ * The data is maintained on the server thread, route queries run on the pathfinding threads and may see a graph which is being rebuilt.
+ */
+public class ColonyNavigationLayer
+{
+    /**
+     * Time spent on rebuilding sections per server tick over all colonies, in nanoseconds.
+     */
+    private static final long REBUILD_NANOS_PER_TICK = 1_000_000L;
+
+    /**
+     * Amount of sections each colony with dirty sections rebuilds per server tick, even if the time is used up.
+     */
+    private static final int MIN_SECTIONS_PER_COLONY = 1;
+
+    /**
+     * Max amount of clusters expanded by a route query.
+     */
+    private static final int MAX_ROUTE_EXPANSIONS = 4096;
+
+    /**
+     * Offsets to neighbouring blocks which may lie in another section.
+     */
+    private static final int[][] CROSSING_OFFSETS = {
+      {1, -1, 0}, {1, 0, 0}, {1, 1, 0},
+      {-1, -1, 0}, {-1, 0, 0}, {-1, 1, 0},
+      {0, -1, 1}, {0, 0, 1}, {0, 1, 1},
+      {0, -1, -1}, {0, 0, -1}, {0, 1, -1},
+      {0, 1, 0}, {0, -1, 0}};
+
+    /**
+     * Layers by dimension and packed chunk position.
+     */
+    private static final Map<RegistryKey<World>, Map<Long, ColonyNavigationLayer>> layersByChunk = new HashMap<>();
+
+    /**
+     * All layers with loaded chunks.
+     */
+    private static final Set<ColonyNavigationLayer> activeLayers = new LinkedHashSet<>();
+
+    /**
+     * The colony.
+     */
+    private final IColony colony;
+
+    /**
+     * Built sections by packed section position.
+     */
+    private final Map<Long, NavigationSection> sections = new ConcurrentHashMap<>();
+
+    /**
+     * Sections waiting for a rebuild.
+     */
+    private final Set<Long> dirtySections = new LinkedHashSet<>();
+
+    /**
+     * Packed positions of the covered chunks.
+     */
+    private final Set<Long> chunks = new HashSet<>();
+
+    /**
+     * Create the layer of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyNavigationLayer(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Start covering a loaded chunk of the colony.
+     *
+     * @param chunkPos the packed chunk position.
+     */
+    public void addChunk(final long chunkPos)
+    {
+        if (!chunks.add(chunkPos))
+        {
+            return;
+        }
+
+        layersByChunk.computeIfAbsent(colony.getDimension(), key -> new HashMap<>()).put(chunkPos, this);
+        activeLayers.add(this);
+        for (int y = 0; y < 16; y++)
+        {
+            dirtySections.add(SectionPos.asLong(ChunkPos.getX(chunkPos), y, ChunkPos.getZ(chunkPos)));
+        }
+    }
+
+    /**
+     * Stop covering a chunk, when it unloads.
+     *
+     * @param chunkPos the packed chunk position.
+     */
+    public void removeChunk(final long chunkPos)
+    {
+        if (!chunks.remove(chunkPos))
+        {
+            return;
+        }
+
+        final Map<Long, ColonyNavigationLayer> dimensionLayers = layersByChunk.get(colony.getDimension());
+        if (dimensionLayers != null)
+        {
+            dimensionLayers.remove(chunkPos, this);
+        }
+
+        for (int y = 0; y < 16; y++)
+        {
+            final long key = SectionPos.asLong(ChunkPos.getX(chunkPos), y, ChunkPos.getZ(chunkPos));
+            dirtySections.remove(key);
+            removeSection(key);
+        }
+
+        if (chunks.isEmpty())
+        {
+            activeLayers.remove(this);
+        }
+    }
+
+    /**
+     * Drop all data, when the colony unloads or gets deleted.
+     */
+    public void clear()
+    {
+        for (final Long chunkPos : new ArrayList<>(chunks))
+        {
+            removeChunk(chunkPos);
+        }
+    }
+
+    /**
+     * Mark the sections around a changed block for a rebuild.
+     *
+     * @param pos the changed block.
+     */
+    public void markDirty(@NotNull final BlockPos pos)
+    {
+        final int sectionX = pos.getX() >> 4;
+        final int sectionZ = pos.getZ() >> 4;
+        final int sectionY = pos.getY() >> 4;
+        dirtySections.add(SectionPos.asLong(sectionX, sectionY, sectionZ));
+
+        // The flags depend on the block above and below too.
+        if ((pos.getY() & 15) == 15 && sectionY < 15)
+        {
+            dirtySections.add(SectionPos.asLong(sectionX, sectionY + 1, sectionZ));
+        }
+        else if ((pos.getY() & 15) <= 1 && sectionY > 0)
+        {
+            dirtySections.add(SectionPos.asLong(sectionX, sectionY - 1, sectionZ));
+        }
+    }
+
+    /**
+     * Rebuild dirty sections.
+     *
+     * @param deadline the {@link System#nanoTime()} to stop at, once the minimum amount of sections is rebuilt.
+     */
+    private void processDirtySections(final long deadline)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+
+        int rebuilt = 0;
+        final Iterator<Long> iterator = dirtySections.iterator();
+        while (iterator.hasNext() && (rebuilt < MIN_SECTIONS_PER_COLONY || System.nanoTime() < deadline))
+        {
+            final long key = iterator.next();
+            iterator.remove();
+
+            final ChunkPos chunkPos = new ChunkPos(SectionPos.x(key), SectionPos.z(key));
+            if (!chunks.contains(chunkPos.toLong()) || !WorldUtil.isEntityChunkLoaded(world, chunkPos))
+            {
+                continue;
+            }
+
+            removeSection(key);
+            final NavigationSection section = NavigationSection.build(world, world.getChunk(chunkPos.x, chunkPos.z), SectionPos.y(key));
+            if (!section.isEmpty())
+            {
+                sections.put(key, section);
+                linkSection(section);
+            }
+            rebuilt++;
+        }
+    }
+
+    /**
+     * Remove a section and its clusters from the graph.
+     *
+     * @param key the packed section position.
+     */
+    private void removeSection(final long key)
+    {
+        final NavigationSection old = sections.remove(key);
+        if (old != null)
+        {
+            for (final NavigationCluster cluster : old.getClusters())
+            {
+                cluster.unlink();
+            }
+        }
+    }
+
+    /**
+     * Connect the clusters of a freshly built section to the clusters of the neighbouring sections.
+     *
+     * @param section the new section.
+     */
+    private void linkSection(@NotNull final NavigationSection section)
+    {
+        final int minX = SectionPos.x(section.getKey()) << 4;
+        final int minY = SectionPos.y(section.getKey()) << 4;
+        final int minZ = SectionPos.z(section.getKey()) << 4;
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        final BlockPos.Mutable other = new BlockPos.Mutable();
+
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    if (x != 0 && x != 15 && z != 0 && z != 15 && y != 0 && y != 15)
+                    {
+                        continue;
+                    }
+
+                    pos.set(minX + x, minY + y, minZ + z);
+                    final NavigationCluster cluster = section.getCluster(pos);
+                    if (cluster == null)
+                    {
+                        continue;
+                    }
+                    final boolean ladder = (section.getFlags(pos) & NavigationSection.LADDER) != 0;
+
+                    for (final int[] offset : CROSSING_OFFSETS)
+                    {
+                        other.set(pos.getX() + offset[0], pos.getY() + offset[1], pos.getZ() + offset[2]);
+                        final long otherKey = SectionPos.asLong(other.getX() >> 4, other.getY() >> 4, other.getZ() >> 4);
+                        if (otherKey == section.getKey())
+                        {
+                            continue;
+                        }
+
+                        final NavigationSection otherSection = sections.get(otherKey);
+                        if (otherSection == null)
+                        {
+                            continue;
+                        }
+
+                        final NavigationCluster otherCluster = otherSection.getCluster(other);
+                        if (otherCluster == null)
+                        {
+                            continue;
+                        }
+
+                        final boolean vertical = offset[0] == 0 && offset[2] == 0;
+                        if (!vertical || ladder || (otherSection.getFlags(other) & NavigationSection.LADDER) != 0)
+                        {
+                            cluster.link(otherCluster);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the cluster an entity standing at the position belongs to.
+     *
+     * @param pos the position.
+     * @return the cluster or null if unknown.
+     */
+    @Nullable
+    private NavigationCluster findCluster(@NotNull final BlockPos pos)
+    {
+        for (int dy = 0; dy <= 1; dy++)
+        {
+            final BlockPos checkPos = pos.below(dy);
+            final NavigationSection section = sections.get(SectionPos.asLong(checkPos.getX() >> 4, checkPos.getY() >> 4, checkPos.getZ() >> 4));
+            if (section != null)
+            {
+                final NavigationCluster cluster = section.getCluster(checkPos);
+                if (cluster != null)
+                {
+                    return cluster;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Plan a route on the coarse cluster graph, called from the pathfinding threads.
+     *
+     * @param start the start position.
+     * @param end   the destination.
+     * @return the cluster centers to pass through, or null if either end is not covered or no route is known.
+     */
+    @Nullable
+    public List<BlockPos> findRoute(@NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final NavigationCluster startCluster = findCluster(start);
+        final NavigationCluster endCluster = findCluster(end);
+        if (startCluster == null || endCluster == null)
+        {
+            return null;
+        }
+
+        if (startCluster == endCluster)
+        {
+            return Collections.emptyList();
+        }
+
+        final Map<NavigationCluster, NavigationCluster> cameFrom = new HashMap<>();
+        final Map<NavigationCluster, Double> costs = new HashMap<>();
+        final PriorityQueue<RouteEntry> open = new PriorityQueue<>(Comparator.comparingDouble(tuple -> tuple.score));
+        costs.put(startCluster, 0.0);
+        open.add(new RouteEntry(startCluster, distance(startCluster.getCenter(), endCluster.getCenter())));
+
+        int expansions = 0;
+        while (!open.isEmpty() && expansions++ < MAX_ROUTE_EXPANSIONS)
+        {
+            final NavigationCluster current = open.poll().cluster;
+            if (current == endCluster)
+            {
+                final LinkedList<BlockPos> route = new LinkedList<>();
+                for (NavigationCluster step = cameFrom.get(current); step != null && step != startCluster; step = cameFrom.get(step))
+                {
+                    route.addFirst(step.getCenter());
+                }
+                return route;
+            }
+
+            final double currentCost = costs.get(current);
+            for (final NavigationCluster neighbour : current.getNeighbours())
+            {
+                final double cost = currentCost + distance(current.getCenter(), neighbour.getCenter());
+                if (cost < costs.getOrDefault(neighbour, Double.MAX_VALUE))
+                {
+                    costs.put(neighbour, cost);
+                    cameFrom.put(neighbour, current);
+                    open.add(new RouteEntry(neighbour, cost + distance(neighbour.getCenter(), endCluster.getCenter())));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Straight distance between two positions.
+     */
+    private static double distance(final BlockPos a, final BlockPos b)
+    {
+        return Math.sqrt(a.distSqr(b));
+    }
+
+    /**
+     * Get the layer covering a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the layer or null if no colony covers the position.
+     */
+    @Nullable
+    public static ColonyNavigationLayer getLayer(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Map<Long, ColonyNavigationLayer> dimensionLayers = layersByChunk.get(world.dimension());
+        return dimensionLayers == null ? null : dimensionLayers.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Mark a changed block in whichever layer covers it.
+     *
+     * @param world the world.
+     * @param pos   the changed block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final ColonyNavigationLayer layer = getLayer(world, pos);
+        if (layer != null)
+        {
+            layer.markDirty(pos);
+        }
+    }
+
+    /**
+     * Rebuild dirty sections within the tick time budget, called at the end of every server tick. Every colony with dirty sections rebuilds at least one per tick, the time
+     * left over goes to the colonies in turn.
+     */
+    public static void onServerTick()
+    {
+        final long deadline = System.nanoTime() + REBUILD_NANOS_PER_TICK;
+        for (final ColonyNavigationLayer layer : new ArrayList<>(activeLayers))
+        {
+            if (layer.dirtySections.isEmpty())
+            {
+                continue;
+            }
+
+            layer.processDirtySections(deadline);
+            if (!layer.dirtySections.isEmpty())
+            {
+                // Queue the layer behind the others, so one busy colony can't take the time of the rest next tick.
+                activeLayers.remove(layer);
+                activeLayers.add(layer);
+            }
+        }
+    }
+
+    /**
+     * Drop all layers, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        layersByChunk.clear();
+        activeLayers.clear();
+    }
+
+    /**
+     * Open list entry of the route search.
+     */
+    private static final class RouteEntry
+    {
+        private final NavigationCluster cluster;
+        private final double            score;
+
+        private RouteEntry(final NavigationCluster cluster, final double score)
+        {
+            this.cluster = cluster;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.minecolonies.coremod.entity.pathfinding.navigation;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node of the coarse navigation graph: a set of connected traversable blocks within one chunk section.
+ */
+public class NavigationCluster
+{
+    /**
+     * The packed position of the section the cluster lies in.
+     */
+    private final long sectionKey;
+
+    /**
+     * The traversable block closest to the center of the cluster.
+     */
+    @NotNull
+    private final BlockPos center;
+
+    /**
+     * Amount of blocks in the cluster.
+     */
+    private final int size;
+
+    /**
+     * Clusters of neighbouring sections which can be reached directly, read by route queries on the pathfinding threads.
+     */
+    private final Set<NavigationCluster> neighbours = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create a new cluster.
+     *
+     * @param sectionKey the section position.
+     * @param center     the representative block.
+     * @param size       the amount of blocks.
+     */
+    public NavigationCluster(final long sectionKey, @NotNull final BlockPos center, final int size)
+    {
+        this.sectionKey = sectionKey;
+        this.center = center;
+        this.size = size;
+    }
+
+    /**
+     * Get the packed position of the section.
+     *
+     * @return the section key.
+     */
+    public long getSectionKey()
+    {
+        return sectionKey;
+    }
+
+    /**
+     * Get the representative block of the cluster.
+     *
+     * @return the center block.
+     */
+    @NotNull
+    public BlockPos getCenter()
+    {
+        return center;
+    }
+
+    /**
+     * Get the amount of blocks in the cluster.
+     *
+     * @return the size.
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Get the directly reachable clusters.
+     *
+     * @return the neighbours.
+     */
+    public Set<NavigationCluster> getNeighbours()
+    {
+        return neighbours;
+    }
+
+    /**
+     * Connect two clusters in both directions.
+     *
+     * @param other the other cluster.
+     */
+    public void link(@NotNull final NavigationCluster other)
+    {
+        if (other != this)
+        {
+            neighbours.add(other);
+            other.neighbours.add(this);
+        }
+    }
+
+    /**
+     * Remove this cluster from the graph.
+     */
+    public void unlink()
+    {
+        for (final NavigationCluster neighbour : neighbours)
+        {
+            neighbour.neighbours.remove(this);
+        }
+        neighbours.clear();
+    }
+}
@@ -0,0 +1,370 @@
+package com.minecolonies.coremod.entity.pathfinding.navigation;
+
+import com.minecolonies.api.entity.pathfinding.SurfaceType;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.DoorBlock;
+import net.minecraft.block.FenceGateBlock;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Walkability data of a single chunk section: per block flags plus the clusters of connected traversable blocks.
+ */
+public final class NavigationSection
+{
+    /**
+     * Mask of the cluster index (plus one, zero means not traversable) in a cell.
+     */
+    private static final int CLUSTER_MASK = 0xFFF;
+
+    /**
+     * Flag set if the block is a ladder.
+     */
+    public static final int LADDER = 1 << 12;
+
+    /**
+     * Flag set if the block is a door or gate.
+     */
+    public static final int DOOR = 1 << 13;
+
+    /**
+     * Flag set if the block can be stood in.
+     */
+    public static final int WALKABLE = 1 << 14;
+
+    /**
+     * Horizontal neighbour offsets.
+     */
+    private static final int[][] HORIZONTAL = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    /**
+     * The packed position of the section.
+     */
+    private final long key;
+
+    /**
+     * Minimum world coordinates of the section.
+     */
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+
+    /**
+     * Flags and cluster of every block, null if nothing is traversable.
+     */
+    @Nullable
+    private final short[] cells;
+
+    /**
+     * The clusters of this section.
+     */
+    private final NavigationCluster[] clusters;
+
+    private NavigationSection(final long key, final int minX, final int minY, final int minZ, @Nullable final short[] cells, final NavigationCluster[] clusters)
+    {
+        this.key = key;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.cells = cells;
+        this.clusters = clusters;
+    }
+
+    /**
+     * Compute the walkability of a section of a loaded chunk, must be called on the server thread.
+     *
+     * @param world    the world.
+     * @param chunk    the chunk.
+     * @param sectionY the section index.
+     * @return the new section data.
+     */
+    @NotNull
+    public static NavigationSection build(@NotNull final World world, @NotNull final Chunk chunk, final int sectionY)
+    {
+        final int minX = chunk.getPos().getMinBlockX();
+        final int minY = sectionY << 4;
+        final int minZ = chunk.getPos().getMinBlockZ();
+        final long key = SectionPos.asLong(chunk.getPos().x, sectionY, chunk.getPos().z);
+
+        final ChunkSection[] sections = chunk.getSections();
+        if (ChunkSection.isEmpty(sections[sectionY]) && (sectionY == 0 || ChunkSection.isEmpty(sections[sectionY - 1])))
+        {
+            return new NavigationSection(key, minX, minY, minZ, null, new NavigationCluster[0]);
+        }
+
+        final short[] cells = new short[16 * 16 * 16];
+        boolean any = false;
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        final BlockPos.Mutable below = new BlockPos.Mutable();
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    pos.set(minX + x, minY + y, minZ + z);
+                    final int flags = computeFlags(world, chunk, pos, below);
+                    cells[index(x, y, z)] = (short) flags;
+                    any |= flags != 0;
+                }
+            }
+        }
+
+        if (!any)
+        {
+            return new NavigationSection(key, minX, minY, minZ, null, new NavigationCluster[0]);
+        }
+
+        return new NavigationSection(key, minX, minY, minZ, cells, computeClusters(key, minX, minY, minZ, cells));
+    }
+
+    /**
+     * Compute the flags of a single block.
+     *
+     * @param world the world.
+     * @param chunk the chunk containing the block.
+     * @param pos   the block.
+     * @param below mutable position for the block below.
+     * @return the flags, zero if not traversable.
+     */
+    private static int computeFlags(final World world, final Chunk chunk, final BlockPos pos, final BlockPos.Mutable below)
+    {
+        final BlockState state = chunk.getBlockState(pos);
+        final boolean door = state.getBlock() instanceof DoorBlock || state.getBlock() instanceof FenceGateBlock;
+        if (state.getMaterial().blocksMotion() && !door)
+        {
+            return 0;
+        }
+
+        final BlockState head = pos.getY() >= 255 ? Blocks.AIR.defaultBlockState() : chunk.getBlockState(pos.above());
+        if (head.getMaterial().blocksMotion() && !(head.getBlock() instanceof DoorBlock))
+        {
+            return 0;
+        }
+
+        int flags = door ? DOOR : 0;
+        if (state.getBlock().isLadder(state, world, pos, null))
+        {
+            flags |= LADDER;
+        }
+
+        if (pos.getY() > 0)
+        {
+            below.set(pos.getX(), pos.getY() - 1, pos.getZ());
+            if (SurfaceType.getSurfaceType(world, chunk.getBlockState(below), below) == SurfaceType.WALKABLE)
+            {
+                flags |= WALKABLE;
+            }
+        }
+
+        return (flags & (WALKABLE | LADDER)) == 0 ? 0 : flags;
+    }
+
+    /**
+     * Flood fill the traversable blocks into clusters.
+     *
+     * @param key   the section key.
+     * @param minX  min x of the section.
+     * @param minY  min y of the section.
+     * @param minZ  min z of the section.
+     * @param cells the flags, the cluster indices are written into.
+     * @return the clusters.
+     */
+    private static NavigationCluster[] computeClusters(final long key, final int minX, final int minY, final int minZ, final short[] cells)
+    {
+        final List<NavigationCluster> clusters = new ArrayList<>();
+        final int[] queue = new int[cells.length];
+        for (int start = 0; start < cells.length; start++)
+        {
+            if (cells[start] == 0 || (cells[start] & CLUSTER_MASK) != 0)
+            {
+                continue;
+            }
+
+            final int clusterId = Math.min(clusters.size() + 1, CLUSTER_MASK);
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            cells[start] |= clusterId;
+            long sumX = 0;
+            long sumY = 0;
+            long sumZ = 0;
+
+            while (head < tail)
+            {
+                final int current = queue[head++];
+                final int x = current & 15;
+                final int z = (current >> 4) & 15;
+                final int y = current >> 8;
+                sumX += x;
+                sumY += y;
+                sumZ += z;
+
+                for (final int[] offset : HORIZONTAL)
+                {
+                    for (int dy = -1; dy <= 1; dy++)
+                    {
+                        tail = enqueue(cells, queue, tail, clusterId, x + offset[0], y + dy, z + offset[1]);
+                    }
+                }
+
+                if ((cells[current] & LADDER) != 0)
+                {
+                    tail = enqueue(cells, queue, tail, clusterId, x, y + 1, z);
+                    tail = enqueue(cells, queue, tail, clusterId, x, y - 1, z);
+                }
+                else
+                {
+                    tail = enqueueLadder(cells, queue, tail, clusterId, x, y + 1, z);
+                    tail = enqueueLadder(cells, queue, tail, clusterId, x, y - 1, z);
+                }
+            }
+
+            if (clusterId < clusters.size() + 1)
+            {
+                // Out of cluster ids, the remaining blocks all share the last cluster.
+                continue;
+            }
+
+            final double centerX = (double) sumX / tail;
+            final double centerY = (double) sumY / tail;
+            final double centerZ = (double) sumZ / tail;
+            int best = start;
+            double bestDist = Double.MAX_VALUE;
+            for (int i = 0; i < tail; i++)
+            {
+                final int cell = queue[i];
+                final double dx = (cell & 15) - centerX;
+                final double dy = (cell >> 8) - centerY;
+                final double dz = ((cell >> 4) & 15) - centerZ;
+                final double dist = dx * dx + dy * dy + dz * dz;
+                if (dist < bestDist)
+                {
+                    bestDist = dist;
+                    best = cell;
+                }
+            }
+
+            clusters.add(new NavigationCluster(key, new BlockPos(minX + (best & 15), minY + (best >> 8), minZ + ((best >> 4) & 15)), tail));
+        }
+        return clusters.toArray(new NavigationCluster[0]);
+    }
+
+    /**
+     * Add a traversable, not yet assigned block to the flood fill queue.
+     *
+     * @return the new queue tail.
+     */
+    private static int enqueue(final short[] cells, final int[] queue, final int tail, final int clusterId, final int x, final int y, final int z)
+    {
+        if (x < 0 || x > 15 || y < 0 || y > 15 || z < 0 || z > 15)
+        {
+            return tail;
+        }
+
+        final int index = index(x, y, z);
+        if (cells[index] == 0 || (cells[index] & CLUSTER_MASK) != 0)
+        {
+            return tail;
+        }
+
+        cells[index] |= clusterId;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    /**
+     * Add a ladder block to the flood fill queue, vertical movement is only possible on ladders.
+     *
+     * @return the new queue tail.
+     */
+    private static int enqueueLadder(final short[] cells, final int[] queue, final int tail, final int clusterId, final int x, final int y, final int z)
+    {
+        if (y < 0 || y > 15 || (cells[index(x, y, z)] & LADDER) == 0)
+        {
+            return tail;
+        }
+        return enqueue(cells, queue, tail, clusterId, x, y, z);
+    }
+
+    /**
+     * Get the index of a section relative position.
+     *
+     * @return the index in the cell array.
+     */
+    private static int index(final int x, final int y, final int z)
+    {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    /**
+     * Get the packed position of the section.
+     *
+     * @return the key.
+     */
+    public long getKey()
+    {
+        return key;
+    }
+
+    /**
+     * Get the flags of a block within this section.
+     *
+     * @param pos the world position, must be inside the section.
+     * @return the flags, zero if not traversable.
+     */
+    public int getFlags(@NotNull final BlockPos pos)
+    {
+        if (cells == null)
+        {
+            return 0;
+        }
+        return cells[index(pos.getX() - minX, pos.getY() - minY, pos.getZ() - minZ)] & ~CLUSTER_MASK;
+    }
+
+    /**
+     * Get the cluster of a block within this section.
+     *
+     * @param pos the world position, must be inside the section.
+     * @return the cluster or null if the block is not traversable.
+     */
+    @Nullable
+    public NavigationCluster getCluster(@NotNull final BlockPos pos)
+    {
+        if (cells == null)
+        {
+            return null;
+        }
+        final int clusterId = cells[index(pos.getX() - minX, pos.getY() - minY, pos.getZ() - minZ)] & CLUSTER_MASK;
+        return clusterId == 0 || clusterId > clusters.length ? null : clusters[clusterId - 1];
+    }
+
+    /**
+     * Get all clusters of the section.
+     *
+     * @return the clusters.
+     */
+    public NavigationCluster[] getClusters()
+    {
+        return clusters;
+    }
+
+    /**
+     * Check if the section contains any traversable block.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return cells == null;
+    }
+}
@@ -15,6 +15,8 @@ import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.blocks.BlockDecorationController;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.NodeHeap;
+import com.minecolonies.coremod.entity.pathfinding.NodeMap;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
 import com.minecolonies.coremod.network.messages.client.SyncPathMessage;
 import com.minecolonies.coremod.network.messages.client.SyncPathReachedMessage;
@@ -82,14 +84,24 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final int maxRange;
 
     /**
-     * Queue of all open nodes.
+     * Per worker thread pool of open node heaps, reused between jobs.
      */
-    private final Queue<Node> nodesOpen = new PriorityQueue<>(500);
+    private static final ThreadLocal<NodeHeap> OPEN_NODE_POOL = ThreadLocal.withInitial(NodeHeap::new);
 
     /**
-     * Queue of all the visited nodes.
+     * Per worker thread pool of visited node maps, reused between jobs.
      */
-    private final Map<Integer, Node> nodesVisited = new HashMap<>();
+    private static final ThreadLocal<NodeMap> VISITED_NODE_POOL = ThreadLocal.withInitial(NodeMap::new);
+
+    /**
+     * Queue of all open nodes, taken from the pool of the executing thread.
+     */
+    private NodeHeap nodesOpen;
+
+    /**
+     * Map of all the visited nodes by packed position, taken from the pool of the executing thread.
+     */
+    private NodeMap nodesVisited;
 
     //  Debug Rendering
     protected        boolean            debugDrawEnabled     = false;
@@ -469,17 +481,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
-     * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within This version takes a BlockPos
+     * Generate a unique key for identifying a given node by it's coordinates.
      *
      * @param pos BlockPos to generate key from
      * @return key for node in map
      */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
+    private static long computeNodeKey(@NotNull final BlockPos pos)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return pos.asLong();
     }
 
     /**
@@ -569,6 +578,28 @@ public abstract class AbstractPathJob implements Callable<Path>
         return (node == null) ? isWater(world, pos.below()) : node.isSwimming();
     }
 
+    /**
+     * Get the start position of the search.
+     *
+     * @return the start.
+     */
+    @NotNull
+    public BlockPos getStart()
+    {
+        return start;
+    }
+
+    /**
+     * Get the entity the job is calculated for.
+     *
+     * @return the entity or null if there is none or it was unloaded.
+     */
+    @Nullable
+    public LivingEntity getEntity()
+    {
+        return entity == null ? null : entity.get();
+    }
+
     public PathResult getResult()
     {
         return result;
@@ -582,6 +613,8 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Override
     public final Path call()
     {
+        nodesOpen = OPEN_NODE_POOL.get();
+        nodesVisited = VISITED_NODE_POOL.get();
         try
         {
             return search();
@@ -591,6 +624,13 @@ public abstract class AbstractPathJob implements Callable<Path>
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            nodesOpen.clear();
+            nodesVisited.clear();
+            nodesOpen = null;
+            nodesVisited = null;
+        }
 
         return null;
     }
@@ -996,7 +1036,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
-        int nodeKey = computeNodeKey(pos);
+        final long nodeKey = computeNodeKey(pos);
         Node node = nodesVisited.get(nodeKey);
         if (nodeClosed(node))
         {
@@ -1053,7 +1093,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     @NotNull
     private Node createNode(
-      final Node parent, @NotNull final BlockPos pos, final int nodeKey,
+      final Node parent, @NotNull final BlockPos pos, final long nodeKey,
       final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final Node node;
@@ -1086,7 +1126,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -1096,6 +1136,8 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        // Decrease-key in place, the following offer is a no-op for queued nodes.
+        nodesOpen.update(node);
         return false;
     }
 
@@ -3,14 +3,20 @@ package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.navigation.ColonyNavigationLayer;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.vector.Vector3i;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 import static com.minecolonies.api.util.constant.PathingConstants.DEBUG_VERBOSITY_NONE;
 
 /**
@@ -21,11 +27,39 @@ public class PathJobMoveToLocation extends AbstractPathJob
     private static final float    DESTINATION_SLACK_NONE     = 0.1F;
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float    DESTINATION_SLACK_ADJACENT = (float) Math.sqrt(2f);
+    /**
+     * Weight of the remaining route length in the heuristic, below one to keep the overestimation of the route hint small.
+     */
+    private static final double   ROUTE_HINT_WEIGHT          = 0.8;
     @NotNull
     private final        BlockPos destination;
     // 0 = exact match
     private              float    destinationSlack           = DESTINATION_SLACK_NONE;
 
+    /**
+     * The colony navigation layer to plan the coarse route on, null if the search is unguided.
+     */
+    @Nullable
+    private ColonyNavigationLayer navigationLayer = null;
+
+    /**
+     * Coarse route waypoints from the colony navigation layer, null if the search is unguided.
+     */
+    @Nullable
+    private BlockPos[] route = null;
+
+    /**
+     * Remaining route length from each waypoint to the destination.
+     */
+    @Nullable
+    private double[] routeRemaining = null;
+
+    /**
+     * Index of the last waypoint in each section the route passes, by packed section position.
+     */
+    @Nullable
+    private Long2IntMap routeIndex = null;
+
     /**
      * Prepares the PathJob for the path finding system.
      *
@@ -63,9 +97,57 @@ public class PathJobMoveToLocation extends AbstractPathJob
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
 
+        if (navigationLayer != null)
+        {
+            final List<BlockPos> waypoints = navigationLayer.findRoute(start, destination);
+            if (waypoints != null)
+            {
+                setRoute(waypoints);
+            }
+        }
+
         return super.search();
     }
 
+    /**
+     * Plan a coarse route on a colony navigation layer when the search starts. The route is only a hint for the heuristic, the search may return a longer path than
+     * the unguided search would.
+     *
+     * @param layer the layer covering the start.
+     */
+    public void setNavigationLayer(@NotNull final ColonyNavigationLayer layer)
+    {
+        this.navigationLayer = layer;
+    }
+
+    /**
+     * Guide the search along a coarse route, the heuristic then estimates the remaining distance along the route instead of the straight distance.
+     *
+     * @param waypoints the waypoints between start and destination.
+     */
+    private void setRoute(@NotNull final List<BlockPos> waypoints)
+    {
+        if (waypoints.isEmpty())
+        {
+            return;
+        }
+
+        route = waypoints.toArray(new BlockPos[0]);
+        routeRemaining = new double[route.length];
+        routeIndex = new Long2IntOpenHashMap(route.length);
+        routeIndex.defaultReturnValue(-1);
+        double remaining = Math.sqrt(destination.distSqr(route[route.length - 1]));
+        for (int i = route.length - 1; i >= 0; i--)
+        {
+            routeRemaining[i] = remaining;
+            routeIndex.putIfAbsent(SectionPos.asLong(route[i].getX() >> 4, route[i].getY() >> 4, route[i].getZ() >> 4), i);
+            if (i > 0)
+            {
+                remaining += Math.sqrt(route[i].distSqr(route[i - 1]));
+            }
+        }
+    }
+
     @Override
     protected BlockPos getPathTargetPos(final Node finalNode)
     {
@@ -75,7 +157,19 @@ public class PathJobMoveToLocation extends AbstractPathJob
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
-        return Math.sqrt(destination.distSqr(pos));
+        final double direct = Math.sqrt(destination.distSqr(pos));
+        if (routeIndex == null)
+        {
+            return direct;
+        }
+
+        //  Within a section of the route, head for the following waypoint, so the search follows the coarse route around obstacles
+        final int next = routeIndex.get(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4)) + 1;
+        if (next <= 0 || next >= route.length)
+        {
+            return direct;
+        }
+        return Math.max(direct, ROUTE_HINT_WEIGHT * (Math.sqrt(route[next].distSqr(pos)) + routeRemaining[next]));
     }
 
     /**
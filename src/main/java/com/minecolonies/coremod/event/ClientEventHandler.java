@@ -39,6 +39,7 @@ import com.minecolonies.coremod.colony.crafting.CustomRecipe;
 import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.items.ItemBannerRallyGuards;
+import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
@@ -58,6 +59,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.*;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.client.event.sound.PlaySoundEvent;
 import net.minecraftforge.common.util.Lazy;
@@ -164,6 +166,17 @@ public class ClientEventHandler
         renderBuffer.endBatch();
     }
 
+    /**
+     * Drop the cached chunk claims when leaving a world or server.
+     *
+     * @param event the logout event.
+     */
+    @SubscribeEvent
+    public static void onLoggedOut(final ClientPlayerNetworkEvent.LoggedOutEvent event)
+    {
+        ChunkClientDataHelper.clearCache();
+    }
+
     @SubscribeEvent(priority = EventPriority.HIGH)
     public static void onPlaySoundEvent(final PlaySoundEvent event)
     {
@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Tuple;
@@ -31,6 +32,9 @@ import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.commands.EntryPoint;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
+import com.minecolonies.coremod.entity.pathfinding.ChunkSectionSnapshotCache;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
@@ -38,7 +42,7 @@ import com.minecolonies.coremod.items.ItemBannerRallyGuards;
 import com.minecolonies.coremod.loot.SupplyLoot;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.util.ChunkClaimWindow;
 import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.block.*;
@@ -245,9 +249,36 @@ public class EventHandler
         if (event.getWorld() instanceof ServerWorld)
         {
             ChunkDataHelper.unloadChunk((Chunk) event.getChunk(), (ServerWorld) event.getWorld());
+            ChunkSectionSnapshotCache.get((World) event.getWorld()).invalidateChunk(event.getChunk().getPos());
+            PathCache.onChunkUnloaded((World) event.getWorld(), event.getChunk().getPos());
         }
     }
 
+    /**
+     * Called after a block changed and notified its neighbours.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockNeighborNotify(final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getWorld() instanceof ServerWorld)
+        {
+            Pathfinding.onBlockChanged(event.getWorld(), event.getPos());
+        }
+    }
+
+    /**
+     * Called after an entity placed a block, placing does not always notify the neighbours.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockPlaced(final BlockEvent.EntityPlaceEvent event)
+    {
+        Pathfinding.onBlockChanged(event.getWorld(), event.getPos());
+    }
+
     /**
      * Called right before dimension change event, used to remove the player from an existing colony
      *
@@ -289,6 +320,7 @@ public class EventHandler
         if (event.getPlayer() instanceof ServerPlayerEntity)
         {
             final ServerPlayerEntity player = (ServerPlayerEntity) event.getPlayer();
+            ChunkClaimWindow.update(player, player.xChunk, player.zChunk);
 
             final Chunk newChunk = player.level.getChunk(player.xChunk, player.zChunk);
             final IColonyTagCapability closeColonyCap = newChunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
@@ -329,11 +361,7 @@ public class EventHandler
             final Chunk newChunk = world.getChunk(event.getNewChunkX(), event.getNewChunkZ());
             ChunkDataHelper.loadChunk(newChunk, entity.level);
 
-            Network.getNetwork()
-              .sendToPlayer(new UpdateChunkRangeCapabilityMessage(world,
-                event.getNewChunkX(),
-                event.getNewChunkZ(),
-                8, true), (ServerPlayerEntity) event.getEntity());
+            ChunkClaimWindow.update((ServerPlayerEntity) entity, event.getNewChunkX(), event.getNewChunkZ());
 
             final IColonyTagCapability newCloseColonies = newChunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
             if (newCloseColonies == null)
@@ -411,18 +439,19 @@ public class EventHandler
             return;
         }
 
-        final IColonyTagCapability closeColonyCap = ((World) event.getWorld()).getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
-        if (closeColonyCap == null || closeColonyCap.getOwningColony() == 0)
+        final int owner = ColonyClaimIndex.getOwner(((World) event.getWorld()).dimension(), pos);
+        if (owner == 0)
         {
             return;
         }
-        final IColony newColony = IColonyManager.getInstance().getColonyByWorld(closeColonyCap.getOwningColony(), (World) event.getWorld());
-        if (newColony == null)
+        final IColony newColony = IColonyManager.getInstance().getColonyByWorld(owner, (World) event.getWorld());
+        final IColonyTagCapability closeColonyCap = ((World) event.getWorld()).getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        if (newColony == null || closeColonyCap == null)
         {
             return;
         }
 
-        for (final BlockPos buildingPos : closeColonyCap.getAllClaimingBuildings().getOrDefault(closeColonyCap.getOwningColony(), Collections.emptySet()))
+        for (final BlockPos buildingPos : closeColonyCap.getAllClaimingBuildings().getOrDefault(owner, Collections.emptySet()))
         {
             final IBuilding building = newColony.getBuildingManager().getBuilding(buildingPos);
             if (building != null && building.getBuildingLevel() >= 1 && building.isInBuilding(pos))
@@ -497,6 +526,7 @@ public class EventHandler
                 colony.getPackageManager().removeCloseSubscriber(player);
                 colony.getPackageManager().removeImportantColonyPlayer(player);
             }
+            ChunkClaimWindow.remove(player);
         }
     }
 
@@ -549,6 +579,7 @@ public class EventHandler
             return;
 
         final World world = (World) event.getWorld();
+        Pathfinding.onBlockChanged(world, event.getPos());
 
         if (event.getState().getBlock() instanceof SpawnerBlock)
         {
@@ -579,6 +610,9 @@ public class EventHandler
         final World world = event.getWorld();
         BlockPos bedBlockPos = event.getPos();
 
+        // Doors, gates and trapdoors toggle without notifying their neighbours.
+        Pathfinding.onBlockChanged(world, event.getPos());
+
         // this was the simple way of doing it, minecraft calls onBlockActivated
         // and uses that return value, but I didn't want to call it twice
         if (playerRightClickInteract(player, world, event.getPos()) && world.getBlockState(event.getPos()).getBlock() instanceof AbstractBlockHut)
@@ -837,6 +871,8 @@ public class EventHandler
         if (!event.getWorld().isClientSide() && event.getWorld() instanceof World)
         {
             IColonyManager.getInstance().onWorldUnload((World) event.getWorld());
+            ChunkSectionSnapshotCache.clear((World) event.getWorld());
+            BuildingItemIndex.clear((World) event.getWorld());
         }
         if (event.getWorld().isClientSide())
         {
@@ -1,13 +1,24 @@
 package com.minecolonies.coremod.event;
 
+import com.minecolonies.api.colony.ColonyClaimIndex;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
 import com.minecolonies.coremod.datalistener.CrafterRecipeListener;
 import com.minecolonies.coremod.datalistener.CustomVisitorListener;
 import com.minecolonies.coremod.datalistener.ResearchListener;
+import com.minecolonies.coremod.entity.ai.combat.CombatantIndex;
+import com.minecolonies.coremod.entity.pathfinding.ChunkSectionSnapshotCache;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.entity.pathfinding.navigation.ColonyNavigationLayer;
 import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
+import com.minecolonies.coremod.util.BlueprintCache;
+import com.minecolonies.coremod.util.ChunkClaimJournal;
+import com.minecolonies.coremod.util.ChunkClaimWindow;
+import com.minecolonies.coremod.util.SchematicManifest;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.TickEvent;
@@ -15,6 +26,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
 import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -26,6 +38,13 @@ public class FMLEventHandler
     public static void onServerTick(final TickEvent.ServerTickEvent event)
     {
         IColonyManager.getInstance().onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ChunkSectionSnapshotCache.onServerTick();
+            ColonyNavigationLayer.onServerTick();
+            ColonyTickScheduler.onServerTick();
+            ChunkClaimJournal.flush(ServerLifecycleHooks.getCurrentServer());
+        }
     }
 
     @SubscribeEvent
@@ -46,7 +65,7 @@ public class FMLEventHandler
         if (event.getPlayer() instanceof ServerPlayerEntity)
         {
             Network.getNetwork().sendToPlayer(new ServerUUIDMessage(), (ServerPlayerEntity) event.getPlayer());
-            Network.getNetwork().sendToPlayer(new ColonyStylesMessage(), (ServerPlayerEntity) event.getPlayer());
+            Network.getNetwork().sendToPlayer(new ColonyStylesMessage(SchematicManifest.getServerManifest()), (ServerPlayerEntity) event.getPlayer());
 
             // This automatically reloads the owner of the colony if failed.
             IColonyManager.getInstance().getIColonyByOwner(((ServerPlayerEntity) event.getPlayer()).getLevel(), event.getPlayer());
@@ -71,5 +90,15 @@ public class FMLEventHandler
     public static void onServerStopped(final FMLServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        ChunkSectionSnapshotCache.clearAll();
+        ColonyNavigationLayer.clearAll();
+        PathCache.clearAll();
+        BuildingItemIndex.clearAll();
+        ColonyTickScheduler.clearAll();
+        ColonyClaimIndex.clearAll();
+        ChunkClaimJournal.clearAll();
+        ChunkClaimWindow.clearAll();
+        CombatantIndex.clearAll();
+        BlueprintCache.clearAll();
     }
 }
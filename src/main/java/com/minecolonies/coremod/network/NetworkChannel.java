@@ -121,6 +121,7 @@ public class NetworkChannel
         registerMessage(++idx, ColonyViewRemoveBuildingMessage.class, ColonyViewRemoveBuildingMessage::new);
         registerMessage(++idx, PermissionsMessage.View.class, PermissionsMessage.View::new);
         registerMessage(++idx, ColonyStylesMessage.class, ColonyStylesMessage::new);
+        registerMessage(++idx, SchematicManifestRequestMessage.class, SchematicManifestRequestMessage::new);
         registerMessage(++idx, ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage::new);
         registerMessage(++idx, ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage::new);
         registerMessage(++idx, UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage::new);
@@ -225,6 +226,7 @@ public class NetworkChannel
         registerMessage(++idx, ColonyVisitorViewDataMessage.class, ColonyVisitorViewDataMessage::new);
         registerMessage(++idx, SyncPathMessage.class, SyncPathMessage::new);
         registerMessage(++idx, SyncPathReachedMessage.class, SyncPathReachedMessage::new);
+        registerMessage(++idx, UpdateChunkClaimDeltaMessage.class, UpdateChunkClaimDeltaMessage::new);
 
         //JEI Messages
         registerMessage(++idx, TransferRecipeCraftingTeachingMessage.class, TransferRecipeCraftingTeachingMessage::new);
@@ -242,6 +244,7 @@ public class NetworkChannel
 
         // Crafter Recipe-related messages
         registerMessage(++idx, CustomRecipeManagerMessage.class, CustomRecipeManagerMessage::new);
+        registerMessage(++idx, SyncPayloadRequestMessage.class, SyncPayloadRequestMessage::new);
     }
 
     private void setupInternalMessages()
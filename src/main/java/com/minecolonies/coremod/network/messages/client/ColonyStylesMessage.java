@@ -2,21 +2,52 @@ package com.minecolonies.coremod.network.messages.client;
 
 import com.ldtteam.structurize.management.Structures;
 import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.server.SchematicManifestRequestMessage;
+import com.minecolonies.coremod.util.SchematicManifest;
+import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Class handling the colony styles messages.
+ * Class handling the colony styles messages. The server first only advertises the root hash of its schematic manifest, the client applies its persisted manifest if the
+ * root matches and asks for the differing buckets otherwise, which the server then sends in a second message.
  */
 public class ColonyStylesMessage implements IMessage
 {
-    private Map<String, String> md5Map;
+    /**
+     * The file the client keeps the last manifest in.
+     */
+    private static final String MANIFEST_FILE = Constants.MOD_ID + "/schematics.manifest";
+
+    /**
+     * The last manifest of the client, loaded from its file when first needed.
+     */
+    private static SchematicManifest clientManifest = null;
+
+    /**
+     * The root hash of the server manifest.
+     */
+    private long root;
+
+    /**
+     * If this carries buckets, otherwise it only advertises the root.
+     */
+    private boolean isDelta;
+
+    /**
+     * The md5s of the sent buckets, by bucket index.
+     */
+    private Map<Integer, Map<String, String>> buckets = Collections.emptyMap();
 
     /**
      * Empty constructor used when registering the
@@ -26,41 +57,79 @@ public class ColonyStylesMessage implements IMessage
         super();
     }
 
-    @Override
-    public void fromBytes(@NotNull final PacketBuffer buf)
+    /**
+     * Advertise the root of the server manifest.
+     *
+     * @param manifest the server manifest.
+     */
+    public ColonyStylesMessage(@NotNull final SchematicManifest manifest)
     {
-        md5Map = readMD5MapFromByteBuf(buf);
+        super();
+        this.root = manifest.getRoot();
+        this.isDelta = false;
     }
 
-    @NotNull
-    private static Map<String, String> readMD5MapFromByteBuf(@NotNull final PacketBuffer buf)
+    /**
+     * Send buckets of the server manifest.
+     *
+     * @param manifest the server manifest.
+     * @param buckets  the md5s of the buckets the client is missing, by bucket index.
+     */
+    public ColonyStylesMessage(@NotNull final SchematicManifest manifest, @NotNull final Map<Integer, Map<String, String>> buckets)
+    {
+        super();
+        this.root = manifest.getRoot();
+        this.isDelta = true;
+        this.buckets = buckets;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final PacketBuffer buf)
     {
-        @NotNull final Map<String, String> map = new HashMap<>();
+        root = buf.readLong();
+        isDelta = buf.readBoolean();
+        if (!isDelta)
+        {
+            return;
+        }
 
-        final int count = buf.readInt();
-        for (int i = 0; i < count; i++)
+        buckets = new HashMap<>();
+        final int bucketCount = buf.readVarInt();
+        for (int i = 0; i < bucketCount; i++)
         {
-            final String filename = buf.readUtf(32767);
-            final String md5 = buf.readUtf(32767);
-            map.put(filename, md5);
+            final int bucket = buf.readVarInt();
+            final int count = buf.readVarInt();
+            final Map<String, String> md5s = new HashMap<>();
+            for (int j = 0; j < count; j++)
+            {
+                final String filename = buf.readUtf(32767);
+                final String md5 = buf.readUtf(32767);
+                md5s.put(filename, md5);
+            }
+            buckets.put(bucket, md5s);
         }
-        return map;
     }
 
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
-        writeMD5MapToByteBuf(buf);
-    }
+        buf.writeLong(root);
+        buf.writeBoolean(isDelta);
+        if (!isDelta)
+        {
+            return;
+        }
 
-    private static void writeMD5MapToByteBuf(@NotNull final PacketBuffer buf)
-    {
-        final Map<String, String> md5s = Structures.getMD5s();
-        buf.writeInt(md5s.size());
-        for (final Map.Entry<String, String> entry : md5s.entrySet())
+        buf.writeVarInt(buckets.size());
+        for (final Map.Entry<Integer, Map<String, String>> bucket : buckets.entrySet())
         {
-            buf.writeUtf(entry.getKey());
-            buf.writeUtf(entry.getValue());
+            buf.writeVarInt(bucket.getKey());
+            buf.writeVarInt(bucket.getValue().size());
+            for (final Map.Entry<String, String> entry : bucket.getValue().entrySet())
+            {
+                buf.writeUtf(entry.getKey());
+                buf.writeUtf(entry.getValue());
+            }
         }
     }
 
@@ -74,6 +143,27 @@ public class ColonyStylesMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        Structures.setMD5s(md5Map);
+        final File file = new File(Minecraft.getInstance().gameDirectory, MANIFEST_FILE);
+        if (clientManifest == null)
+        {
+            clientManifest = SchematicManifest.load(file);
+        }
+
+        if (!isDelta)
+        {
+            if (clientManifest != null && clientManifest.getRoot() == root)
+            {
+                Structures.setMD5s(clientManifest.getMD5s());
+            }
+            else
+            {
+                Network.getNetwork().sendToServer(new SchematicManifestRequestMessage(clientManifest == null ? new long[0] : clientManifest.getBucketHashes()));
+            }
+            return;
+        }
+
+        clientManifest = clientManifest == null ? new SchematicManifest(Collections.emptyMap()).withBuckets(buckets) : clientManifest.withBuckets(buckets);
+        clientManifest.save(file);
+        Structures.setMD5s(clientManifest.getMD5s());
     }
 }
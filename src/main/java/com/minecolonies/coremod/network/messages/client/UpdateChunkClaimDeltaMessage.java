@@ -0,0 +1,143 @@
+package com.minecolonies.coremod.network.messages.client;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.util.ChunkCapData;
+import com.minecolonies.coremod.util.ChunkClientDataHelper;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Update the chunk capabilities of all chunks whose claims changed in one tick. The chunks are written relative to the first one, as they are usually close together.
+ */
+public class UpdateChunkClaimDeltaMessage implements IMessage
+{
+    /**
+     * The changed chunks.
+     */
+    private final List<ChunkCapData> caps = new ArrayList<>();
+
+    /**
+     * Empty constructor used when registering the
+     */
+    public UpdateChunkClaimDeltaMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a message to update the chunk caps on the client side.
+     *
+     * @param caps the changed chunks.
+     */
+    public UpdateChunkClaimDeltaMessage(@NotNull final List<ChunkCapData> caps)
+    {
+        this.caps.addAll(caps);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final PacketBuffer buf)
+    {
+        final int size = buf.readVarInt();
+        if (size == 0)
+        {
+            return;
+        }
+
+        final int originX = buf.readInt();
+        final int originZ = buf.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            final int x = originX + decodeZigZag(buf.readVarInt());
+            final int z = originZ + decodeZigZag(buf.readVarInt());
+            final int owningColony = buf.readVarInt();
+            final int closeSize = buf.readVarInt();
+            final List<Integer> closeColonies = new ArrayList<>(closeSize);
+            for (int j = 0; j < closeSize; j++)
+            {
+                closeColonies.add(buf.readVarInt());
+            }
+            caps.add(new ChunkCapData(x, z, owningColony, closeColonies));
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final PacketBuffer buf)
+    {
+        buf.writeVarInt(caps.size());
+        if (caps.isEmpty())
+        {
+            return;
+        }
+
+        final int originX = caps.get(0).x;
+        final int originZ = caps.get(0).z;
+        buf.writeInt(originX);
+        buf.writeInt(originZ);
+        for (final ChunkCapData data : caps)
+        {
+            buf.writeVarInt(encodeZigZag(data.x - originX));
+            buf.writeVarInt(encodeZigZag(data.z - originZ));
+            buf.writeVarInt(data.owningColony);
+            buf.writeVarInt(data.closeColonies.size());
+            for (final int id : data.closeColonies)
+            {
+                buf.writeVarInt(id);
+            }
+        }
+    }
+
+    /**
+     * Map a signed offset to an unsigned one, so small negative offsets stay small as var int.
+     *
+     * @param value the offset.
+     * @return the encoded offset.
+     */
+    private static int encodeZigZag(final int value)
+    {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Reverse {@link #encodeZigZag(int)}.
+     *
+     * @param value the encoded offset.
+     * @return the offset.
+     */
+    private static int decodeZigZag(final int value)
+    {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ClientWorld world = Minecraft.getInstance().level;
+        for (final ChunkCapData data : caps)
+        {
+            if (!WorldUtil.isChunkLoaded(world, new ChunkPos(data.x, data.z)))
+            {
+                ChunkClientDataHelper.addCapData(data);
+                continue;
+            }
+
+            ChunkClientDataHelper.applyCap(data, world.getChunk(data.x, data.z));
+        }
+    }
+}
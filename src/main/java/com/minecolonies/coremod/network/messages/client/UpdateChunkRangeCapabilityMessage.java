@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.network.messages.client;
 
-import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.util.ChunkCapData;
@@ -9,7 +8,6 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.ChunkPos;
-import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.network.NetworkEvent;
@@ -19,10 +17,9 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
-
 /**
- * Update the ChunkCapability with a colony.
+ * Update the ChunkCapabilities of the claim window around a player. Only carries the chunks the client does not know yet, the client drops cached claims outside the
+ * window.
  */
 public class UpdateChunkRangeCapabilityMessage implements IMessage
 {
@@ -31,6 +28,22 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
      */
     private final List<ChunkCapData> caps = new ArrayList<>();
 
+    /**
+     * The center chunk of the window.
+     */
+    private int centerX;
+    private int centerZ;
+
+    /**
+     * The chunk range of the window.
+     */
+    private int range;
+
+    /**
+     * If the client has to drop all cached claims first, for a new window.
+     */
+    private boolean reset;
+
     /**
      * Empty constructor used when registering the
      */
@@ -40,38 +53,30 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     }
 
     /**
-     * Create a message to update the chunk cap on the client side.
+     * Create a message to update the chunk caps on the client side.
      *
-     * @param world       the world.
-     * @param xC          the x pos.
-     * @param zC          the z pos.
-     * @param range       the range.
-     * @param checkLoaded are we checking for loaded?
+     * @param caps    the chunk caps the client does not know yet.
+     * @param centerX the center chunk x of the window.
+     * @param centerZ the center chunk z of the window.
+     * @param range   the range of the window.
+     * @param reset   if this starts a new window.
      */
-    public UpdateChunkRangeCapabilityMessage(@NotNull final World world, final int xC, final int zC, final int range, boolean checkLoaded)
+    public UpdateChunkRangeCapabilityMessage(@NotNull final List<ChunkCapData> caps, final int centerX, final int centerZ, final int range, final boolean reset)
     {
-        for (int x = -range; x <= range; x++)
-        {
-            for (int z = -range; z <= range; z++)
-            {
-                final int chunkX = xC + x;
-                final int chunkZ = zC + z;
-                if (!checkLoaded || WorldUtil.isEntityChunkLoaded(world, chunkX, chunkZ))
-                {
-                    final Chunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).orElseGet(null);
-                    if (cap != null)
-                    {
-                        caps.add(new ChunkCapData(chunkX, chunkZ, cap.getOwningColony(), cap.getAllCloseColonies()));
-                    }
-                }
-            }
-        }
+        this.caps.addAll(caps);
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.range = range;
+        this.reset = reset;
     }
 
     @Override
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
+        centerX = buf.readInt();
+        centerZ = buf.readInt();
+        range = buf.readVarInt();
+        reset = buf.readBoolean();
         final int size = buf.readInt();
         for (int i = 0; i < size; i++)
         {
@@ -82,6 +87,10 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
+        buf.writeInt(centerX);
+        buf.writeInt(centerZ);
+        buf.writeVarInt(range);
+        buf.writeBoolean(reset);
         buf.writeInt(caps.size());
         for (final ChunkCapData c : caps)
         {
@@ -99,6 +108,15 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
+        if (reset)
+        {
+            ChunkClientDataHelper.clearCache();
+        }
+        else
+        {
+            ChunkClientDataHelper.retainWindow(centerX, centerZ, range);
+        }
+
         final ClientWorld world = Minecraft.getInstance().level;
         for (final ChunkCapData data : caps)
         {
@@ -112,4 +130,4 @@ public class UpdateChunkRangeCapabilityMessage implements IMessage
             ChunkClientDataHelper.applyCap(data, chunk);
         }
     }
-}
\ No newline at end of file
+}
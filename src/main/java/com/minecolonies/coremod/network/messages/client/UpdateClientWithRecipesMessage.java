@@ -52,7 +52,7 @@ public class UpdateClientWithRecipesMessage implements IMessage
         for (int i = 0; i < size; i++)
         {
             final ItemStack result = buf.readItem();
-            final RecipeStorage storage = StandardFactoryController.getInstance().deserialize(buf.readNbt());
+            final RecipeStorage storage = StandardFactoryController.getInstance().deserialize(buf);
             recipes.put(new ItemStorage(result), storage);
         }
     }
@@ -64,7 +64,7 @@ public class UpdateClientWithRecipesMessage implements IMessage
         for (final Map.Entry<ItemStorage, RecipeStorage> entry : recipes.entrySet())
         {
             buf.writeItem(entry.getKey().getItemStack());
-            buf.writeNbt(StandardFactoryController.getInstance().serialize(entry.getValue()));
+            StandardFactoryController.getInstance().serialize(buf, entry.getValue());
         }
     }
 
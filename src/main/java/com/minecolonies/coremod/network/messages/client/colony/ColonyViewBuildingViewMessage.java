@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.network.messages.client.colony;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.network.IMessage;
@@ -15,13 +16,23 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
- * Add or Update a AbstractBuilding.View to a ColonyView on the client.
+ * Add or Update a batch of AbstractBuilding.Views of a ColonyView on the client. Every building is serialized once into the batch, the same bytes are then written for every
+ * receiving player.
  */
 public class ColonyViewBuildingViewMessage implements IMessage
 {
+    /**
+     * Max size of the building data of one message, further buildings go into the next message.
+     */
+    private static final int MAX_BATCH_BYTES = 512 * 1024;
+
     private int          colonyId;
-    private BlockPos     buildingId;
+    private int          count;
     private PacketBuffer buildingData;
 
     /**
@@ -38,26 +49,69 @@ public class ColonyViewBuildingViewMessage implements IMessage
     }
 
     /**
-     * Creates a message to handle colony views.
+     * Creates a message with already serialized buildings.
      *
-     * @param building AbstractBuilding to add or update a view.
+     * @param colony       the colony of the buildings.
+     * @param count        the amount of buildings in the buffer.
+     * @param buildingData the serialized buildings.
      */
-    public ColonyViewBuildingViewMessage(@NotNull final IBuilding building)
+    private ColonyViewBuildingViewMessage(@NotNull final IColony colony, final int count, @NotNull final PacketBuffer buildingData)
     {
         super();
-        this.colonyId = building.getColony().getID();
-        this.buildingId = building.getID();
-        this.buildingData = new PacketBuffer(Unpooled.buffer());
-        building.serializeToView(this.buildingData);
-        this.dimension = building.getColony().getDimension();
+        this.colonyId = colony.getID();
+        this.dimension = colony.getDimension();
+        this.count = count;
+        this.buildingData = buildingData;
+    }
+
+    /**
+     * Serialize buildings into as few messages as the size cap allows, to be sent to every subscriber.
+     *
+     * @param colony    the colony of the buildings.
+     * @param buildings the buildings to add or update the views of.
+     * @return the messages.
+     */
+    public static List<ColonyViewBuildingViewMessage> createBatches(@NotNull final IColony colony, @NotNull final Collection<IBuilding> buildings)
+    {
+        final List<ColonyViewBuildingViewMessage> messages = new ArrayList<>();
+        final PacketBuffer entry = new PacketBuffer(Unpooled.buffer());
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        int count = 0;
+        for (final IBuilding building : buildings)
+        {
+            entry.clear();
+            entry.writeBlockPos(building.getID());
+            final int lengthIndex = entry.writerIndex();
+            entry.writeInt(0);
+            building.serializeToView(entry);
+            entry.setInt(lengthIndex, entry.writerIndex() - lengthIndex - Integer.BYTES);
+
+            // Flush before the entry would push the batch over the cap, an entry larger than the cap gets a batch of its own.
+            if (count > 0 && buffer.writerIndex() + entry.readableBytes() > MAX_BATCH_BYTES)
+            {
+                messages.add(new ColonyViewBuildingViewMessage(colony, count, buffer));
+                buffer = new PacketBuffer(Unpooled.buffer());
+                count = 0;
+            }
+
+            buffer.writeBytes(entry);
+            count++;
+        }
+        entry.release();
+
+        if (count > 0)
+        {
+            messages.add(new ColonyViewBuildingViewMessage(colony, count, buffer));
+        }
+        return messages;
     }
 
     @Override
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
         colonyId = buf.readInt();
-        buildingId = buf.readBlockPos();
         dimension = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
+        count = buf.readInt();
         buildingData = new PacketBuffer(Unpooled.buffer(buf.readableBytes()));
         buf.readBytes(buildingData, buf.readableBytes());
     }
@@ -66,9 +120,10 @@ public class ColonyViewBuildingViewMessage implements IMessage
     public void toBytes(@NotNull final PacketBuffer buf)
     {
         buf.writeInt(colonyId);
-        buf.writeBlockPos(buildingId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(buildingData);
+        buf.writeInt(count);
+        // Don't move the reader index, the same batch is written for every player.
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
     }
 
     @Nullable
@@ -81,6 +136,11 @@ public class ColonyViewBuildingViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        IColonyManager.getInstance().handleColonyBuildingViewMessage(colonyId, buildingId, buildingData, dimension);
+        for (int i = 0; i < count; i++)
+        {
+            final BlockPos buildingId = buildingData.readBlockPos();
+            final PacketBuffer buildingBuffer = new PacketBuffer(buildingData.readSlice(buildingData.readInt()));
+            IColonyManager.getInstance().handleColonyBuildingViewMessage(colonyId, buildingId, buildingBuffer, dimension);
+        }
     }
 }
@@ -1,9 +1,9 @@
 package com.minecolonies.coremod.network.messages.client.colony;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.network.IMessage;
-import com.minecolonies.coremod.colony.Colony;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.RegistryKey;
@@ -15,14 +15,24 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
- * Add or Update a ColonyView on the client.
+ * Add or Update a batch of CitizenDataViews of a ColonyView on the client. Every citizen is serialized once into the batch, the same bytes are then written for every
+ * receiving player.
  */
 public class ColonyViewCitizenViewMessage implements IMessage
 {
+    /**
+     * Max size of the citizen data of one message, further citizens go into the next message.
+     */
+    private static final int MAX_BATCH_BYTES = 512 * 1024;
+
     private int          colonyId;
-    private int          citizenId;
-    private PacketBuffer citizenBuffer;
+    private int          count;
+    private PacketBuffer citizensBuffer;
 
     /**
      * The dimension the citizen is in.
@@ -38,37 +48,80 @@ public class ColonyViewCitizenViewMessage implements IMessage
     }
 
     /**
-     * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * Creates a message with already serialized citizens.
      *
-     * @param colony  Colony of the citizen
-     * @param citizen Citizen data of the citizen to update view
+     * @param colony         Colony of the citizens
+     * @param count          the amount of citizens in the buffer.
+     * @param citizensBuffer the serialized citizens.
      */
-    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen)
+    private ColonyViewCitizenViewMessage(@NotNull final IColony colony, final int count, @NotNull final PacketBuffer citizensBuffer)
     {
         super();
         this.colonyId = colony.getID();
-        this.citizenId = citizen.getId();
-        this.citizenBuffer = new PacketBuffer(Unpooled.buffer());
-        this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        this.dimension = colony.getDimension();
+        this.count = count;
+        this.citizensBuffer = citizensBuffer;
+    }
+
+    /**
+     * Serialize citizens into as few messages as the size cap allows, to be sent to every subscriber.
+     *
+     * @param colony   Colony of the citizens
+     * @param citizens Citizen data of the citizens to update the views of
+     * @return the messages.
+     */
+    public static List<ColonyViewCitizenViewMessage> createBatches(@NotNull final IColony colony, @NotNull final Collection<ICitizenData> citizens)
+    {
+        final List<ColonyViewCitizenViewMessage> messages = new ArrayList<>();
+        final PacketBuffer entry = new PacketBuffer(Unpooled.buffer());
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        int count = 0;
+        for (final ICitizenData citizen : citizens)
+        {
+            entry.clear();
+            entry.writeInt(citizen.getId());
+            final int lengthIndex = entry.writerIndex();
+            entry.writeInt(0);
+            citizen.serializeViewNetworkData(entry);
+            entry.setInt(lengthIndex, entry.writerIndex() - lengthIndex - Integer.BYTES);
+
+            // Flush before the entry would push the batch over the cap, an entry larger than the cap gets a batch of its own.
+            if (count > 0 && buffer.writerIndex() + entry.readableBytes() > MAX_BATCH_BYTES)
+            {
+                messages.add(new ColonyViewCitizenViewMessage(colony, count, buffer));
+                buffer = new PacketBuffer(Unpooled.buffer());
+                count = 0;
+            }
+
+            buffer.writeBytes(entry);
+            count++;
+        }
+        entry.release();
+
+        if (count > 0)
+        {
+            messages.add(new ColonyViewCitizenViewMessage(colony, count, buffer));
+        }
+        return messages;
     }
 
     @Override
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
         colonyId = buf.readInt();
-        citizenId = buf.readInt();
         dimension = RegistryKey.create(Registry.DIMENSION_REGISTRY, new ResourceLocation(buf.readUtf(32767)));
-        this.citizenBuffer = new PacketBuffer(buf.retain());
+        count = buf.readInt();
+        this.citizensBuffer = new PacketBuffer(buf.retain());
     }
 
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
         buf.writeInt(colonyId);
-        buf.writeInt(citizenId);
         buf.writeUtf(dimension.location().toString());
-        buf.writeBytes(citizenBuffer);
+        buf.writeInt(count);
+        // Don't move the reader index, the same batch is written for every player.
+        buf.writeBytes(citizensBuffer, citizensBuffer.readerIndex(), citizensBuffer.readableBytes());
     }
 
     @Nullable
@@ -81,7 +134,12 @@ public class ColonyViewCitizenViewMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, citizenBuffer, dimension);
-        citizenBuffer.release();
+        for (int i = 0; i < count; i++)
+        {
+            final int citizenId = citizensBuffer.readInt();
+            final PacketBuffer citizenBuffer = new PacketBuffer(citizensBuffer.readSlice(citizensBuffer.readInt()));
+            IColonyManager.getInstance().handleColonyViewCitizensMessage(colonyId, citizenId, citizenBuffer, dimension);
+        }
+        citizensBuffer.release();
     }
 }
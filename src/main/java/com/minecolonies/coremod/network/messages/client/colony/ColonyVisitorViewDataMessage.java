@@ -3,6 +3,7 @@ package com.minecolonies.coremod.network.messages.client.colony;
 import com.minecolonies.api.colony.*;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
+import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
@@ -31,12 +32,7 @@ public class ColonyVisitorViewDataMessage implements IMessage
     private RegistryKey<World> dimension;
 
     /**
-     * Visiting entity data
-     */
-    private Set<IVisitorData> visitors;
-
-    /**
-     * Visitor buf to read on client side.
+     * Serialized visitor data, written once on the server and read on the client side.
      */
     private PacketBuffer visitorBuf;
 
@@ -63,8 +59,14 @@ public class ColonyVisitorViewDataMessage implements IMessage
         super();
         this.colonyId = colony.getID();
         this.dimension = colony.getDimension();
-        this.visitors = visitors;
         this.refresh = refresh;
+        this.visitorBuf = new PacketBuffer(Unpooled.buffer());
+        visitorBuf.writeInt(visitors.size());
+        for (final IVisitorData data : visitors)
+        {
+            visitorBuf.writeInt(data.getId());
+            data.serializeViewNetworkData(visitorBuf);
+        }
     }
 
     @Override
@@ -90,13 +92,8 @@ public class ColonyVisitorViewDataMessage implements IMessage
         buf.writeInt(colonyId);
         buf.writeUtf(dimension.location().toString());
         buf.writeBoolean(refresh);
-        buf.writeInt(visitors.size());
-
-        for (final IVisitorData data : visitors)
-        {
-            buf.writeInt(data.getId());
-            data.serializeViewNetworkData(buf);
-        }
+        // Don't move the reader index, the same data is written for every player.
+        buf.writeBytes(visitorBuf, visitorBuf.readerIndex(), visitorBuf.readableBytes());
     }
 
     @Nullable
@@ -58,14 +58,14 @@ public class RemoveFromRallyingListMessage implements IMessage
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
         banner = buf.readItem();
-        location = StandardFactoryController.getInstance().deserialize(buf.readNbt());
+        location = StandardFactoryController.getInstance().deserialize(buf);
     }
 
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
         buf.writeItem(banner);
-        buf.writeNbt(StandardFactoryController.getInstance().serialize(location));
+        StandardFactoryController.getInstance().serialize(buf, location);
     }
 
     @Nullable
@@ -0,0 +1,88 @@
+package com.minecolonies.coremod.network.messages.server;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.ColonyStylesMessage;
+import com.minecolonies.coremod.util.SchematicManifest;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Asks the server for the schematic manifest buckets which differ from the ones the client knows.
+ */
+public class SchematicManifestRequestMessage implements IMessage
+{
+    /**
+     * The bucket hashes of the client manifest, empty if the client has none.
+     */
+    private long[] bucketHashes;
+
+    /**
+     * Empty constructor used when registering the message
+     */
+    public SchematicManifestRequestMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request the differing buckets.
+     *
+     * @param bucketHashes the bucket hashes of the client manifest, empty if the client has none.
+     */
+    public SchematicManifestRequestMessage(@NotNull final long[] bucketHashes)
+    {
+        super();
+        this.bucketHashes = bucketHashes;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final PacketBuffer buf)
+    {
+        final int size = buf.readVarInt();
+        if (size != 0 && size != SchematicManifest.BUCKETS)
+        {
+            throw new IllegalArgumentException("Invalid schematic manifest bucket count: " + size);
+        }
+
+        bucketHashes = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            bucketHashes[i] = buf.readLong();
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final PacketBuffer buf)
+    {
+        buf.writeVarInt(bucketHashes.length);
+        for (final long hash : bucketHashes)
+        {
+            buf.writeLong(hash);
+        }
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.SERVER;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ServerPlayerEntity player = ctxIn.getSender();
+        if (player == null)
+        {
+            return;
+        }
+
+        final SchematicManifest manifest = SchematicManifest.getServerManifest();
+        Network.getNetwork().sendToPlayer(new ColonyStylesMessage(manifest, manifest.getDifferingBuckets(bucketHashes)), player);
+    }
+}
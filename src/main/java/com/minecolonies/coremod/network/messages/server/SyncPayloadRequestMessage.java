@@ -0,0 +1,89 @@
+package com.minecolonies.coremod.network.messages.server;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.coremod.colony.crafting.CustomRecipeManager;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Asks the server for the full data of an advertised login payload, sent when the client has no persisted copy with the advertised hash.
+ */
+public class SyncPayloadRequestMessage implements IMessage
+{
+    /**
+     * The payloads which can be requested.
+     */
+    public enum Payload
+    {
+        RESEARCH_TREE,
+        CUSTOM_RECIPES
+    }
+
+    /**
+     * The requested payload.
+     */
+    private Payload payload;
+
+    /**
+     * Empty constructor used when registering the message
+     */
+    public SyncPayloadRequestMessage()
+    {
+        super();
+    }
+
+    /**
+     * Request the full data of a payload.
+     *
+     * @param payload the requested payload.
+     */
+    public SyncPayloadRequestMessage(@NotNull final Payload payload)
+    {
+        super();
+        this.payload = payload;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final PacketBuffer buf)
+    {
+        payload = buf.readEnum(Payload.class);
+    }
+
+    @Override
+    public void toBytes(@NotNull final PacketBuffer buf)
+    {
+        buf.writeEnum(payload);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.SERVER;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ServerPlayerEntity player = ctxIn.getSender();
+        if (player == null)
+        {
+            return;
+        }
+
+        switch (payload)
+        {
+            case RESEARCH_TREE:
+                IGlobalResearchTree.getInstance().sendGlobalResearchTreeData(player);
+                break;
+            case CUSTOM_RECIPES:
+                CustomRecipeManager.getInstance().sendCustomRecipeManagerData(player);
+                break;
+        }
+    }
+}
@@ -58,7 +58,7 @@ public class UpdateRequestStateMessage extends AbstractColonyServerMessage
     @Override
     public void fromBytesOverride(@NotNull final PacketBuffer buf)
     {
-        token = StandardFactoryController.getInstance().deserialize(buf.readNbt());
+        token = StandardFactoryController.getInstance().deserialize(buf);
         state = RequestState.values()[buf.readInt()];
         if (state == RequestState.OVERRULED)
         {
@@ -69,7 +69,7 @@ public class UpdateRequestStateMessage extends AbstractColonyServerMessage
     @Override
     public void toBytesOverride(@NotNull final PacketBuffer buf)
     {
-        buf.writeNbt(StandardFactoryController.getInstance().serialize(token));
+        StandardFactoryController.getInstance().serialize(buf, token);
         buf.writeInt(state.ordinal());
         if (state == RequestState.OVERRULED)
         {
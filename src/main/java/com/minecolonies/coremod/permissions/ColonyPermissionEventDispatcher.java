@@ -0,0 +1,321 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.ColonyClaimIndex;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.permissions.Explosions;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.passive.horse.LlamaEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.EntityDamageSource;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.EntityRayTraceResult;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.living.LivingHurtEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * The one listener for all permission relevant events. Resolves the colony owning the position of an event once and passes the event to the permission handler of that
+ * colony only, events outside of colonies end here. Only server side events are checked.
+ */
+public final class ColonyPermissionEventDispatcher
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyPermissionEventDispatcher()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony or null if the position is not claimed.
+     */
+    @Nullable
+    public static Colony getOwningColony(@NotNull final IWorld world, @NotNull final BlockPos pos)
+    {
+        if (!(world instanceof World) || world.isClientSide())
+        {
+            return null;
+        }
+
+        final int id = ColonyClaimIndex.getOwner(((World) world).dimension(), pos);
+        if (id == 0)
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByWorld(id, (World) world);
+        return colony instanceof Colony ? (Colony) colony : null;
+    }
+
+    /**
+     * Get the permission handler of the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler, empty if the position is not in a colony.
+     */
+    private static Optional<ColonyPermissionEventHandler> getHandler(@NotNull final IWorld world, @NotNull final BlockPos pos)
+    {
+        final Colony colony = getOwningColony(world, pos);
+        return colony == null ? Optional.empty() : Optional.ofNullable(colony.getEventHandler());
+    }
+
+    /**
+     * Get the permission handler for a player action, at the target position or else at the position of the player behind a fake player.
+     *
+     * @param playerIn the acting player.
+     * @param pos      the target position, may be null.
+     * @return the handler, empty if the position is not in a colony.
+     */
+    private static Optional<ColonyPermissionEventHandler> getHandler(@NotNull final PlayerEntity playerIn, @Nullable final BlockPos pos)
+    {
+        final PlayerEntity player = EntityUtils.getPlayerOfFakePlayer(playerIn, playerIn.getCommandSenderWorld());
+        return getHandler(player.getCommandSenderWorld(), pos == null ? new BlockPos(player.position()) : pos);
+    }
+
+    /**
+     * BlockEvent.EntityPlaceEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.EntityPlaceEvent event)
+    {
+        if (event.getEntity() instanceof PlayerEntity)
+        {
+            getHandler(event.getEntity().level, event.getPos()).ifPresent(handler -> handler.on(event));
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent dispatcher. Huts go to their own colony, even if they stand outside of its claim.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final BlockEvent.BreakEvent event)
+    {
+        if (event.getWorld().isClientSide())
+        {
+            return;
+        }
+
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            final IBuilding building = IColonyManager.getInstance().getBuilding(event.getPlayer().level, event.getPos());
+            if (building != null && building.getColony() instanceof Colony && ((Colony) building.getColony()).getEventHandler() != null)
+            {
+                ((Colony) building.getColony()).getEventHandler().on(event);
+            }
+            return;
+        }
+
+        getHandler(event.getPlayer(), event.getPos()).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * ExplosionEvent.Detonate dispatcher, drops the blocks and entities inside of colonies from the explosion depending on the config. The owner is looked up once per
+     * chunk.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Detonate event)
+    {
+        final Explosions setting = MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get();
+        if (setting == Explosions.DAMAGE_EVERYTHING || event.getWorld().isClientSide())
+        {
+            return;
+        }
+
+        final World world = event.getWorld();
+        final Long2ObjectMap<Boolean> claimedChunks = new Long2ObjectOpenHashMap<>();
+        switch (setting)
+        {
+            case DAMAGE_NOTHING:
+            case DAMAGE_PLAYERS:
+                // non-player entities in colonies (only non-mobs and llamas unless nothing may be damaged) are left alone.
+                event.getAffectedEntities().removeIf(entity -> !(entity instanceof ServerPlayerEntity)
+                                                                 && (setting == Explosions.DAMAGE_NOTHING || !(entity instanceof IMob) || entity instanceof LlamaEntity)
+                                                                 && isClaimed(claimedChunks, entity.getCommandSenderWorld(), new BlockPos(entity.position())));
+                // intentional fall-through to next case.
+            case DAMAGE_ENTITIES:
+                event.getAffectedBlocks().removeIf(pos -> isClaimed(claimedChunks, world, pos));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Check if a position is in a colony, remembering the result for its chunk.
+     *
+     * @param claimedChunks the results so far, by chunk.
+     * @param world         the world of the explosion.
+     * @param pos           the position.
+     * @return true if so.
+     */
+    private static boolean isClaimed(final Long2ObjectMap<Boolean> claimedChunks, final World world, final BlockPos pos)
+    {
+        return claimedChunks.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), key -> getOwningColony(world, pos) != null);
+    }
+
+    /**
+     * ExplosionEvent.Start dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ExplosionEvent.Start event)
+    {
+        getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition())).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * PlayerInteractEvent dispatcher, entity interactions have their own.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent event)
+    {
+        if (!(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
+        {
+            getHandler(event.getWorld(), event.getPos()).ifPresent(handler -> handler.on(event));
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        getHandler(event.getPlayer(), event.getPos()).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        getHandler(event.getPlayer(), event.getPos()).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * ItemTossEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ItemTossEvent event)
+    {
+        getHandler(event.getPlayer(), null).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * EntityItemPickupEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final EntityItemPickupEvent event)
+    {
+        getHandler(event.getPlayer(), null).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * FillBucketEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final FillBucketEvent event)
+    {
+        @Nullable BlockPos targetBlockPos = null;
+        if (event.getTarget() instanceof BlockRayTraceResult)
+        {
+            targetBlockPos = ((BlockRayTraceResult) event.getTarget()).getBlockPos();
+        }
+        else if (event.getTarget() instanceof EntityRayTraceResult)
+        {
+            targetBlockPos = new BlockPos(((EntityRayTraceResult) event.getTarget()).getEntity().position());
+        }
+        getHandler(event.getPlayer(), targetBlockPos).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * ArrowLooseEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final ArrowLooseEvent event)
+    {
+        getHandler(event.getPlayer(), null).ifPresent(handler -> handler.on(event));
+    }
+
+    /**
+     * LivingHurtEvent dispatcher, goes to the colony of the attacking citizen.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final LivingHurtEvent event)
+    {
+        if (event.getEntity() instanceof ServerPlayerEntity
+              && event.getSource() instanceof EntityDamageSource
+              && event.getSource().getEntity() instanceof EntityCitizen)
+        {
+            final IColony colony = ((EntityCitizen) event.getSource().getEntity()).getCitizenColonyHandler().getColony();
+            if (colony instanceof Colony && ((Colony) colony).getEventHandler() != null)
+            {
+                ((Colony) colony).getEventHandler().on(event);
+            }
+        }
+    }
+
+    /**
+     * AttackEntityEvent dispatcher.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void on(final AttackEntityEvent event)
+    {
+        getHandler(event.getPlayer(), null).ifPresent(handler -> handler.on(event));
+    }
+}
@@ -26,9 +26,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.ContainerBlock;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.MobEntity;
-import net.minecraft.entity.monster.IMob;
 import net.minecraft.entity.monster.MonsterEntity;
-import net.minecraft.entity.passive.horse.LlamaEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -46,19 +44,16 @@ import net.minecraftforge.event.entity.player.*;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ExplosionEvent;
 import net.minecraftforge.eventbus.api.Event;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
- * This class handles all permission checks on events and cancels them if needed.
+ * This class handles all permission checks on events and cancels them if needed. It is not registered on the event bus itself, the {@link ColonyPermissionEventDispatcher}
+ * resolves the colony owning the position of an event and only passes the event to the handler of that colony.
  */
 public class ColonyPermissionEventHandler
 {
@@ -87,7 +82,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.PlaceEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.EntityPlaceEvent event)
     {
         final Action action = event.getPlacedBlock().getBlock() instanceof AbstractBlockHut ? Action.PLACE_HUTS : Action.PLACE_BLOCKS;
@@ -118,20 +112,15 @@ public class ColonyPermissionEventHandler
         if (entity instanceof PlayerEntity)
         {
             @NotNull final PlayerEntity player = EntityUtils.getPlayerOfFakePlayer((PlayerEntity) entity, entity.level);
-            if (colony.isCoordInColony(entity.level, posIn))
+            if (blockState.getBlock() instanceof AbstractBlockHut
+                  && colony.getPermissions().hasPermission(player, action))
             {
-                if (blockState.getBlock() instanceof AbstractBlockHut
-                      && colony.getPermissions().hasPermission(player, action))
-                {
-                    return false;
-                }
-
-                return !colony.getPermissions().hasPermission(player, action);
+                return false;
             }
+
+            return !colony.getPermissions().hasPermission(player, action);
         }
         /*
-         * - We are not inside the colony
-         * - We are in but not denied
          * - The placer is not a player.
          */
         return false;
@@ -187,7 +176,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event BlockEvent.BreakEvent
      */
-    @SubscribeEvent
     public void on(final BlockEvent.BreakEvent event)
     {
         final IWorld world = event.getWorld();
@@ -231,61 +219,15 @@ public class ColonyPermissionEventHandler
         }
     }
 
-    /**
-     * ExplosionEvent.Detonate handler.
-     *
-     * @param event ExplosionEvent.Detonate
-     */
-    @SubscribeEvent
-    public void on(final ExplosionEvent.Detonate event)
-    {
-        if (MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_EVERYTHING)
-        {
-            return;
-        }
-
-        final World eventWorld = event.getWorld();
-        final Predicate<BlockPos> getBlocksInColony = pos -> colony.isCoordInColony(eventWorld, pos);
-        Predicate<Entity> getEntitiesInColony = entity -> (!(entity instanceof IMob) || (entity instanceof LlamaEntity))
-                                                            && colony.isCoordInColony(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
-        switch(MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get())
-        {
-            case DAMAGE_NOTHING:
-                // if any entity is in colony -> remove from list
-                getEntitiesInColony = entity -> colony.isCoordInColony(entity.getCommandSenderWorld(), new BlockPos(entity.position()));
-                // intentional fall-through to next case.
-            case DAMAGE_PLAYERS:
-                // if non-mob or llama entity is in colony -> remove from list
-                final List<Entity> entitiesToRemove = event.getAffectedEntities().stream()
-                                                          .filter(getEntitiesInColony)
-                                                          .filter(entity -> !(entity instanceof ServerPlayerEntity))
-                                                          .collect(Collectors.toList());
-                event.getAffectedEntities().removeAll(entitiesToRemove);
-                // intentional fall-through to next case.
-            case DAMAGE_ENTITIES:
-                // if block is in colony -> remove from list
-                final List<BlockPos> blocksToRemove = event.getAffectedBlocks().stream()
-                                                        .filter(getBlocksInColony)
-                                                        .collect(Collectors.toList());
-                event.getAffectedBlocks().removeAll(blocksToRemove);
-                break;
-            case DAMAGE_EVERYTHING:
-            default:
-                break;
-        }
-    }
-
     /**
      * ExplosionEvent.Start handler.
      *
      * @param event ExplosionEvent.Detonate
      */
-    @SubscribeEvent
     public void on(final ExplosionEvent.Start event)
     {
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING
-              && colony.isCoordInColony(event.getWorld(), new BlockPos(event.getExplosion().getPosition())))
+              && MineColonies.getConfig().getServer().turnOffExplosionsInColonies.get() == Explosions.DAMAGE_NOTHING)
         {
             cancelEvent(event, null, colony, Action.EXPLODE, new BlockPos(event.getExplosion().getPosition()));
         }
@@ -298,11 +240,9 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent event)
     {
-        if (colony.isCoordInColony(event.getWorld(), event.getPos())
-              && !(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
+        if (!(event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific))
         {
             final Block block = event.getWorld().getBlockState(event.getPos()).getBlock();
 
@@ -384,7 +324,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteract event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -418,7 +357,6 @@ public class ColonyPermissionEventHandler
             positionToCheck = new BlockPos(player.position());
         }
         if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && colony.isCoordInColony(player.getCommandSenderWorld(), positionToCheck)
               && !colony.getPermissions().hasPermission(player, action))
         {
             if (MineColonies.getConfig().getServer().pvp_mode.get() && !world.isClientSide && colony.isValidAttackingPlayer(playerIn))
@@ -441,7 +379,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event PlayerInteractEvent
      */
-    @SubscribeEvent
     public void on(final PlayerInteractEvent.EntityInteractSpecific event)
     {
         if (isFreeToInteractWith(null, event.getPos())
@@ -459,7 +396,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemTossEvent
      */
-    @SubscribeEvent
     public void on(final ItemTossEvent event)
     {
         if (checkEventCancelation(Action.TOSS_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position())))
@@ -475,7 +411,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final EntityItemPickupEvent event)
     {
         checkEventCancelation(Action.PICKUP_ITEM, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position()));
@@ -488,7 +423,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final FillBucketEvent event)
     {
         @Nullable BlockPos targetBlockPos = null;
@@ -510,7 +444,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final ArrowLooseEvent event)
     {
         checkEventCancelation(Action.SHOOT_ARROW, event.getPlayer(), event.getPlayer().getCommandSenderWorld(), event, new BlockPos(event.getPlayer().position()));
@@ -524,7 +457,6 @@ public class ColonyPermissionEventHandler
      * this here is handling players getting hurt by citizens.
      * @param event
      */
-    @SubscribeEvent
     public void on(final LivingHurtEvent event)
     {
         if (event.getEntity() instanceof ServerPlayerEntity
@@ -545,7 +477,6 @@ public class ColonyPermissionEventHandler
      *
      * @param event ItemEntityPickupEvent
      */
-    @SubscribeEvent
     public void on(final AttackEntityEvent event)
     {
         if (event.getTarget() instanceof MonsterEntity)
@@ -553,10 +484,7 @@ public class ColonyPermissionEventHandler
             return;
         }
 
-        @NotNull final PlayerEntity player = EntityUtils.getPlayerOfFakePlayer(event.getPlayer(), event.getPlayer().getCommandSenderWorld());
-
-        if (MineColonies.getConfig().getServer().enableColonyProtection.get()
-              && colony.isCoordInColony(player.getCommandSenderWorld(), new BlockPos(player.position())))
+        if (MineColonies.getConfig().getServer().enableColonyProtection.get())
         {
             final Permissions perms = colony.getPermissions();
             if (event.getTarget() instanceof EntityCitizen)
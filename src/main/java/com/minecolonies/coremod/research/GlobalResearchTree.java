@@ -12,8 +12,8 @@ import com.minecolonies.api.research.IResearchRequirement;
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.util.CachedPayload;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
-import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -57,6 +57,11 @@ public class GlobalResearchTree implements IGlobalResearchTree
      */
     private final Map<ResourceLocation, Set<IGlobalResearch>> researchEffectsIds = new HashMap<>();
 
+    /**
+     * The serialized tree sent to clients, invalidated whenever the tree changes.
+     */
+    private final CachedPayload networkPayload = new CachedPayload(this::serializeNetworkData);
+
     @Override
     public IGlobalResearch getResearch(final ResourceLocation branch, final ResourceLocation id) { return researchTree.get(branch).get(id); }
 
@@ -96,6 +101,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void addResearch(final ResourceLocation branch, final IGlobalResearch research, final boolean isReloadedWithWorld)
     {
+        networkPayload.invalidate();
         final Map<ResourceLocation, IGlobalResearch> branchMap;
         if (researchTree.containsKey(branch))
         {
@@ -131,6 +137,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void addBranchData(final ResourceLocation branchId, final IGlobalResearchBranch branchData)
     {
+        networkPayload.invalidate();
         this.branchDatas.put(branchId, branchData);
     }
 
@@ -180,6 +187,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void reset()
     {
+        networkPayload.invalidate();
         for(ResourceLocation reset : reloadableResearch)
         {
             for(Map.Entry<ResourceLocation, Map<ResourceLocation, IGlobalResearch>> branch : researchTree.entrySet())
@@ -225,10 +233,13 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public void sendGlobalResearchTreePackets(final ServerPlayerEntity player)
     {
-        final PacketBuffer researchTreePacketBuffer = new PacketBuffer(Unpooled.buffer());
-        serializeNetworkData(researchTreePacketBuffer);
+        Network.getNetwork().sendToPlayer(new GlobalResearchTreeMessage(networkPayload.getHash(), null), player);
+    }
 
-        Network.getNetwork().sendToPlayer(new GlobalResearchTreeMessage(researchTreePacketBuffer), player);
+    @Override
+    public void sendGlobalResearchTreeData(final ServerPlayerEntity player)
+    {
+        Network.getNetwork().sendToPlayer(new GlobalResearchTreeMessage(networkPayload.getHash(), networkPayload.getData()), player);
     }
 
     public void serializeNetworkData(final PacketBuffer buf)
@@ -253,6 +264,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
     @Override
     public IMessage handleGlobalResearchTreeMessage(final PacketBuffer buf)
     {
+        networkPayload.invalidate();
         researchTree.clear();
         branchDatas.clear();
         researchEffectsIds.clear();
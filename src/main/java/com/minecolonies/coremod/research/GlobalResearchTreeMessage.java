@@ -2,6 +2,10 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.research.IGlobalResearchTree;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.server.SyncPayloadRequestMessage;
+import com.minecolonies.coremod.util.CachedPayload;
+import io.netty.buffer.Unpooled;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.api.distmarker.Dist;
@@ -11,16 +15,29 @@ import net.minecraftforge.fml.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+
 /**
  * The message used to synchronize global research trees from a server to a remote client.
+ * The server first only sends the content hash of the tree, the client applies its persisted copy with that hash or requests the data, which is then persisted.
  */
 public class GlobalResearchTreeMessage implements IMessage
 {
+    /**
+     * The name of the persisted client copy.
+     */
+    private static final String PAYLOAD_NAME = "researchtree";
+
+    /**
+     * The content hash of the tree data.
+     */
+    private long hash;
 
     /**
-     * The buffer with the data.
+     * The tree data, null if only the hash is sent.
      */
-    private PacketBuffer treeBuffer;
+    @Nullable
+    private byte[] treeData;
 
     /**
      * Empty constructor used when registering the message
@@ -33,23 +50,32 @@ public class GlobalResearchTreeMessage implements IMessage
     /**
      * Add or Update a GlobalResearchTree on the client.
      *
-     * @param buf               the bytebuffer.
+     * @param hash     the content hash of the tree data.
+     * @param treeData the tree data, or null to only send the hash.
      */
-    public GlobalResearchTreeMessage(final PacketBuffer buf)
+    public GlobalResearchTreeMessage(final long hash, @Nullable final byte[] treeData)
     {
-        this.treeBuffer = new PacketBuffer(buf.copy());
+        super();
+        this.hash = hash;
+        this.treeData = treeData;
     }
 
     @Override
     public void fromBytes(@NotNull final PacketBuffer buf)
     {
-        treeBuffer = new PacketBuffer(buf.retain());
+        hash = buf.readLong();
+        treeData = buf.readBoolean() ? buf.readByteArray() : null;
     }
 
     @Override
     public void toBytes(@NotNull final PacketBuffer buf)
     {
-        buf.writeBytes(treeBuffer);
+        buf.writeLong(hash);
+        buf.writeBoolean(treeData != null);
+        if (treeData != null)
+        {
+            buf.writeByteArray(treeData);
+        }
     }
 
     @Nullable
@@ -63,10 +89,27 @@ public class GlobalResearchTreeMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        if (Minecraft.getInstance().level != null)
+        if (Minecraft.getInstance().level == null)
+        {
+            return;
+        }
+
+        final File directory = new File(Minecraft.getInstance().gameDirectory, CachedPayload.CLIENT_DIRECTORY);
+        byte[] data = treeData;
+        if (data == null)
+        {
+            data = CachedPayload.loadClientCopy(directory, PAYLOAD_NAME, hash);
+            if (data == null)
+            {
+                Network.getNetwork().sendToServer(new SyncPayloadRequestMessage(SyncPayloadRequestMessage.Payload.RESEARCH_TREE));
+                return;
+            }
+        }
+        else
         {
-            IGlobalResearchTree.getInstance().handleGlobalResearchTreeMessage(treeBuffer);
+            CachedPayload.saveClientCopy(directory, PAYLOAD_NAME, hash, data);
         }
-        treeBuffer.release();
+
+        IGlobalResearchTree.getInstance().handleGlobalResearchTreeMessage(new PacketBuffer(Unpooled.wrappedBuffer(data)));
     }
 }
@@ -22,6 +22,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.*;
 
 import static com.minecolonies.api.research.util.ResearchConstants.*;
+import static com.minecolonies.coremod.colony.ColonyView.SECTION_RESEARCH;
 
 /**
  * The class which contains all research.
@@ -196,6 +197,7 @@ public class LocalResearchTree implements ILocalResearchTree
                 SoundUtils.playErrorSound(player, player.blockPosition());
             }
         }
+        colony.getPackageManager().setDirty(SECTION_RESEARCH);
         colony.markDirty();
     }
 
@@ -260,6 +262,7 @@ public class LocalResearchTree implements ILocalResearchTree
             removeResearch(research.getBranch(), research.getId());
             resetEffects(colony);
         }
+        colony.getPackageManager().setDirty(SECTION_RESEARCH);
         colony.markDirty();
     }
 
@@ -2,9 +2,11 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import net.minecraft.util.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strength of the applied effects, by dense effect id. Kept in sync with the effect map.
+     */
+    private double[] strengths = new double[ResearchEffectIds.size()];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,14 +39,14 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
-        {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
-        }
-        return 0;
+        final int denseId = ResearchEffectIds.find(id);
+        return denseId == -1 ? 0 : getEffectStrength(denseId);
+    }
+
+    @Override
+    public double getEffectStrength(final int id)
+    {
+        return id < strengths.length ? strengths[id] : 0;
     }
 
     @Override
@@ -51,17 +58,35 @@ public class ResearchEffectManager implements IResearchEffectManager
             if (effect.overrides(effectInMap))
             {
                 effectMap.put(effect.getId(), effect);
+                updateStrength(effect);
             }
         }
         else
         {
             effectMap.put(effect.getId(), effect);
+            updateStrength(effect);
+        }
+    }
+
+    /**
+     * Store the strength of a newly applied effect in the strength array.
+     *
+     * @param effect the effect.
+     */
+    private void updateStrength(final IResearchEffect<?> effect)
+    {
+        final int id = ResearchEffectIds.getId(effect.getId());
+        if (id >= strengths.length)
+        {
+            strengths = Arrays.copyOf(strengths, Math.max(id + 1, ResearchEffectIds.size()));
         }
+        strengths[id] = effect instanceof GlobalResearchEffect ? ((GlobalResearchEffect) effect).getEffect() : 0;
     }
 
     @Override
     public void removeAllEffects()
     {
         effectMap.clear();
+        Arrays.fill(strengths, 0);
     }
 }
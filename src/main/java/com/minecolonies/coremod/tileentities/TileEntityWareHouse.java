@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.inventory.BuildingItemIndex;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -44,28 +46,26 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<Tuple<ItemStack, BlockPos>> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(tuple -> ItemStackUtils.getSize(tuple.getA())).sum() >= count;
-    }
+        if (getBuilding() == null)
+        {
+            return false;
+        }
 
-    @Override
-    public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT)
-    {
-        return hasMatchingItemStackInWarehouse(itemStack, count, ignoreNBT, 0);
-    }
+        final BuildingItemIndex index = getBuilding().getItemIndex();
+        int totalCountFound = index.getCount(itemStackSelectionPredicate);
+        if (totalCountFound >= count)
+        {
+            return true;
+        }
 
-    @Override
-    public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
-    {
-        int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        for (@NotNull final BlockPos pos : index.getUnindexedContainers())
         {
             if (WorldUtil.isBlockLoaded(level, pos))
             {
                 final TileEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
+                if (entity instanceof ChestTileEntity)
                 {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, ignoreDamage, ignoreNBT);
+                    totalCountFound += InventoryUtils.getItemCountInProvider(entity, itemStackSelectionPredicate);
                     if (totalCountFound >= count)
                     {
                         return true;
@@ -76,6 +76,23 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         return false;
     }
 
+    @Override
+    public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT)
+    {
+        return hasMatchingItemStackInWarehouse(itemStack, count, ignoreNBT, 0);
+    }
+
+    @Override
+    public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final boolean ignoreDamage, final int leftOver)
+    {
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        return getBuilding().getItemIndex().getCount(new ItemStorage(itemStack, ignoreDamage, ignoreNBT)) - leftOver >= count;
+    }
+
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final int leftOver)
     {
@@ -87,21 +104,30 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     public List<Tuple<ItemStack, BlockPos>> getMatchingItemStacksInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
         List<Tuple<ItemStack, BlockPos>> found = new ArrayList<>();
-        
+
         if (getBuilding() != null)
         {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            final BuildingItemIndex index = getBuilding().getItemIndex();
+            for (@NotNull final BlockPos pos : index.getPositions(itemStackSelectionPredicate))
             {
                 final TileEntity entity = getLevel().getBlockEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
+                if (entity instanceof TileEntityRack)
                 {
-                    final TileEntityRack rack = (TileEntityRack) entity;
-                    for (final ItemStack stack : (InventoryUtils.filterItemHandler(rack.getInventory(), itemStackSelectionPredicate)))
+                    for (final ItemStack stack : (InventoryUtils.filterItemHandler(((TileEntityRack) entity).getInventory(), itemStackSelectionPredicate)))
                     {
                         found.add(new Tuple<>(stack, pos));
                     }
                 }
+            }
+
+            for (@NotNull final BlockPos pos : index.getUnindexedContainers())
+            {
+                if (!WorldUtil.isBlockLoaded(level, pos))
+                {
+                    continue;
+                }
 
+                final TileEntity entity = getLevel().getBlockEntity(pos);
                 if (entity instanceof ChestTileEntity && InventoryUtils.hasItemInItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate))
                 {
                     for (final ItemStack stack : InventoryUtils.filterItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate))
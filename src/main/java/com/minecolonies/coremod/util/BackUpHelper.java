@@ -26,8 +26,15 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -58,6 +65,30 @@ public final class BackUpHelper
     public static        long lastBackupTime          = 0;
     private static final long MAX_TIME_TO_NEXT_BACKUP = 1000 * 60 * 5;
 
+    /**
+     * Executor writing the colony files and backup zips, so the disk access stays off the server thread. Runs one task at a time, in order.
+     */
+    private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Colony Saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Snapshots waiting to be written, by destination file. A newer snapshot of the same file replaces the waiting one.
+     */
+    private static final Map<File, CompoundNBT> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Files whose last write failed, their colonies are written again on the next save even if they did not change.
+     */
+    private static final Set<File> failedWrites = ConcurrentHashMap.newKeySet();
+
+    /**
+     * If a backup zip is queued or being written.
+     */
+    private static final AtomicBoolean backupPending = new AtomicBoolean(false);
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -69,37 +100,83 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony. Saves the changed colonies and queues the zip of all colony files, the zip is written in the background.
      *
-     * @return true if succesful.
+     * @return true if the backup was queued.
      */
     public static boolean backupColonyData()
     {
-        if (System.currentTimeMillis() - lastBackupTime < MAX_TIME_TO_NEXT_BACKUP)
+        if (System.currentTimeMillis() - lastBackupTime < MAX_TIME_TO_NEXT_BACKUP || !backupPending.compareAndSet(false, true))
         {
             return false;
         }
         lastBackupTime = System.currentTimeMillis();
 
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        // Everything the zip needs from the colony manager is read here, on the server thread.
+        @NotNull final File saveDir =
+          new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        @NotNull final File backupFile = getBackupSaveLocation(new Date());
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final int maxKeptBackups = MineColonies.getConfig().getServer().maxkeptbackups.get();
+        final Map<RegistryKey<World>, Set<Integer>> colonies = new HashMap<>();
+        for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
+        {
+            colonies.put(dimensionType, new HashSet<>());
+        }
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            colonies.computeIfAbsent(colony.getDimension(), key -> new HashSet<>()).add(colony.getID());
+        }
+
+        IO_EXECUTOR.execute(() -> {
+            try
+            {
+                writeBackup(saveDir, backupFile, topColonyId, colonies, maxKeptBackups);
+            }
+            finally
+            {
+                backupPending.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Zip all colony files and drop the oldest backups, runs on the save thread.
+     *
+     * @param saveDir        the minecolonies folder.
+     * @param backupFile     the zip to write.
+     * @param topColonyId    the highest colony id.
+     * @param colonies       the ids of the existing colonies, by dimension.
+     * @param maxKeptBackups how many backups to keep.
+     */
+    private static void writeBackup(
+      final File saveDir,
+      final File backupFile,
+      final int topColonyId,
+      final Map<RegistryKey<World>, Set<Integer>> colonies,
+      final int maxKeptBackups)
+    {
+        final long start = System.nanoTime();
+        try (FileOutputStream fos = new FileOutputStream(backupFile))
         {
-            @NotNull final File saveDir =
-              new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
             final ZipOutputStream zos = new ZipOutputStream(fos);
 
-            for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
+            for (final Map.Entry<RegistryKey<World>, Set<Integer>> dimensionEntry : colonies.entrySet())
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final RegistryKey<World> dimensionType = dimensionEntry.getKey();
+                for (int i = 1; i <= topColonyId + 1; i++)
                 {
                     @NotNull final File file = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY, i));
                     @NotNull final File fileDeleted = new File(saveDir, getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i));
                     if (file.exists())
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
+                        if (!dimensionEntry.getValue().contains(i))
                         {
-                            markColonyDeleted(i, dimensionType);
+                            renameColonyFileToDeleted(saveDir, i, dimensionType);
                             addToZipFile(getFolderForDimension(dimensionType.location()) + String.format(FILENAME_COLONY_DELETED, i), zos, saveDir);
                         }
                         else
@@ -113,14 +190,16 @@ public final class BackUpHelper
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
+            addToZipFile(FILENAME_MINECOLONIES, zos, saveDir);
             zos.close();
 
+            Log.getLogger().info(String.format("Wrote colony backup %s (%d bytes) in %d ms", backupFile.getName(), backupFile.length(), (System.nanoTime() - start) / 1000000));
+
             File[] files = saveDir.listFiles();
 
             if (files == null)
             {
-                return true;
+                return;
             }
 
             final List<File> fileList = new ArrayList<>();
@@ -135,14 +214,14 @@ public final class BackUpHelper
                 fileList.add(current);
             }
 
-            if (fileList.size() <= MineColonies.getConfig().getServer().maxkeptbackups.get())
+            if (fileList.size() <= maxKeptBackups)
             {
-                return true;
+                return;
             }
 
             fileList.sort(Comparator.comparingLong(File::lastModified));
 
-            int deleteCount = fileList.size() - MineColonies.getConfig().getServer().maxkeptbackups.get();
+            int deleteCount = fileList.size() - maxKeptBackups;
             for (File current : fileList)
             {
                 if (deleteCount <= 0)
@@ -160,10 +239,26 @@ public final class BackUpHelper
              * Intentionally not being thrown.
              */
             Log.getLogger().warn("Unable to backup colony data, please contact an administrator", e);
-            return false;
         }
+    }
 
-        return true;
+    /**
+     * Block until all queued colony writes and backups are on disk, for code reading the files right after.
+     */
+    public static void waitForPendingSaves()
+    {
+        try
+        {
+            IO_EXECUTOR.submit(() -> {}).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Error while waiting for the colony saves", e);
+        }
     }
 
     /**
@@ -171,6 +266,7 @@ public final class BackUpHelper
      */
     public static void loadManagerBackup()
     {
+        waitForPendingSaves();
         try
         {
             @NotNull final File file = BackUpHelper.getSaveLocation();
@@ -193,6 +289,7 @@ public final class BackUpHelper
      */
     public static void loadMissingColonies()
     {
+        waitForPendingSaves();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
         for (final RegistryKey<World> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
@@ -282,24 +379,39 @@ public final class BackUpHelper
     }
 
     /**
-     * Save an CompoundNBT to a file.  Does so in a safe manner using an intermediate tmp file.
+     * Save an CompoundNBT to a file.  Does so in a safe manner using an intermediate tmp file, which replaces the destination once it was written completely.
      *
      * @param file     The destination file to write the data to.
      * @param compound The CompoundNBT to write to the file.
+     * @return true if the file was written.
      */
-    public static void saveNBTToPath(@Nullable final File file, @NotNull final CompoundNBT compound)
+    public static boolean saveNBTToPath(@Nullable final File file, @NotNull final CompoundNBT compound)
     {
+        if (file == null)
+        {
+            return false;
+        }
+
+        final File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
         try
         {
-            if (file != null)
+            file.getParentFile().mkdirs();
+            CompressedStreamTools.write(compound, tempFile);
+            try
             {
-                file.getParentFile().mkdirs();
-                CompressedStreamTools.write(compound, file);
+                java.nio.file.Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
             }
+            catch (final AtomicMoveNotSupportedException e)
+            {
+                java.nio.file.Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
         }
         catch (final IOException exception)
         {
             Log.getLogger().error("Exception when saving ColonyManager", exception);
+            tempFile.delete();
+            return false;
         }
     }
 
@@ -326,26 +438,80 @@ public final class BackUpHelper
     }
 
     /**
-     * Save all the Colonies.
+     * Save the colony manager and all colonies which changed since their last save. The data is copied on the calling (server) thread, compressing and writing the
+     * files happens on the save thread.
      */
     public static void saveColonies()
     {
+        final long start = System.nanoTime();
         @NotNull final CompoundNBT compound = new CompoundNBT();
         IColonyManager.getInstance().write(compound);
+        queueWrite(getSaveLocation(), compound.copy());
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        int saved = 0;
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
+            final File file = new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID()));
+            final boolean isDirty = !(colony instanceof Colony) || ((Colony) colony).isSaveDirty();
+            if (!failedWrites.remove(file) && !isDirty && file.exists())
+            {
+                continue;
+            }
+
             final CompoundNBT colonyCompound = new CompoundNBT();
             colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().location()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            queueWrite(file, colonyCompound.copy());
+            if (colony instanceof Colony)
+            {
+                ((Colony) colony).setSaveDirty(false);
+            }
+            saved++;
+        }
+
+        Log.getLogger().debug(String.format("Queued %d of %d colonies for saving in %d ms", saved, IColonyManager.getInstance().getAllColonies().size(), (System.nanoTime() - start) / 1000000));
+    }
+
+    /**
+     * Queue a snapshot to be written on the save thread.
+     *
+     * @param file     the destination file.
+     * @param compound the data, must not be changed anymore.
+     */
+    private static void queueWrite(@NotNull final File file, @NotNull final CompoundNBT compound)
+    {
+        if (pendingWrites.put(file, compound) == null)
+        {
+            IO_EXECUTOR.execute(() -> writePending(file));
         }
     }
 
     /**
-     * Marks a colony's backup file as deleted.
+     * Write the latest queued snapshot of a file, runs on the save thread.
+     *
+     * @param file the destination file.
+     */
+    private static void writePending(@NotNull final File file)
+    {
+        final CompoundNBT compound = pendingWrites.remove(file);
+        if (compound == null)
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        if (saveNBTToPath(file, compound))
+        {
+            Log.getLogger().debug(String.format("Saved %s (%d bytes) in %d ms", file.getPath(), file.length(), (System.nanoTime() - start) / 1000000));
+        }
+        else
+        {
+            failedWrites.add(file);
+        }
+    }
+
+    /**
+     * Marks a colony's backup file as deleted, once the queued writes are done.
      *
      * @param colonyID    id of the colony to delete
      * @param dimensionID dimension of the colony to delete
@@ -354,6 +520,19 @@ public final class BackUpHelper
     {
         @NotNull final File saveDir =
           new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
+        failedWrites.remove(new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID)));
+        IO_EXECUTOR.execute(() -> renameColonyFileToDeleted(saveDir, colonyID, dimensionID));
+    }
+
+    /**
+     * Rename a colony's backup file to the deleted name, runs on the save thread.
+     *
+     * @param saveDir     the minecolonies folder.
+     * @param colonyID    id of the colony to delete
+     * @param dimensionID dimension of the colony to delete
+     */
+    private static void renameColonyFileToDeleted(final File saveDir, final int colonyID, final RegistryKey<World> dimensionID)
+    {
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.location()) + String.format(FILENAME_COLONY, colonyID));
         if (toDelete.exists())
         {
@@ -368,6 +547,7 @@ public final class BackUpHelper
      */
     public static void loadAllBackups()
     {
+        waitForPendingSaves();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
         ServerLifecycleHooks.getCurrentServer().levels.keySet().forEach(dimensionType -> {
@@ -403,6 +583,7 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final RegistryKey<World> dimension, boolean loadDeleted, boolean claimChunks)
     {
+        waitForPendingSaves();
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(FolderName.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
         @NotNull final File backupFile = new File(saveDir, getFolderForDimension(dimension.location()) + String.format(FILENAME_COLONY, colonyId));
         CompoundNBT compound = loadNBTFromPath(backupFile);
@@ -467,6 +648,8 @@ public final class BackUpHelper
      */
     public static String exportColony(final IColony colony)
     {
+        waitForPendingSaves();
+
         final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         final File topworldDir = server.getWorldPath(FolderName.ROOT).toFile();
         final File minecraftDir = new File(topworldDir.getAbsolutePath().replace(topworldDir.getPath(), ""));
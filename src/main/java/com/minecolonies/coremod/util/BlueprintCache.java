@@ -0,0 +1,273 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Shared cache of loaded and rotated blueprints, so builders working on the same schematic at the same rotation, and the build window preview, load and rotate it only
+ * once. Entries are reference counted: every {@link #acquire} must be matched by a {@link #release}, and only entries nobody holds are evicted, least recently used
+ * first, once the estimated size of all entries exceeds the budget.
+ * <p>
+ * Cached blueprints are shared, holders must never rotate or otherwise change them.
+ */
+public final class BlueprintCache
+{
+    /**
+     * Estimated memory per blueprint block, palette index plus the lazily built block info.
+     */
+    private static final long ESTIMATED_BYTES_PER_BLOCK = 48;
+
+    /**
+     * Estimated size budget of all cached entries, entries in use are never evicted.
+     */
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * The cached entries by key, in access order.
+     */
+    private static final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The entries by their blueprint, includes handed out blueprints which are not cached.
+     */
+    private static final Map<Blueprint, Entry> entriesByBlueprint = new IdentityHashMap<>();
+
+    /**
+     * The estimated size of all cached entries.
+     */
+    private static long cachedBytes = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BlueprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a rotated blueprint, loading and rotating it if it is not cached yet.
+     *
+     * @param world       the world to load it for.
+     * @param name        the structure name.
+     * @param rotateTimes the number of rotations.
+     * @param isMirrored  if it is mirrored.
+     * @return the blueprint or null if the structure does not exist, must be released when done.
+     */
+    @Nullable
+    public static synchronized Blueprint acquire(@NotNull final World world, @NotNull final String name, final int rotateTimes, final boolean isMirrored)
+    {
+        final Key key = new Key(name, Structures.getMD5(name), rotateTimes, isMirrored, world.isClientSide());
+        Entry entry = entries.get(key);
+        if (entry == null)
+        {
+            final LoadOnlyStructureHandler structure = new LoadOnlyStructureHandler(world, BlockPos.ZERO, name, new PlacementSettings(), true);
+            if (!structure.hasBluePrint())
+            {
+                return null;
+            }
+
+            final Blueprint blueprint = structure.getBluePrint();
+            blueprint.rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
+            entry = new Entry(blueprint, structure.isCorrectMD5(key.md5));
+            entriesByBlueprint.put(blueprint, entry);
+
+            // Outdated schematics are handed out, but not kept, so the next request loads the updated file.
+            if (entry.correctMD5)
+            {
+                entries.put(key, entry);
+                cachedBytes += entry.bytes;
+            }
+        }
+
+        entry.references++;
+        return entry.blueprint;
+    }
+
+    /**
+     * Release a blueprint obtained from {@link #acquire}. Blueprints not from the cache are ignored.
+     *
+     * @param blueprint the blueprint, may be null.
+     */
+    public static synchronized void release(@Nullable final Blueprint blueprint)
+    {
+        if (blueprint == null)
+        {
+            return;
+        }
+
+        final Entry entry = entriesByBlueprint.get(blueprint);
+        if (entry == null || --entry.references > 0)
+        {
+            return;
+        }
+
+        if (!entry.correctMD5)
+        {
+            entriesByBlueprint.remove(blueprint);
+        }
+        evict();
+    }
+
+    /**
+     * Check if a blueprint obtained from {@link #acquire} matched the known md5 of its structure when it was loaded.
+     *
+     * @param blueprint the blueprint.
+     * @return true if so, false if outdated or not from the cache.
+     */
+    public static synchronized boolean isCorrectMD5(@NotNull final Blueprint blueprint)
+    {
+        final Entry entry = entriesByBlueprint.get(blueprint);
+        return entry != null && entry.correctMD5;
+    }
+
+    /**
+     * Evict unused entries, least recently used first, until the cache is within budget.
+     */
+    private static void evict()
+    {
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (cachedBytes > MAX_CACHED_BYTES && iterator.hasNext())
+        {
+            final Entry entry = iterator.next();
+            if (entry.references <= 0)
+            {
+                iterator.remove();
+                entriesByBlueprint.remove(entry.blueprint);
+                cachedBytes -= entry.bytes;
+            }
+        }
+    }
+
+    /**
+     * Drop all entries, on server shutdown. Blueprints still held stay valid, their release is ignored.
+     */
+    public static synchronized void clearAll()
+    {
+        entries.clear();
+        entriesByBlueprint.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * The key of a cached blueprint. Includes the md5 of the structure, so updated schematics miss the old entry.
+     */
+    private static final class Key
+    {
+        /**
+         * The structure name.
+         */
+        private final String name;
+
+        /**
+         * The md5 of the structure, null if unknown.
+         */
+        @Nullable
+        private final String md5;
+
+        /**
+         * The number of rotations.
+         */
+        private final int rotation;
+
+        /**
+         * If mirrored.
+         */
+        private final boolean mirrored;
+
+        /**
+         * If loaded for the client side.
+         */
+        private final boolean clientSide;
+
+        /**
+         * Create a new key.
+         *
+         * @param name       the structure name.
+         * @param md5        the md5 of the structure.
+         * @param rotation   the number of rotations.
+         * @param mirrored   if mirrored.
+         * @param clientSide if loaded for the client side.
+         */
+        private Key(final String name, @Nullable final String md5, final int rotation, final boolean mirrored, final boolean clientSide)
+        {
+            this.name = name;
+            this.md5 = md5;
+            this.rotation = rotation;
+            this.mirrored = mirrored;
+            this.clientSide = clientSide;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return rotation == key.rotation && mirrored == key.mirrored && clientSide == key.clientSide && name.equals(key.name) && Objects.equals(md5, key.md5);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(name, md5, rotation, mirrored, clientSide);
+        }
+    }
+
+    /**
+     * A cached blueprint with its reference count.
+     */
+    private static final class Entry
+    {
+        /**
+         * The rotated blueprint.
+         */
+        private final Blueprint blueprint;
+
+        /**
+         * If the blueprint matched the known md5 when loaded.
+         */
+        private final boolean correctMD5;
+
+        /**
+         * The estimated size of the blueprint.
+         */
+        private final long bytes;
+
+        /**
+         * The number of current holders.
+         */
+        private int references = 0;
+
+        /**
+         * Create a new entry.
+         *
+         * @param blueprint  the rotated blueprint.
+         * @param correctMD5 if the md5 matched.
+         */
+        private Entry(final Blueprint blueprint, final boolean correctMD5)
+        {
+            this.blueprint = blueprint;
+            this.correctMD5 = correctMD5;
+            this.bytes = (long) blueprint.getSizeX() * blueprint.getSizeY() * blueprint.getSizeZ() * ESTIMATED_BYTES_PER_BLOCK;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.constant.Constants;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+/**
+ * Network payload which is serialized once and then reused for every player until its source data changes. The payload is identified by a hash of its content, so a client
+ * which already has the same payload persisted from an earlier login only has to confirm the hash instead of receiving the data again.
+ */
+public final class CachedPayload
+{
+    /**
+     * The directory the client persists payloads in, relative to the game directory.
+     */
+    public static final String CLIENT_DIRECTORY = Constants.MOD_ID + "/payloads";
+
+    /**
+     * The extension of the persisted client copies.
+     */
+    private static final String FILE_EXTENSION = ".bin";
+
+    /**
+     * Writes the payload into a buffer.
+     */
+    private final Consumer<PacketBuffer> serializer;
+
+    /**
+     * The serialized payload, null until built or after invalidation.
+     */
+    private byte[] data = null;
+
+    /**
+     * The content hash of the serialized payload.
+     */
+    private long hash = 0;
+
+    /**
+     * Create a new cached payload.
+     *
+     * @param serializer writes the payload into a buffer.
+     */
+    public CachedPayload(@NotNull final Consumer<PacketBuffer> serializer)
+    {
+        this.serializer = serializer;
+    }
+
+    /**
+     * Drop the serialized payload, it will be serialized again when next needed. Must be called whenever the source data changes.
+     */
+    public synchronized void invalidate()
+    {
+        data = null;
+    }
+
+    /**
+     * Get the serialized payload.
+     *
+     * @return the bytes, must not be changed.
+     */
+    @NotNull
+    public synchronized byte[] getData()
+    {
+        build();
+        return data;
+    }
+
+    /**
+     * Get the content hash of the serialized payload.
+     *
+     * @return the hash.
+     */
+    public synchronized long getHash()
+    {
+        build();
+        return hash;
+    }
+
+    /**
+     * Serialize the payload if it isn't yet.
+     */
+    private void build()
+    {
+        if (data != null)
+        {
+            return;
+        }
+
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try
+        {
+            serializer.accept(buffer);
+            data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+        }
+        finally
+        {
+            buffer.release();
+        }
+        hash = hashOf(data);
+    }
+
+    /**
+     * Calculate the content hash of a payload.
+     *
+     * @param data the payload.
+     * @return the hash.
+     */
+    public static long hashOf(@NotNull final byte[] data)
+    {
+        return Hashing.murmur3_128().hashBytes(data).asLong();
+    }
+
+    /**
+     * Load the persisted client copy of a payload.
+     *
+     * @param directory the directory of the persisted payloads.
+     * @param name      the name of the payload.
+     * @param hash      the content hash the copy has to match.
+     * @return the payload or null if there is no valid copy with this hash.
+     */
+    @Nullable
+    public static byte[] loadClientCopy(@NotNull final File directory, @NotNull final String name, final long hash)
+    {
+        final File file = getFile(directory, name, hash);
+        if (!file.isFile())
+        {
+            return null;
+        }
+
+        try
+        {
+            final byte[] data = Files.readAllBytes(file.toPath());
+            if (hashOf(data) == hash)
+            {
+                return data;
+            }
+            Log.getLogger().warn("Discarding corrupted payload copy: " + file.getName());
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read payload copy: " + file.getName(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Persist the client copy of a payload, replacing older copies of the same name.
+     *
+     * @param directory the directory of the persisted payloads.
+     * @param name      the name of the payload.
+     * @param hash      the content hash of the payload.
+     * @param data      the payload.
+     */
+    public static void saveClientCopy(@NotNull final File directory, @NotNull final String name, final long hash, @NotNull final byte[] data)
+    {
+        if (!directory.isDirectory() && !directory.mkdirs())
+        {
+            Log.getLogger().warn("Unable to create payload directory: " + directory);
+            return;
+        }
+
+        final File[] oldCopies = directory.listFiles((dir, fileName) -> fileName.startsWith(name + "-") && fileName.endsWith(FILE_EXTENSION));
+        if (oldCopies != null)
+        {
+            for (final File oldCopy : oldCopies)
+            {
+                if (!oldCopy.delete())
+                {
+                    Log.getLogger().warn("Unable to delete payload copy: " + oldCopy.getName());
+                }
+            }
+        }
+
+        final File file = getFile(directory, name, hash);
+        try
+        {
+            Files.write(file.toPath(), data);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to write payload copy: " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Get the file of a persisted payload copy.
+     *
+     * @param directory the directory of the persisted payloads.
+     * @param name      the name of the payload.
+     * @param hash      the content hash of the payload.
+     * @return the file.
+     */
+    private static File getFile(@NotNull final File directory, @NotNull final String name, final long hash)
+    {
+        return new File(directory, name + "-" + Long.toHexString(hash) + FILE_EXTENSION);
+    }
+}
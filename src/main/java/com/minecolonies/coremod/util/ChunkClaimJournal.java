@@ -0,0 +1,123 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.UpdateChunkClaimDeltaMessage;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Journal of the chunk claim changes of the current tick. Claiming a colony range or applying queued chunk load storages touches many chunks at once, the journal keeps the
+ * latest state of each changed chunk and sends it at the end of the tick, as one message per player with only the chunks that player is tracking.
+ */
+public final class ChunkClaimJournal
+{
+    /**
+     * Shift from chunk to claim region coordinates, a region is 4x4 chunks.
+     */
+    public static final int REGION_SHIFT = 2;
+
+    /**
+     * The changed chunks by dimension, later changes of a chunk replace earlier ones.
+     */
+    private static final Map<RegistryKey<World>, Long2ObjectLinkedOpenHashMap<ChunkCapData>> changes = new HashMap<>();
+
+    /**
+     * The change count of every claim region with changes, by dimension. Kept until server shutdown.
+     */
+    private static final Map<RegistryKey<World>, Long2IntOpenHashMap> regionVersions = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ChunkClaimJournal()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Record the current claim state of a chunk to be sent at the end of the tick.
+     *
+     * @param world the world of the chunk.
+     * @param chunk the chunk.
+     * @param cap   the colony capability of the chunk.
+     */
+    public static void record(@NotNull final World world, @NotNull final Chunk chunk, @NotNull final IColonyTagCapability cap)
+    {
+        final ChunkPos pos = chunk.getPos();
+        changes.computeIfAbsent(world.dimension(), key -> new Long2ObjectLinkedOpenHashMap<>())
+          .put(pos.toLong(), new ChunkCapData(pos.x, pos.z, cap.getOwningColony(), cap.getAllCloseColonies()));
+        regionVersions.computeIfAbsent(world.dimension(), key -> new Long2IntOpenHashMap())
+          .addTo(ChunkPos.asLong(pos.x >> REGION_SHIFT, pos.z >> REGION_SHIFT), 1);
+    }
+
+    /**
+     * Get the version of a claim region, which changes whenever a claim in it changes.
+     *
+     * @param dimension the dimension.
+     * @param regionX   the region x.
+     * @param regionZ   the region z.
+     * @return the version.
+     */
+    public static int getRegionVersion(@NotNull final RegistryKey<World> dimension, final int regionX, final int regionZ)
+    {
+        final Long2IntOpenHashMap versions = regionVersions.get(dimension);
+        return versions == null ? 0 : versions.get(ChunkPos.asLong(regionX, regionZ));
+    }
+
+    /**
+     * Send the recorded changes to the players tracking the chunks, called at the end of every server tick.
+     *
+     * @param server the server.
+     */
+    public static void flush(@NotNull final MinecraftServer server)
+    {
+        if (changes.isEmpty())
+        {
+            return;
+        }
+
+        for (final Map.Entry<RegistryKey<World>, Long2ObjectLinkedOpenHashMap<ChunkCapData>> entry : changes.entrySet())
+        {
+            final ServerWorld world = server.getLevel(entry.getKey());
+            if (world == null || world.players().isEmpty())
+            {
+                continue;
+            }
+
+            final Map<ServerPlayerEntity, List<ChunkCapData>> byPlayer = new HashMap<>();
+            for (final ChunkCapData data : entry.getValue().values())
+            {
+                world.getChunkSource().chunkMap.getPlayers(new ChunkPos(data.x, data.z), false)
+                  .forEach(player -> byPlayer.computeIfAbsent(player, key -> new ArrayList<>()).add(data));
+            }
+
+            for (final Map.Entry<ServerPlayerEntity, List<ChunkCapData>> playerEntry : byPlayer.entrySet())
+            {
+                Network.getNetwork().sendToPlayer(new UpdateChunkClaimDeltaMessage(playerEntry.getValue()), playerEntry.getKey());
+            }
+        }
+        changes.clear();
+    }
+
+    /**
+     * Drop all recorded changes, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        changes.clear();
+        regionVersions.clear();
+    }
+}
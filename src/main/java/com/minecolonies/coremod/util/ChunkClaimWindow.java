@@ -0,0 +1,238 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+import static com.minecolonies.coremod.util.ChunkClaimJournal.REGION_SHIFT;
+
+/**
+ * Sliding window of the chunk claims described to each player, all chunks within {@link #RANGE} around the player. When the player crosses a chunk border only the chunks
+ * which entered the window are read and sent, together with the chunks of claim regions which changed since they were described and chunks which were not loaded before.
+ * The client keeps the described claims in its claim cache, see {@link ChunkClientDataHelper}, and drops the ones which left the window.
+ */
+public final class ChunkClaimWindow
+{
+    /**
+     * The chunk range around the player.
+     */
+    public static final int RANGE = 8;
+
+    /**
+     * The window of each player.
+     */
+    private static final Map<UUID, Window> windows = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ChunkClaimWindow()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Move the window of a player to a new center chunk and send the claims the player does not know yet.
+     *
+     * @param player the player.
+     * @param chunkX the new center chunk x.
+     * @param chunkZ the new center chunk z.
+     */
+    public static void update(@NotNull final ServerPlayerEntity player, final int chunkX, final int chunkZ)
+    {
+        final World world = player.level;
+        Window window = windows.get(player.getUUID());
+        final boolean reset = window == null || window.dimension != world.dimension();
+        if (reset)
+        {
+            window = new Window(world.dimension(), chunkX, chunkZ);
+            windows.put(player.getUUID(), window);
+        }
+
+        final LongSet toSend = new LongLinkedOpenHashSet();
+        for (int x = chunkX - RANGE; x <= chunkX + RANGE; x++)
+        {
+            for (int z = chunkZ - RANGE; z <= chunkZ + RANGE; z++)
+            {
+                if (reset || !window.contains(x, z))
+                {
+                    toSend.add(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+
+        for (final long pending : window.pending)
+        {
+            if (isInRange(chunkX, chunkZ, ChunkPos.getX(pending), ChunkPos.getZ(pending)))
+            {
+                toSend.add(pending);
+            }
+        }
+        window.pending.clear();
+
+        // Regions which changed since they were described are sent again, the journal only reaches players tracking the changed chunks.
+        final Long2IntOpenHashMap versions = new Long2IntOpenHashMap();
+        for (int regionX = (chunkX - RANGE) >> REGION_SHIFT; regionX <= (chunkX + RANGE) >> REGION_SHIFT; regionX++)
+        {
+            for (int regionZ = (chunkZ - RANGE) >> REGION_SHIFT; regionZ <= (chunkZ + RANGE) >> REGION_SHIFT; regionZ++)
+            {
+                final long region = ChunkPos.asLong(regionX, regionZ);
+                final int version = ChunkClaimJournal.getRegionVersion(window.dimension, regionX, regionZ);
+                if (!reset && window.regionVersions.containsKey(region) && window.regionVersions.get(region) != version)
+                {
+                    addRegion(toSend, chunkX, chunkZ, regionX, regionZ);
+                }
+                versions.put(region, version);
+            }
+        }
+
+        window.regionVersions = versions;
+        window.centerX = chunkX;
+        window.centerZ = chunkZ;
+
+        final List<ChunkCapData> caps = new ArrayList<>();
+        for (final long pos : toSend)
+        {
+            final int x = ChunkPos.getX(pos);
+            final int z = ChunkPos.getZ(pos);
+            if (!WorldUtil.isEntityChunkLoaded(world, x, z))
+            {
+                window.pending.add(pos);
+                continue;
+            }
+
+            final Chunk chunk = world.getChunk(x, z);
+            final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+            if (cap != null)
+            {
+                caps.add(new ChunkCapData(x, z, cap.getOwningColony(), cap.getAllCloseColonies()));
+            }
+        }
+
+        Network.getNetwork().sendToPlayer(new UpdateChunkRangeCapabilityMessage(caps, chunkX, chunkZ, RANGE, reset), player);
+    }
+
+    /**
+     * Add the chunks of a claim region which are in range of a center chunk.
+     *
+     * @param toSend  the chunks to send.
+     * @param chunkX  the center chunk x.
+     * @param chunkZ  the center chunk z.
+     * @param regionX the region x.
+     * @param regionZ the region z.
+     */
+    private static void addRegion(final LongSet toSend, final int chunkX, final int chunkZ, final int regionX, final int regionZ)
+    {
+        for (int x = regionX << REGION_SHIFT; x < (regionX + 1) << REGION_SHIFT; x++)
+        {
+            for (int z = regionZ << REGION_SHIFT; z < (regionZ + 1) << REGION_SHIFT; z++)
+            {
+                if (isInRange(chunkX, chunkZ, x, z))
+                {
+                    toSend.add(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a chunk is in range of a center chunk.
+     *
+     * @param centerX the center chunk x.
+     * @param centerZ the center chunk z.
+     * @param x       the chunk x.
+     * @param z       the chunk z.
+     * @return true if so.
+     */
+    private static boolean isInRange(final int centerX, final int centerZ, final int x, final int z)
+    {
+        return Math.abs(x - centerX) <= RANGE && Math.abs(z - centerZ) <= RANGE;
+    }
+
+    /**
+     * Forget the window of a player, when logging out.
+     *
+     * @param player the player.
+     */
+    public static void remove(@NotNull final ServerPlayerEntity player)
+    {
+        windows.remove(player.getUUID());
+    }
+
+    /**
+     * Forget all windows, on server shutdown.
+     */
+    public static void clearAll()
+    {
+        windows.clear();
+    }
+
+    /**
+     * The chunks described to one player.
+     */
+    private static final class Window
+    {
+        /**
+         * The dimension of the window.
+         */
+        private final RegistryKey<World> dimension;
+
+        /**
+         * The center chunk.
+         */
+        private int centerX;
+        private int centerZ;
+
+        /**
+         * The version of each claim region in the window when it was described.
+         */
+        private Long2IntOpenHashMap regionVersions = new Long2IntOpenHashMap();
+
+        /**
+         * Chunks in the window which were not loaded when they should have been described.
+         */
+        private final LongSet pending = new LongOpenHashSet();
+
+        /**
+         * Create a new window.
+         *
+         * @param dimension the dimension.
+         * @param centerX   the center chunk x.
+         * @param centerZ   the center chunk z.
+         */
+        private Window(final RegistryKey<World> dimension, final int centerX, final int centerZ)
+        {
+            this.dimension = dimension;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+        }
+
+        /**
+         * Check if a chunk is in the window.
+         *
+         * @param x the chunk x.
+         * @param z the chunk z.
+         * @return true if so.
+         */
+        private boolean contains(final int x, final int z)
+        {
+            return isInRange(centerX, centerZ, x, z);
+        }
+    }
+}
@@ -2,24 +2,26 @@ package com.minecolonies.coremod.util;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.event.ClientChunkUpdatedEvent;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.MinecraftForge;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
- * Helper class for late applying caps on client side, due to loading order
+ * Client side claim cache: keeps the latest received claims of the chunks in the claim window around the player, see {@link ChunkClaimWindow}. Claims of chunks which are
+ * not loaded yet are applied when they load, and chunks which unload and load again get their claims back without asking the server.
  */
 public class ChunkClientDataHelper
 {
     /**
-     * The later to apply chunks
+     * The latest claims by chunk position.
      */
-    private static final List<ChunkCapData> chunkCapsToAdd = new ArrayList<>();
+    private static final Long2ObjectOpenHashMap<ChunkCapData> claimCache = new Long2ObjectOpenHashMap<>();
 
     /**
      * Adds a colony chunk data entry
@@ -28,7 +30,7 @@ public class ChunkClientDataHelper
      */
     public static void addCapData(final ChunkCapData chunkCap)
     {
-        chunkCapsToAdd.add(chunkCap);
+        claimCache.put(ChunkPos.asLong(chunkCap.x, chunkCap.z), chunkCap);
     }
 
     /**
@@ -38,24 +40,41 @@ public class ChunkClientDataHelper
      */
     public static void applyLate(final Chunk chunk)
     {
-        if (chunkCapsToAdd.isEmpty())
+        final ChunkCapData chunkCapData = claimCache.get(chunk.getPos().toLong());
+        if (chunkCapData != null)
         {
-            return;
+            applyCap(chunkCapData, chunk);
         }
+    }
 
-        final Iterator<ChunkCapData> iterator = chunkCapsToAdd.iterator();
-
+    /**
+     * Drop the cached claims outside of the claim window.
+     *
+     * @param centerX the center chunk x of the window.
+     * @param centerZ the center chunk z of the window.
+     * @param range   the range of the window.
+     */
+    public static void retainWindow(final int centerX, final int centerZ, final int range)
+    {
+        final Iterator<Long2ObjectMap.Entry<ChunkCapData>> iterator = claimCache.long2ObjectEntrySet().fastIterator();
         while (iterator.hasNext())
         {
-            final ChunkCapData chunkCapData = iterator.next();
-            if (chunk.getPos().x == chunkCapData.x && chunk.getPos().z == chunkCapData.z)
+            final ChunkCapData data = iterator.next().getValue();
+            if (Math.abs(data.x - centerX) > range || Math.abs(data.z - centerZ) > range)
             {
-                applyCap(chunkCapData, chunk);
                 iterator.remove();
             }
         }
     }
 
+    /**
+     * Drop all cached claims, for a new window or when leaving the world.
+     */
+    public static void clearCache()
+    {
+        claimCache.clear();
+    }
+
     /**
      * Applies the data tuple to the respective chunk
      *
@@ -64,6 +83,7 @@ public class ChunkClientDataHelper
      */
     public static void applyCap(final ChunkCapData chunkCapData, final Chunk chunk)
     {
+        addCapData(chunkCapData);
         final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).orElseGet(null);
         if (cap != null)
         {
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.util;
 
+import com.minecolonies.api.colony.ColonyClaimIndex;
 import com.minecolonies.api.colony.IChunkmanagerCapability;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -9,9 +10,7 @@ import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
-import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
@@ -75,6 +74,7 @@ public final class ChunkDataHelper
         }
 
         final int closeColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        chunkManager.getClaimIndex().setOwner(chunk.getPos().x, chunk.getPos().z, closeColony);
         if (closeColony != 0)
         {
             final IColony colony = IColonyManager.getInstance().getColonyByDimension(closeColony, world.dimension());
@@ -117,7 +117,7 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+            ChunkClaimJournal.record(chunk.getLevel(), chunk, cap);
         }
     }
 
@@ -188,6 +188,7 @@ public final class ChunkDataHelper
                 if (storage != null)
                 {
                     storage.applyToCap(colonyCap, chunk);
+                    worldCapability.getClaimIndex().setOwner(chunk.getPos().x, chunk.getPos().z, colonyCap.getOwningColony());
                 }
                 if (colonyCap.getOwningColony() != 0)
                 {
@@ -266,7 +267,7 @@ public final class ChunkDataHelper
                 areAllChunksAdded = false;
 
                 @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), dimension.location(), center);
-                chunkManager.addChunkStorage(i, j, newStorage);
+                addChunkStorage(chunkManager, i, j, newStorage);
             }
         }
 
@@ -329,11 +330,26 @@ public final class ChunkDataHelper
 
                 final boolean owning = i >= chunkX - range && j >= chunkZ - range && i <= chunkX + range && j <= chunkZ + range;
                 @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), add, dimension.location(), owning);
-                chunkManager.addChunkStorage(i, j, newStorage);
+                addChunkStorage(chunkManager, i, j, newStorage);
             }
         }
     }
 
+    /**
+     * Queue a chunk storage for a chunk which is not loaded, the claim index gets the owner the chunk will have once it is applied.
+     *
+     * @param chunkManager the chunk manager capability.
+     * @param chunkX       the chunk x.
+     * @param chunkZ       the chunk z.
+     * @param storage      the storage.
+     */
+    private static void addChunkStorage(final IChunkmanagerCapability chunkManager, final int chunkX, final int chunkZ, final ChunkLoadStorage storage)
+    {
+        final ColonyClaimIndex claimIndex = chunkManager.getClaimIndex();
+        claimIndex.setOwner(chunkX, chunkZ, storage.applyToOwner(claimIndex.getOwner(chunkX, chunkZ)));
+        chunkManager.addChunkStorage(chunkX, chunkZ, storage);
+    }
+
     /**
      * This is a utility methods to detect chunks which are claimed in a certain range.
      *
@@ -400,6 +416,7 @@ public final class ChunkDataHelper
 
         if (cap.getOwningColony() == id && add)
         {
+            chunkManager.getClaimIndex().setOwner(chunk.getPos().x, chunk.getPos().z, id);
             return true;
         }
 
@@ -418,7 +435,8 @@ public final class ChunkDataHelper
             cap.removeColony(id, chunk);
         }
 
-        Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+        chunkManager.getClaimIndex().setOwner(chunk.getPos().x, chunk.getPos().z, cap.getOwningColony());
+        ChunkClaimJournal.record(world, chunk, cap);
         return true;
     }
 
@@ -471,7 +489,8 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(id, buildingPos, chunk);
         }
 
-        Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
+        chunkManager.getClaimIndex().setOwner(chunk.getPos().x, chunk.getPos().z, cap.getOwningColony());
+        ChunkClaimJournal.record(world, chunk, cap);
         return true;
     }
 }
@@ -0,0 +1,259 @@
+package com.minecolonies.coremod.util;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.ldtteam.structurize.management.Structures;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Content addressed manifest of the schematic md5s. The schematic names are spread over a fixed amount of buckets, every bucket has a hash of its names and md5s, and the
+ * root hash covers all bucket hashes. Server and client compare the root first and then only exchange the buckets whose hashes differ.
+ */
+public final class SchematicManifest
+{
+    /**
+     * The amount of buckets.
+     */
+    public static final int BUCKETS = 256;
+
+    /**
+     * Nbt tags of the persisted manifest.
+     */
+    private static final String TAG_SCHEMATICS = "schematics";
+    private static final String TAG_NAME       = "name";
+    private static final String TAG_MD5        = "md5";
+
+    /**
+     * The manifest of the server schematics, rebuilt when they change.
+     */
+    private static SchematicManifest serverManifest = null;
+
+    /**
+     * The md5 map the server manifest was built from, with its size and hash when it was built.
+     */
+    private static Map<String, String> serverMD5s     = null;
+    private static int                 serverMD5sSize = 0;
+    private static int                 serverMD5sHash = 0;
+
+    /**
+     * The md5s of every bucket, sorted by name.
+     */
+    private final List<SortedMap<String, String>> buckets = new ArrayList<>(BUCKETS);
+
+    /**
+     * The hash of every bucket.
+     */
+    private final long[] bucketHashes = new long[BUCKETS];
+
+    /**
+     * The root hash.
+     */
+    private final long root;
+
+    /**
+     * Create the manifest of a md5 map.
+     *
+     * @param md5s the md5 by schematic name.
+     */
+    public SchematicManifest(@NotNull final Map<String, String> md5s)
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            buckets.add(new TreeMap<>());
+        }
+
+        for (final Map.Entry<String, String> entry : md5s.entrySet())
+        {
+            if (entry.getKey() != null && entry.getValue() != null)
+            {
+                buckets.get(getBucket(entry.getKey())).put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        final Hasher rootHasher = Hashing.murmur3_128().newHasher();
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            final Hasher hasher = Hashing.murmur3_128().newHasher();
+            for (final Map.Entry<String, String> entry : buckets.get(i).entrySet())
+            {
+                hasher.putInt(entry.getKey().length()).putString(entry.getKey(), StandardCharsets.UTF_8);
+                hasher.putInt(entry.getValue().length()).putString(entry.getValue(), StandardCharsets.UTF_8);
+            }
+            bucketHashes[i] = hasher.hash().asLong();
+            rootHasher.putLong(bucketHashes[i]);
+        }
+        root = rootHasher.hash().asLong();
+    }
+
+    /**
+     * Get the bucket of a schematic name, the same on every side.
+     *
+     * @param name the schematic name.
+     * @return the bucket index.
+     */
+    public static int getBucket(@NotNull final String name)
+    {
+        return Math.floorMod(name.hashCode(), BUCKETS);
+    }
+
+    /**
+     * Get the manifest of the schematics of this server.
+     *
+     * @return the manifest.
+     */
+    @NotNull
+    public static synchronized SchematicManifest getServerManifest()
+    {
+        final Map<String, String> md5s = Structures.getMD5s();
+        if (serverManifest == null || md5s != serverMD5s || md5s.size() != serverMD5sSize || md5s.hashCode() != serverMD5sHash)
+        {
+            serverManifest = new SchematicManifest(md5s);
+            serverMD5s = md5s;
+            serverMD5sSize = md5s.size();
+            serverMD5sHash = md5s.hashCode();
+        }
+        return serverManifest;
+    }
+
+    /**
+     * Get the root hash.
+     *
+     * @return the hash.
+     */
+    public long getRoot()
+    {
+        return root;
+    }
+
+    /**
+     * Get the hashes of all buckets.
+     *
+     * @return the hashes, must not be changed.
+     */
+    public long[] getBucketHashes()
+    {
+        return bucketHashes;
+    }
+
+    /**
+     * Get the md5s of a bucket.
+     *
+     * @param bucket the bucket index.
+     * @return the md5 by schematic name.
+     */
+    @NotNull
+    public Map<String, String> getBucketMD5s(final int bucket)
+    {
+        return Collections.unmodifiableMap(buckets.get(bucket));
+    }
+
+    /**
+     * Get the md5s of the buckets which differ from the given bucket hashes.
+     *
+     * @param otherHashes the bucket hashes of the other side, empty if it has no manifest.
+     * @return the md5s of the differing buckets, by bucket index.
+     */
+    @NotNull
+    public Map<Integer, Map<String, String>> getDifferingBuckets(@NotNull final long[] otherHashes)
+    {
+        final Map<Integer, Map<String, String>> differing = new HashMap<>();
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            if (otherHashes.length != BUCKETS || otherHashes[i] != bucketHashes[i])
+            {
+                differing.put(i, getBucketMD5s(i));
+            }
+        }
+        return differing;
+    }
+
+    /**
+     * Create a new manifest with some buckets replaced.
+     *
+     * @param replaced the new md5s of the replaced buckets, by bucket index.
+     * @return the new manifest.
+     */
+    @NotNull
+    public SchematicManifest withBuckets(@NotNull final Map<Integer, Map<String, String>> replaced)
+    {
+        final Map<String, String> md5s = new HashMap<>();
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            md5s.putAll(replaced.getOrDefault(i, buckets.get(i)));
+        }
+        return new SchematicManifest(md5s);
+    }
+
+    /**
+     * Get all md5s of the manifest.
+     *
+     * @return a new map of the md5 by schematic name.
+     */
+    @NotNull
+    public Map<String, String> getMD5s()
+    {
+        final Map<String, String> md5s = new HashMap<>();
+        for (final SortedMap<String, String> bucket : buckets)
+        {
+            md5s.putAll(bucket);
+        }
+        return md5s;
+    }
+
+    /**
+     * Save the manifest to a file.
+     *
+     * @param file the file.
+     */
+    public void save(@NotNull final File file)
+    {
+        final ListNBT list = new ListNBT();
+        for (final SortedMap<String, String> bucket : buckets)
+        {
+            for (final Map.Entry<String, String> entry : bucket.entrySet())
+            {
+                final CompoundNBT entryCompound = new CompoundNBT();
+                entryCompound.putString(TAG_NAME, entry.getKey());
+                entryCompound.putString(TAG_MD5, entry.getValue());
+                list.add(entryCompound);
+            }
+        }
+
+        final CompoundNBT compound = new CompoundNBT();
+        compound.put(TAG_SCHEMATICS, list);
+        BackUpHelper.saveNBTToPath(file, compound);
+    }
+
+    /**
+     * Load a manifest from a file.
+     *
+     * @param file the file.
+     * @return the manifest or null if there is none.
+     */
+    @Nullable
+    public static SchematicManifest load(@NotNull final File file)
+    {
+        final CompoundNBT compound = BackUpHelper.loadNBTFromPath(file);
+        if (compound == null)
+        {
+            return null;
+        }
+
+        final Map<String, String> md5s = new HashMap<>();
+        final ListNBT list = compound.getList(TAG_SCHEMATICS, Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++)
+        {
+            final CompoundNBT entryCompound = list.getCompound(i);
+            md5s.put(entryCompound.getString(TAG_NAME), entryCompound.getString(TAG_MD5));
+        }
+        return new SchematicManifest(md5s);
+    }
+}